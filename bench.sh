@@ -0,0 +1,2 @@
+javac -encoding UTF-8 -d benchclasses -cp src:bench bench/game/bench/*.java
+java -cp benchclasses game.bench.BenchmarkRunner "$@"
\ No newline at end of file
@@ -0,0 +1,132 @@
+package game.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Minimal micro-benchmark harness for the core rule hot paths. Each benchmark
+ * is warmed up, then measured over several fixed-length iterations, reporting
+ * the average time per operation and the bytes allocated per operation (the
+ * equivalent of JMH's gc.alloc.rate.norm).
+ *
+ * Usage: java -cp benchclasses game.bench.BenchmarkRunner [name filter]
+ *
+ * Iteration counts and lengths can be tuned with the system properties
+ * bench.warmup, bench.iterations and bench.millis.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * A single benchmarked operation. The returned value is consumed so the
+     * JIT cannot eliminate the work.
+     */
+    public interface Operation {
+        long run();
+    }
+
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("bench.warmup", 3);
+    private static final int MEASURED_ITERATIONS = Integer.getInteger("bench.iterations", 5);
+    private static final int ITERATION_MILLIS = Integer.getInteger("bench.millis", 300);
+
+    private static volatile long sink;
+
+    private final Map<String, Supplier<Operation>> benchmarks = new LinkedHashMap<>();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        ParadeBenchmarks.register(runner);
+        PlayerBenchmarks.register(runner);
+        ManagerBenchmarks.register(runner);
+        StrategyBenchmarks.register(runner);
+        GameBenchmarks.register(runner);
+        runner.run(args.length > 0 ? args[0] : "");
+    }
+
+    // ============================ Registration ============================
+    /**
+     * Registers a benchmark. The fixture is only built if the benchmark runs.
+     *
+     * @param name    The benchmark name, including its parameters.
+     * @param fixture Builds the operation and the state it works on.
+     */
+    public void register(String name, Supplier<Operation> fixture) {
+        benchmarks.put(name, fixture);
+    }
+
+    // ============================ Measurement ============================
+    /**
+     * Runs every registered benchmark whose name contains the filter.
+     *
+     * @param filter The substring benchmark names must contain.
+     */
+    public void run(String filter) {
+        threads.setThreadAllocatedMemoryEnabled(true);
+        System.out.printf("%-48s %14s %14s %16s%n", "Benchmark", "ns/op", "ops/s", "B/op (alloc)");
+        for (Map.Entry<String, Supplier<Operation>> entry : benchmarks.entrySet()) {
+            if (entry.getKey().contains(filter)) {
+                measure(entry.getKey(), entry.getValue().get());
+            }
+        }
+    }
+
+    private void measure(String name, Operation operation) {
+        int batch = calibrate(operation);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            iterate(operation, batch);
+        }
+
+        double[] nanosPerOp = new double[MEASURED_ITERATIONS];
+        long totalOps = 0;
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            long ops = iterate(operation, batch);
+            nanosPerOp[i] = (double) (System.nanoTime() - start) / ops;
+            totalOps += ops;
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        double mean = Arrays.stream(nanosPerOp).average().orElse(0);
+        double error = Math.sqrt(Arrays.stream(nanosPerOp).map(x -> (x - mean) * (x - mean)).sum()
+                / Math.max(nanosPerOp.length - 1, 1));
+        System.out.printf("%-48s %8.1f ± %-4.1f %14.0f %16.1f%n",
+                name, mean, error, 1e9 / mean, (double) allocated / totalOps);
+    }
+
+    /**
+     * Finds a batch size that takes roughly a millisecond, so the clock is
+     * read rarely compared to the operation itself.
+     */
+    private int calibrate(Operation operation) {
+        int batch = 1;
+        while (batch < (1 << 24)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < batch; i++) {
+                sink += operation.run();
+            }
+            if (System.nanoTime() - start > 1_000_000) {
+                break;
+            }
+            batch <<= 1;
+        }
+        return batch;
+    }
+
+    private long iterate(Operation operation, int batch) {
+        long deadline = System.nanoTime() + ITERATION_MILLIS * 1_000_000L;
+        long ops = 0;
+        long result = 0;
+        do {
+            for (int i = 0; i < batch; i++) {
+                result += operation.run();
+            }
+            ops += batch;
+        } while (System.nanoTime() < deadline);
+        sink += result;
+        return ops;
+    }
+}
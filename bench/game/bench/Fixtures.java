@@ -0,0 +1,85 @@
+package game.bench;
+
+import game.core.*;
+import java.util.*;
+
+/**
+ * Builds reproducible game states for the benchmarks from seeded decks.
+ */
+public class Fixtures {
+
+    /**
+     * Number of different states each benchmark cycles through, so branch
+     * predictors cannot learn a single position.
+     */
+    public static final int STATES = 64;
+
+    public static final int[] PARADE_LENGTHS = {6, 10, 16, 24};
+    public static final int[] PLAYER_COUNTS = {2, 3, 4, 5, 6};
+
+    /**
+     * Deck handed to benchmark parades, which never draw from it.
+     */
+    private static final Deck UNUSED_DECK = new Deck();
+
+    public static Deck shuffledDeck(long seed) {
+        Deck deck = new Deck(new SplittableRandom(seed));
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Returns the cards of a parade of the given length. The last card is the
+     * card that was just played.
+     */
+    public static List<Card> paradeCards(long seed, int length) {
+        return drawCards(shuffledDeck(seed), length);
+    }
+
+    /**
+     * Draws the given number of cards from the top of the deck.
+     */
+    public static List<Card> drawCards(Deck deck, int count) {
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(deck.removeCardFromDeck());
+        }
+        return cards;
+    }
+
+    public static Parade parade(List<Card> cards) {
+        Parade parade = new Parade(UNUSED_DECK);
+        for (Card card : cards) {
+            parade.addCard(card);
+        }
+        return parade;
+    }
+
+    /**
+     * Creates computer players whose open cards were dealt from a seeded deck,
+     * with their scores already calculated.
+     */
+    public static List<Player> playersWithOpenCards(long seed, int playerCount, int openCardsPerPlayer) {
+        Deck deck = shuffledDeck(seed);
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Map<Color, List<Card>> openCards = new HashMap<>();
+            for (int j = 0; j < openCardsPerPlayer; j++) {
+                Card card = deck.removeCardFromDeck();
+                openCards.computeIfAbsent(card.getColor(), key -> new ArrayList<>()).add(card);
+            }
+            Player player = new Computer("Bot " + (i + 1));
+            player.setOpenCards(openCards);
+            player.calculateScore();
+            players.add(player);
+        }
+        return players;
+    }
+
+    /**
+     * Number of open cards each player holds near the end of a game.
+     */
+    public static int openCardsAtEnd(int playerCount) {
+        return 36 / playerCount + 2;
+    }
+}
@@ -0,0 +1,34 @@
+package game.bench;
+
+import game.ai.*;
+import game.core.*;
+import game.gameplay.GameManager;
+import game.setup.GameSeed;
+import game.simulation.HeadlessGame;
+import java.util.*;
+
+/**
+ * Macro benchmark playing whole bots-only games through the headless engine.
+ * The ops/s column is the number of games per second on one thread.
+ */
+public class GameBenchmarks {
+
+    public static void register(BenchmarkRunner runner) {
+        for (int players : Fixtures.PLAYER_COUNTS) {
+            runner.register("HeadlessGame.play players=" + players, () -> play(players, RandomStrategy::new));
+            runner.register("HeadlessGame.play greedy players=" + players, () -> play(players, GreedyStrategy::new));
+        }
+    }
+
+    private static BenchmarkRunner.Operation play(int playerCount, StrategyFactory strategies) {
+        long[] gameIndex = {0};
+        return () -> {
+            GameSeed seed = GameSeed.forGame(playerCount, gameIndex[0]++);
+            List<Player> players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                players.add(new Computer("Bot " + (i + 1), strategies.create(seed.getPlayerRandom(i))));
+            }
+            return new HeadlessGame(new GameManager(players, seed, false)).play().getTurns();
+        };
+    }
+}
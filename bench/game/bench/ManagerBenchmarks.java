@@ -0,0 +1,83 @@
+package game.bench;
+
+import game.core.*;
+import game.gameplay.PlayerComparator;
+import game.gameplay.managers.*;
+import java.util.*;
+
+/**
+ * Benchmarks for the end of game managers with 2 to 6 players: CardFlipper,
+ * EndGameChecker, WinnerDeterminer and PlayerComparator.
+ */
+public class ManagerBenchmarks {
+
+    public static void register(BenchmarkRunner runner) {
+        for (int players : Fixtures.PLAYER_COUNTS) {
+            runner.register("CardFlipper.flipCards players=" + players, () -> flipCards(players));
+            runner.register("EndGameChecker.checkEndGame players=" + players, () -> checkEndGame(players));
+            runner.register("WinnerDeterminer.determineWinner players=" + players, () -> determineWinner(players));
+            runner.register("PlayerComparator.compare players=" + players, () -> compare(players));
+        }
+    }
+
+    private static List<List<Player>> tables(int playerCount) {
+        List<List<Player>> tables = new ArrayList<>();
+        for (int i = 0; i < Fixtures.STATES; i++) {
+            tables.add(Fixtures.playersWithOpenCards(i, playerCount, Fixtures.openCardsAtEnd(playerCount)));
+        }
+        return tables;
+    }
+
+    private static BenchmarkRunner.Operation flipCards(int playerCount) {
+        List<CardFlipper> flippers = new ArrayList<>();
+        for (List<Player> players : tables(playerCount)) {
+            flippers.add(new CardFlipper(players, false));
+        }
+        int[] index = {0};
+        return () -> flippers.get(index[0]++ & (Fixtures.STATES - 1)).flipCards().size();
+    }
+
+    private static BenchmarkRunner.Operation checkEndGame(int playerCount) {
+        List<EndGameChecker> checkers = new ArrayList<>();
+        for (List<Player> players : tables(playerCount)) {
+            checkers.add(new EndGameChecker(players, Fixtures.shuffledDeck(0), false));
+        }
+        int[] index = {0};
+        return () -> checkers.get(index[0]++ & (Fixtures.STATES - 1)).checkEndGame() ? 1 : 0;
+    }
+
+    private static BenchmarkRunner.Operation determineWinner(int playerCount) {
+        List<List<Player>> originals = tables(playerCount);
+        List<List<Player>> tables = new ArrayList<>();
+        List<WinnerDeterminer> determiners = new ArrayList<>();
+        for (List<Player> original : originals) {
+            List<Player> players = new ArrayList<>(original);
+            tables.add(players);
+            determiners.add(new WinnerDeterminer(players, false));
+        }
+        int[] index = {0};
+        return () -> {
+            int i = index[0]++ & (Fixtures.STATES - 1);
+            List<Player> players = tables.get(i);
+            players.clear();
+            players.addAll(originals.get(i));
+            return determiners.get(i).determineWinner().getScore();
+        };
+    }
+
+    private static BenchmarkRunner.Operation compare(int playerCount) {
+        List<List<Player>> tables = tables(playerCount);
+        PlayerComparator comparator = new PlayerComparator();
+        int[] index = {0};
+        return () -> {
+            List<Player> players = tables.get(index[0]++ & (Fixtures.STATES - 1));
+            long result = 0;
+            for (Player p1 : players) {
+                for (Player p2 : players) {
+                    result += comparator.compare(p1, p2);
+                }
+            }
+            return result;
+        };
+    }
+}
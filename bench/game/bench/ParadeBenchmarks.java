@@ -0,0 +1,102 @@
+package game.bench;
+
+import game.core.*;
+import java.util.*;
+
+/**
+ * Benchmarks for Parade.getEligibleCards and Parade.removeCards over
+ * realistic parade lengths, and for the allocation-free mask based
+ * equivalents used by the simulation.
+ */
+public class ParadeBenchmarks {
+
+    public static void register(BenchmarkRunner runner) {
+        for (int length : Fixtures.PARADE_LENGTHS) {
+            runner.register("Parade.getEligibleCards len=" + length, () -> eligibleCards(length));
+            runner.register("Parade.reset (baseline) len=" + length, () -> reset(length));
+            runner.register("Parade.removeCards len=" + length, () -> removeCards(length));
+            runner.register("Parade.getRemovalMask len=" + length, () -> removalMask(length));
+            runner.register("Parade.copyFrom (baseline) len=" + length, () -> copyFrom(length));
+            runner.register("Parade.removeMask len=" + length, () -> removeMask(length));
+        }
+    }
+
+    private static Parade[] parades(int length) {
+        Parade[] parades = new Parade[Fixtures.STATES];
+        for (int i = 0; i < parades.length; i++) {
+            parades[i] = Fixtures.parade(Fixtures.paradeCards(i, length));
+        }
+        return parades;
+    }
+
+    private static BenchmarkRunner.Operation removalMask(int length) {
+        Parade[] parades = parades(length);
+        int[] index = {0};
+        return () -> parades[index[0]++ & (Fixtures.STATES - 1)].getRemovalMask();
+    }
+
+    /**
+     * Restores a working parade from a snapshot. Subtract this from
+     * removeMask to get the cost of the removal alone.
+     */
+    private static BenchmarkRunner.Operation copyFrom(int length) {
+        Parade[] parades = parades(length);
+        Parade working = Fixtures.parade(List.of());
+        int[] index = {0};
+        return () -> {
+            working.copyFrom(parades[index[0]++ & (Fixtures.STATES - 1)]);
+            return working.size();
+        };
+    }
+
+    private static BenchmarkRunner.Operation removeMask(int length) {
+        Parade[] parades = parades(length);
+        Parade working = Fixtures.parade(List.of());
+        int[] index = {0};
+        return () -> {
+            working.copyFrom(parades[index[0]++ & (Fixtures.STATES - 1)]);
+            working.removeMask(working.getRemovalMask());
+            return working.size();
+        };
+    }
+
+    private static BenchmarkRunner.Operation eligibleCards(int length) {
+        Parade[] parades = parades(length);
+        int[] index = {0};
+        return () -> {
+            Parade parade = parades[index[0]++ & (Fixtures.STATES - 1)];
+            return parade.getEligibleCards(parade.getLastPlayedCard()).size();
+        };
+    }
+
+    /**
+     * Rebuilds a parade from its cards. Subtract this from removeCards to get
+     * the cost of the removal alone.
+     */
+    private static BenchmarkRunner.Operation reset(int length) {
+        List<List<Card>> states = new ArrayList<>();
+        for (int i = 0; i < Fixtures.STATES; i++) {
+            states.add(Fixtures.paradeCards(i, length));
+        }
+        int[] index = {0};
+        return () -> Fixtures.parade(states.get(index[0]++ & (Fixtures.STATES - 1))).getCards().size();
+    }
+
+    private static BenchmarkRunner.Operation removeCards(int length) {
+        List<List<Card>> states = new ArrayList<>();
+        List<List<Card>> removals = new ArrayList<>();
+        for (int i = 0; i < Fixtures.STATES; i++) {
+            List<Card> cards = Fixtures.paradeCards(i, length);
+            Parade parade = Fixtures.parade(cards);
+            states.add(cards);
+            removals.add(parade.getEligibleCards(parade.getLastPlayedCard()));
+        }
+        int[] index = {0};
+        return () -> {
+            int i = index[0]++ & (Fixtures.STATES - 1);
+            Parade parade = Fixtures.parade(states.get(i));
+            parade.removeCards(removals.get(i));
+            return parade.getCards().size();
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package game.bench;
+
+import game.core.*;
+import java.util.*;
+
+/**
+ * Benchmarks for Player.drawCardsFromParade and Player.calculateScore.
+ */
+public class PlayerBenchmarks {
+
+    private static final int[] OPEN_CARD_COUNTS = {5, 15, 30};
+
+    public static void register(BenchmarkRunner runner) {
+        for (int length : Fixtures.PARADE_LENGTHS) {
+            runner.register("Player.drawCardsFromParade len=" + length, () -> drawCardsFromParade(length));
+            runner.register("Player.takeCardsFromParade len=" + length, () -> takeCardsFromParade(length));
+        }
+        for (int openCards : OPEN_CARD_COUNTS) {
+            runner.register("Player.calculateScore open=" + openCards, () -> calculateScore(openCards));
+        }
+    }
+
+    /**
+     * Includes rebuilding the parade and creating the player, see the
+     * Parade.reset baseline.
+     */
+    private static BenchmarkRunner.Operation drawCardsFromParade(int length) {
+        List<List<Card>> states = new ArrayList<>();
+        for (int i = 0; i < Fixtures.STATES; i++) {
+            states.add(Fixtures.paradeCards(i, length));
+        }
+        int[] index = {0};
+        return () -> {
+            Parade parade = Fixtures.parade(states.get(index[0]++ & (Fixtures.STATES - 1)));
+            Player player = new Computer("Bot");
+            return player.drawCardsFromParade(parade).size();
+        };
+    }
+
+    /**
+     * Includes restoring the parade and creating the player, see the
+     * Parade.copyFrom baseline.
+     */
+    private static BenchmarkRunner.Operation takeCardsFromParade(int length) {
+        Parade[] parades = new Parade[Fixtures.STATES];
+        for (int i = 0; i < parades.length; i++) {
+            parades[i] = Fixtures.parade(Fixtures.paradeCards(i, length));
+        }
+        Parade working = Fixtures.parade(List.of());
+        int[] index = {0};
+        return () -> {
+            working.copyFrom(parades[index[0]++ & (Fixtures.STATES - 1)]);
+            Player player = new Computer("Bot");
+            return player.takeCardsFromParade(working);
+        };
+    }
+
+    private static BenchmarkRunner.Operation calculateScore(int openCards) {
+        Player[] players = new Player[Fixtures.STATES];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = Fixtures.playersWithOpenCards(i, 1, openCards).get(0);
+        }
+        int[] index = {0};
+        return () -> {
+            Player player = players[index[0]++ & (Fixtures.STATES - 1)];
+            player.calculateScore();
+            return player.getScore();
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package game.bench;
+
+import game.ai.*;
+import game.core.*;
+import java.util.*;
+
+/**
+ * Benchmarks for a single strategy decision in the middle of a game: each
+ * player holds a full hand and some open cards, and the parade holds ten
+ * cards.
+ */
+public class StrategyBenchmarks {
+
+    private static final int PARADE_LENGTH = 10;
+
+    /**
+     * Fixed iteration budget for the MCTS benchmarks, so their time per
+     * operation divided by this gives the time per iteration.
+     */
+    private static final int MCTS_ITERATIONS = 500;
+
+    public static void register(BenchmarkRunner runner) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int players : Fixtures.PLAYER_COUNTS) {
+            runner.register("GreedyStrategy.chooseCardToPlay players=" + players,
+                    () -> chooseCardToPlay(players, new GreedyStrategy(new SplittableRandom(players))));
+            runner.register("RandomStrategy.chooseCardToPlay players=" + players,
+                    () -> chooseCardToPlay(players, new RandomStrategy(new SplittableRandom(players))));
+            runner.register("MctsStrategy.chooseCardToPlay iterations=" + MCTS_ITERATIONS + " players=" + players,
+                    () -> chooseCardToPlay(players, new MctsStrategy(new SplittableRandom(players), 0, MCTS_ITERATIONS)));
+            runner.register("IsmctsStrategy.chooseCardToPlay iterations=" + MCTS_ITERATIONS + " players=" + players,
+                    () -> chooseCardToPlay(players, new IsmctsStrategy(new SplittableRandom(players), 0, MCTS_ITERATIONS)));
+            if (cores > 1) {
+                // Same total iterations spread over every core, to show how the shared tree scales
+                runner.register("MctsStrategy.chooseCardToPlay iterations=" + MCTS_ITERATIONS + " threads=" + cores
+                                + " players=" + players,
+                        () -> chooseCardToPlay(players,
+                                new MctsStrategy(new SplittableRandom(players), 0, MCTS_ITERATIONS, cores)));
+            }
+        }
+    }
+
+    private static BenchmarkRunner.Operation chooseCardToPlay(int playerCount, Strategy strategy) {
+        List<List<Player>> tables = new ArrayList<>(Fixtures.STATES);
+        Parade[] parades = new Parade[Fixtures.STATES];
+        for (int i = 0; i < Fixtures.STATES; i++) {
+            Deck deck = Fixtures.shuffledDeck(i);
+            tables.add(midGamePlayers(deck, playerCount));
+            parades[i] = Fixtures.parade(Fixtures.drawCards(deck, PARADE_LENGTH));
+        }
+        int[] index = {0};
+        return () -> {
+            int i = index[0]++ & (Fixtures.STATES - 1);
+            List<Player> players = tables.get(i);
+            return strategy.chooseCardToPlay(players.get(0), parades[i], players);
+        };
+    }
+
+    /**
+     * Deals each player a hand and half the open cards they hold at the end
+     * of a game.
+     */
+    private static List<Player> midGamePlayers(Deck deck, int playerCount) {
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Map<Color, List<Card>> openCards = new EnumMap<>(Color.class);
+            for (Card card : Fixtures.drawCards(deck, Fixtures.openCardsAtEnd(playerCount) / 2)) {
+                openCards.computeIfAbsent(card.getColor(), key -> new ArrayList<>()).add(card);
+            }
+            Player player = new Computer("Bot " + (i + 1));
+            player.setOpenCards(openCards);
+            player.initializeClosedCards(deck);
+            players.add(player);
+        }
+        return players;
+    }
+}
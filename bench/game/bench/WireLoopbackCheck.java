@@ -0,0 +1,292 @@
+package game.bench;
+
+import game.ai.StrategyFactory;
+import game.net.*;
+import game.utils.Constants;
+import java.io.*;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Plays games against a WireServer over the loopback interface and checks
+ * what the clients are sent: a whole game with a rejected move and a
+ * resync after a missed change, a player leaving, and clients that stop
+ * reading until their queue is conflated.
+ *
+ * Usage: java -cp benchclasses game.bench.WireLoopbackCheck
+ *
+ * Prints one line per check and exits with status 1 if one fails.
+ */
+public class WireLoopbackCheck {
+
+    /**
+     * Bytes a client that stops reading sends as RESYNC requests, so that
+     * the snapshots sent back fill the socket buffers and the queue.
+     */
+    private static final int FLOOD_BYTES = 200_000;
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) throws Exception {
+        boolean passed = true;
+        passed &= check("full game, rejected move, resync", WireLoopbackCheck::fullGame);
+        passed &= check("player leaving", WireLoopbackCheck::playerLeaving);
+        passed &= check("lagging client sees GAME_OVER", WireLoopbackCheck::laggingClientSeesGameOver);
+        passed &= check("lagging client sees ABORTED", WireLoopbackCheck::laggingClientSeesAborted);
+        System.exit(passed ? 0 : 1);
+    }
+
+    // ============================ Checks ============================
+    /**
+     * Two clients play a whole game against a computer player. The first
+     * sends a move for a card it does not have, which must be rejected, and
+     * the second drops a change, which it must notice and resync from.
+     */
+    private static void fullGame() throws Exception {
+        try (Server server = new Server(3, 2, WireServer.DEFAULT_MAX_PENDING_BYTES)) {
+            ExecutorService clients = Executors.newFixedThreadPool(2);
+            try {
+                Future<TableView> first = clients.submit(() -> play(server.port, true, false));
+                Future<TableView> second = clients.submit(() -> play(server.port, false, true));
+                TableView a = first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                TableView b = second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                expect(a.getWinner() >= 0 && a.getWinner() == b.getWinner(), "both players see the same winner");
+                for (int seat = 0; seat < a.getPlayerCount(); seat++) {
+                    expect(a.getScore(seat) == b.getScore(seat), "both players see the same scores");
+                }
+            } finally {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * One of two players leaves after the first turn is dealt; the other
+     * must be sent ABORTED and disconnected.
+     */
+    private static void playerLeaving() throws Exception {
+        try (Server server = new Server(2, 2, WireServer.DEFAULT_MAX_PENDING_BYTES);
+                WireClient staying = new WireClient("localhost", server.port)) {
+            try (WireClient leaving = new WireClient("localhost", server.port)) {
+                expect(leaving.readFrame().getType() == WireFormat.SEATED, "the leaving player is seated");
+            }
+            List<Byte> types = readUntilClosed(staying);
+            expect(types.get(types.size() - 1) == WireFormat.ABORTED, "the last frame is ABORTED");
+        }
+    }
+
+    /**
+     * A client floods the server with RESYNC requests without reading, then
+     * plays blind until the game is over. Its queue is conflated over and
+     * over, yet the last frame it reads must be GAME_OVER.
+     */
+    private static void laggingClientSeesGameOver() throws Exception {
+        try (Server server = new Server(2, 1, 1);
+                SocketChannel lagging = connectWithSmallBuffer(server.port)) {
+            flood(lagging);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+            ByteBuffer move = ByteBuffer.allocate(1);
+            while (System.nanoTime() < deadline) {
+                move.clear();
+                move.put((byte) 0).flip();
+                lagging.write(move); // Played on the client's turn, rejected otherwise
+                Thread.sleep(1);
+            }
+            List<Byte> types = readUntilClosed(lagging);
+            expect(types.contains(WireFormat.SNAPSHOT), "the changes were conflated into a snapshot");
+            expect(types.get(types.size() - 1) == WireFormat.GAME_OVER, "the last frame is GAME_OVER");
+        }
+    }
+
+    /**
+     * A client floods the server with RESYNC requests without reading while
+     * the other player leaves. The last frame it reads must be ABORTED.
+     */
+    private static void laggingClientSeesAborted() throws Exception {
+        try (Server server = new Server(2, 2, 1);
+                SocketChannel lagging = connectWithSmallBuffer(server.port)) {
+            try (WireClient leaving = new WireClient("localhost", server.port)) {
+                expect(leaving.readFrame().getType() == WireFormat.SEATED, "the leaving player is seated");
+                flood(lagging);
+                Thread.sleep(2000); // Closing with requests unread would reset the connection
+            }
+            List<Byte> types = readUntilClosed(lagging);
+            expect(types.get(types.size() - 1) == WireFormat.ABORTED, "the last frame is ABORTED");
+        }
+    }
+
+    // ============================ Clients ============================
+    /**
+     * Plays a whole game, choosing a random card on each turn and checking
+     * that the view accounts for every card.
+     *
+     * @param port       The server's port.
+     * @param sendBadMove Whether to first try a card the player does not
+     *                   have, which must be rejected.
+     * @param dropChange Whether to ignore one change, which must be noticed
+     *                   and resynced from.
+     * @return The view of the finished game.
+     */
+    private static TableView play(int port, boolean sendBadMove, boolean dropChange) throws IOException {
+        TableView view = new TableView();
+        boolean expectRejection = sendBadMove;
+        boolean rejected = false;
+        boolean expectResync = dropChange;
+        boolean resynced = false;
+        int lastTurn = -1;
+        try (WireClient client = new WireClient("localhost", port)) {
+            while (true) {
+                WireClient.Frame frame = client.readFrame();
+                byte type = frame.getType();
+                if (type == WireFormat.ABORTED) {
+                    throw new IllegalStateException("The game was aborted.");
+                }
+                if (type == WireFormat.REJECTED) {
+                    expect((frame.getPayload().get(0) & 0xFF) == Constants.INITIAL_HAND_SIZE,
+                            "the rejected move is the one sent");
+                    rejected = true;
+                    continue;
+                }
+                if (dropChange && type == WireFormat.PLAYED) {
+                    dropChange = false;
+                    continue;
+                }
+                if (!view.apply(frame)) {
+                    client.requestResync();
+                    resynced = true;
+                    continue;
+                }
+                if (type == WireFormat.GAME_OVER) {
+                    break;
+                }
+                if (view.isOwnTurn() && view.getTurnSequence() != lastTurn) {
+                    lastTurn = view.getTurnSequence();
+                    expect(countCards(view) == Constants.TOTAL_CARDS, "every card is accounted for");
+                    if (sendBadMove) {
+                        sendBadMove = false;
+                        client.sendMove(Constants.INITIAL_HAND_SIZE);
+                    }
+                    client.sendMove(ThreadLocalRandom.current().nextInt(view.getHand().length));
+                }
+            }
+        }
+        expect(rejected == expectRejection, "the move for a missing card is rejected");
+        expect(resynced == expectResync, "the missed change is noticed");
+        return view;
+    }
+
+    private static int countCards(TableView view) {
+        int total = view.getDeckSize() + view.getParade().length;
+        for (int seat = 0; seat < view.getPlayerCount(); seat++) {
+            total += view.getHandSize(seat) + view.getOpenCards(seat).length;
+        }
+        return total;
+    }
+
+    /**
+     * Connects with a small receive buffer, so that a client that does not
+     * read makes the server queue its frames sooner.
+     */
+    private static SocketChannel connectWithSmallBuffer(int port) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        channel.socket().setReceiveBufferSize(4096);
+        channel.connect(new InetSocketAddress("localhost", port));
+        return channel;
+    }
+
+    private static void flood(SocketChannel channel) throws IOException {
+        ByteBuffer requests = ByteBuffer.allocate(FLOOD_BYTES);
+        Arrays.fill(requests.array(), (byte) WireFormat.RESYNC);
+        while (requests.hasRemaining()) {
+            channel.write(requests);
+        }
+    }
+
+    private static List<Byte> readUntilClosed(WireClient client) throws IOException {
+        List<Byte> types = new ArrayList<>();
+        try {
+            while (true) {
+                types.add(client.readFrame().getType());
+            }
+        } catch (EOFException e) {
+            return types;
+        }
+    }
+
+    /**
+     * Reads the frames a connection was sent until the server closes it.
+     *
+     * @return The type of each frame, in order.
+     */
+    private static List<Byte> readUntilClosed(SocketChannel channel) throws IOException {
+        InputStream in = new BufferedInputStream(channel.socket().getInputStream());
+        List<Byte> types = new ArrayList<>();
+        byte[] header = new byte[WireFormat.HEADER_BYTES];
+        while (in.readNBytes(header, 0, header.length) == header.length) {
+            int length = ((header[1] & 0xFF) << 8) | (header[2] & 0xFF);
+            if (in.readNBytes(length).length != length) {
+                break;
+            }
+            types.add(header[0]);
+        }
+        return types;
+    }
+
+    // ============================ Helpers ============================
+    /**
+     * A WireServer of greedy computer players, served on its own thread.
+     */
+    private static class Server implements AutoCloseable {
+        private final WireServer server;
+        private final Thread loop;
+        private final int port;
+
+        Server(int playerCount, int remotePlayers, int maxPendingBytes) throws IOException {
+            server = new WireServer(0, playerCount, remotePlayers, StrategyFactory.byName("greedy"),
+                    WireServer.DEFAULT_MAX_CONNECTIONS, maxPendingBytes);
+            port = server.getPort();
+            loop = new Thread(() -> {
+                try {
+                    server.serve();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, "wire-server");
+            loop.start();
+        }
+
+        @Override
+        public void close() {
+            server.close();
+            try {
+                loop.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private interface Check {
+        void run() throws Exception;
+    }
+
+    private static boolean check(String name, Check check) {
+        try {
+            check.run();
+            System.out.println("PASS " + name);
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("FAIL " + name + ": " + e);
+            return false;
+        }
+    }
+
+    private static void expect(boolean condition, String what) {
+        if (!condition) {
+            throw new AssertionError("expected " + what);
+        }
+    }
+}
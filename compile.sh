@@ -1 +1,2 @@
-javac -d classes -cp src src/app/Main.java
+javac -d classes -cp src src/app/*.java
+java -cp classes app.Main
\ No newline at end of file
@@ -0,0 +1,138 @@
+package app;
+
+import game.ai.*;
+import game.core.*;
+import game.gameplay.GameManager;
+import game.renderer.AnalysisRenderer;
+import game.setup.GameSeed;
+import game.simulation.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Entry point for reviewing a bots-only game: one game is played from the
+ * seed, and every card the reviewed player plays into the parade is compared
+ * with a PositionAnalyzer rating of each card they could have played.
+ *
+ * Usage: java -cp classes app.Analyze [players] [threads] [--seed N] [--bots a,b,...] [--seat N] [--rollouts N] [--table FILE]
+ * --bots names the strategy of each player as in Simulate and overrides the
+ * player count; by default every player is greedy. --seat picks the player
+ * to review, counting from 1 in the order of --bots (default 1), and
+ * --rollouts caps the rollouts per card. The ratings of a position are the
+ * same on any number of threads.
+ */
+public class Analyze {
+
+    public static void main(String[] args) throws IOException {
+        long seed = GameSeed.randomSeed();
+        String[] bots = null;
+        int reviewedSeat = 0;
+        int rollouts = PositionAnalyzer.DEFAULT_MAX_ROLLOUTS;
+        EndgameTable table = null;
+        List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--seed") && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else if (args[i].equals("--bots") && i + 1 < args.length) {
+                bots = args[++i].split(",");
+            } else if (args[i].equals("--seat") && i + 1 < args.length) {
+                reviewedSeat = Integer.parseInt(args[++i]) - 1;
+            } else if (args[i].equals("--rollouts") && i + 1 < args.length) {
+                rollouts = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--table") && i + 1 < args.length) {
+                table = EndgameTable.open(Path.of(args[++i]), false);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+
+        int players = positional.size() > 0 ? Integer.parseInt(positional.get(0)) : 4;
+        int threads = positional.size() > 1 ? Integer.parseInt(positional.get(1)) : Runtime.getRuntime().availableProcessors();
+
+        List<StrategyFactory> strategies = new ArrayList<>();
+        if (bots != null) {
+            for (String bot : bots) {
+                strategies.add(StrategyFactory.byName(bot.trim(), table));
+            }
+        } else {
+            for (int i = 0; i < players; i++) {
+                strategies.add(GreedyStrategy::new);
+            }
+        }
+        if (reviewedSeat < 0 || reviewedSeat >= strategies.size()) {
+            System.err.println("--seat must be between 1 and " + strategies.size() + ".");
+            return;
+        }
+
+        try (PositionAnalyzer analyzer = new PositionAnalyzer(threads, rollouts, PositionAnalyzer.DEFAULT_CONFIDENCE_Z)) {
+            GameSeed gameSeed = new GameSeed(seed);
+            List<Player> seats = new ArrayList<>();
+            ReviewedStrategy reviewed = null;
+            for (int seat = 0; seat < strategies.size(); seat++) {
+                Strategy strategy = strategies.get(seat).create(gameSeed.getPlayerRandom(seat));
+                if (seat == reviewedSeat) {
+                    reviewed = new ReviewedStrategy(strategy, analyzer, seed);
+                    strategy = reviewed;
+                }
+                seats.add(new Computer("Bot " + (seat + 1), strategy));
+            }
+            Player player = seats.get(reviewedSeat);
+
+            AnalysisRenderer.showHeader(seed, player.getName() + " (" + reviewed.getName() + ")", rollouts, threads);
+            GameResult result = new HeadlessGame(new GameManager(seats, gameSeed, false)).play();
+            AnalysisRenderer.showSummary(reviewed.turns, reviewed.bestPlayed, reviewed.winLost, result,
+                    result.getSeats().indexOf(player));
+        }
+    }
+
+    /**
+     * Plays as the strategy it wraps, rating every card in the hand before
+     * each play and printing how the card played compares.
+     */
+    private static class ReviewedStrategy implements Strategy {
+        private final Strategy strategy;
+        private final PositionAnalyzer analyzer;
+        private final long seed;
+        private int turns;
+        private int bestPlayed;
+        private double winLost;
+
+        ReviewedStrategy(Strategy strategy, PositionAnalyzer analyzer, long seed) {
+            this.strategy = strategy;
+            this.analyzer = analyzer;
+            this.seed = seed;
+        }
+
+        @Override
+        public int chooseCardToPlay(Player self, Parade parade, List<Player> players) {
+            PositionAnalyzer.Analysis analysis;
+            try {
+                // Each turn gets its own rollouts, unrelated to those of the others
+                analysis = analyzer.analyze(self, parade, players, GameSeed.mix64(seed + turns));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The review was interrupted.", e);
+            }
+            int played = strategy.chooseCardToPlay(self, parade, players);
+            PositionAnalyzer.MoveAnalysis best = analysis.getBestMove();
+            turns++;
+            if (played == best.getHandIndex()) {
+                bestPlayed++;
+            }
+            winLost += best.getWinProbability() - analysis.getMoves().get(played).getWinProbability();
+            AnalysisRenderer.showTurn(turns, analysis, played);
+            return played;
+        }
+
+        @Override
+        public int chooseCardToOpen(Player self, List<Player> players) {
+            return strategy.chooseCardToOpen(self, players);
+        }
+
+        @Override
+        public String getName() {
+            return strategy.getName();
+        }
+    }
+}
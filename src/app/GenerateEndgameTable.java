@@ -0,0 +1,59 @@
+package app;
+
+import game.ai.EndgameTable;
+import game.setup.GameSeed;
+import game.simulation.EndgameTableGenerator;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Entry point for generating a table of solved two-player endgame positions.
+ *
+ * Usage: java -cp classes app.GenerateEndgameTable file [games] [threads] [--seed N] [--slot-bits B]
+ * Creates the table if the file does not exist, with 2^B slots of 16 bytes
+ * (2^22 by default), and otherwise resumes from the file's last checkpoint
+ * with the seed stored in it.
+ */
+public class GenerateEndgameTable {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Long seed = null;
+        int slotBits = 22;
+        List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--seed") && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else if (args[i].equals("--slot-bits") && i + 1 < args.length) {
+                slotBits = Integer.parseInt(args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        if (positional.isEmpty()) {
+            System.out.println("Usage: GenerateEndgameTable file [games] [threads] [--seed N] [--slot-bits B]");
+            return;
+        }
+
+        Path file = Path.of(positional.get(0));
+        long games = positional.size() > 1 ? Long.parseLong(positional.get(1)) : 100_000;
+        int threads = positional.size() > 2 ? Integer.parseInt(positional.get(2)) : Runtime.getRuntime().availableProcessors();
+
+        try (EndgameTable table = Files.exists(file)
+                ? EndgameTable.open(file, true)
+                : EndgameTable.create(file, slotBits, seed != null ? seed : GameSeed.randomSeed())) {
+            if (seed != null && seed != table.getBaseSeed()) {
+                System.out.println(file + " was generated with seed " + table.getBaseSeed() + ", not " + seed + ".");
+                return;
+            }
+            System.out.println("Generating " + file + " from game " + table.getNextGame() + " to " + games
+                    + " with seed " + table.getBaseSeed() + " on " + threads + " threads");
+            EndgameTableGenerator generator = new EndgameTableGenerator(table, threads);
+            long start = System.nanoTime();
+            generator.generate(games, covered -> System.out.printf("  %d games, %d of %d slots used%n",
+                    covered, table.size(), table.capacity()));
+            System.out.printf("Stored %d positions (%d did not fit) in %.1f s%n", generator.getPositionsStored(),
+                    generator.getPositionsDropped(), (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
@@ -1,21 +1,69 @@
 package app;
 
+import game.ai.EndgameTable;
 import game.gameplay.GameMenu;
-import game.renderer.GamePhaseRenderer;
-import java.util.*;
+import game.input.ConsoleInput;
+import game.input.PlayerInput;
+import java.io.IOException;
+import java.nio.file.Path;
 
+/**
+ * Entry point for the interactive game.
+ *
+ * Usage: java -cp classes app.Main [--seed N] [--table FILE] [--move-timeout SECONDS]
+ * With --seed, the first game replays the game with that seed. --table gives
+ * expert computer players a table built by GenerateEndgameTable, which they
+ * use in two-player games. With --move-timeout, a human player who does not
+ * answer in time during a game has the answer made for them.
+ */
 public class Main {
 
     public static void main(String[] args) {
-        Scanner scanner = new Scanner(System.in);
-        GamePhaseRenderer.showWelcomeMessage(scanner);
-        boolean playAnotherGame;
-        do {
-            GameMenu menu = new GameMenu(scanner);
-            menu.launch();
-            playAnotherGame = menu.askForAnotherGame();
-        } while (playAnotherGame);
-        scanner.close();
+        Long seed = null;
+        String tableFile = null;
+        long moveTimeoutMillis = 0;
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("--seed")) {
+                seed = Long.parseLong(args[i + 1]);
+            } else if (args[i].equals("--table")) {
+                tableFile = args[i + 1];
+            } else if (args[i].equals("--move-timeout")) {
+                moveTimeoutMillis = parseMoveTimeout(args[i + 1]);
+                if (moveTimeoutMillis < 0) {
+                    System.err.println("--move-timeout must be a whole number of seconds, 0 or more: " + args[i + 1]);
+                    return;
+                }
+            }
+        }
+
+        EndgameTable table = null;
+        if (tableFile != null) {
+            try {
+                table = EndgameTable.open(Path.of(tableFile), false);
+            } catch (IOException e) {
+                System.err.println("Cannot open the endgame table: " + e.getMessage());
+                return;
+            }
+        }
+
+        PlayerInput input = new ConsoleInput();
+        GameMenu.playSession(input, seed, table, moveTimeoutMillis);
+        input.close();
+        if (table != null) {
+            table.close();
+        }
     }
 
+    /**
+     * @return The timeout in milliseconds, or -1 if the text is not a whole
+     * number of seconds from 0 up.
+     */
+    private static long parseMoveTimeout(String seconds) {
+        try {
+            long value = Long.parseLong(seconds);
+            return value < 0 || value > Long.MAX_VALUE / 1000 ? -1 : value * 1000;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
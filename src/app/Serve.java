@@ -0,0 +1,73 @@
+package app;
+
+import game.ai.StrategyFactory;
+import game.net.WireServer;
+import game.server.GameServer;
+import java.io.IOException;
+
+/**
+ * Entry point for the game servers. By default players connect with telnet
+ * or nc and each connection plays its own session. With --wire, clients
+ * speak the binary WireFormat protocol and are seated at tables of
+ * --players players, --humans of them remote and the rest computer players
+ * using the --bots strategy; --spectator-port lets spectators watch the
+ * latest table.
+ *
+ * Usage: java -cp classes app.Serve [port] [--max-sessions N] [--idle-timeout SECONDS] [--move-timeout SECONDS]
+ *        java -cp classes app.Serve [port] --wire [--players N] [--humans N] [--bots NAME] [--max-sessions N]
+ *                                   [--spectator-port N]
+ * The port defaults to 7777.
+ */
+public class Serve {
+
+    public static void main(String[] args) throws IOException {
+        int port = 7777;
+        int maxSessions = GameServer.DEFAULT_MAX_SESSIONS;
+        long idleTimeoutMillis = GameServer.DEFAULT_IDLE_TIMEOUT_MILLIS;
+        long moveTimeoutMillis = GameServer.DEFAULT_MOVE_TIMEOUT_MILLIS;
+        boolean wire = false;
+        int players = 2;
+        int humans = 1;
+        String bots = "greedy";
+        int spectatorPort = -1;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--max-sessions") && i + 1 < args.length) {
+                maxSessions = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--idle-timeout") && i + 1 < args.length) {
+                idleTimeoutMillis = Long.parseLong(args[++i]) * 1000;
+            } else if (args[i].equals("--move-timeout") && i + 1 < args.length) {
+                moveTimeoutMillis = Long.parseLong(args[++i]) * 1000;
+            } else if (args[i].equals("--wire")) {
+                wire = true;
+            } else if (args[i].equals("--players") && i + 1 < args.length) {
+                players = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--humans") && i + 1 < args.length) {
+                humans = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--bots") && i + 1 < args.length) {
+                bots = args[++i];
+            } else if (args[i].equals("--spectator-port") && i + 1 < args.length) {
+                spectatorPort = Integer.parseInt(args[++i]);
+            } else {
+                port = Integer.parseInt(args[i]);
+            }
+        }
+
+        if (wire) {
+            try (WireServer server = new WireServer(port, players, humans, StrategyFactory.byName(bots), maxSessions)) {
+                System.out.printf("Listening on port %d for binary clients, %d of %d players remote.%n",
+                        server.getPort(), humans, players);
+                if (spectatorPort >= 0) {
+                    System.out.printf("Spectators watch the latest table on port %d.%n",
+                            server.openSpectatorPort(spectatorPort));
+                }
+                server.serve();
+            }
+            return;
+        }
+        try (GameServer server = new GameServer(port, maxSessions, idleTimeoutMillis, moveTimeoutMillis)) {
+            System.out.printf("Listening on port %d, up to %d sessions on %s threads.%n", server.getPort(),
+                    maxSessions, server.isUsingVirtualThreads() ? "virtual" : "platform");
+            server.serve();
+        }
+    }
+}
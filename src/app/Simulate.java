@@ -0,0 +1,62 @@
+package app;
+
+import game.ai.*;
+import game.renderer.TournamentRenderer;
+import game.setup.GameSeed;
+import game.simulation.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Entry point for running a batch of bots-only games without any console
+ * animations and printing aggregated statistics.
+ *
+ * Usage: java -cp classes app.Simulate [games] [players] [threads] [--seed N] [--bots a,b,...] [--table FILE]
+ * --bots names the strategy of each player (random, greedy, mcts, mcts:N,
+ * ismcts, ismcts:N, expectimax, expectimax:D or endgame+NAME; see
+ * StrategyFactory.byName) and overrides the player count; by default every
+ * player is greedy. --table gives endgame strategies a table built by
+ * GenerateEndgameTable. The same seed and arguments give the same results on
+ * any number of threads.
+ */
+public class Simulate {
+
+    public static void main(String[] args) throws IOException {
+        long seed = GameSeed.randomSeed();
+        String[] bots = null;
+        EndgameTable table = null;
+        List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--seed") && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else if (args[i].equals("--bots") && i + 1 < args.length) {
+                bots = args[++i].split(",");
+            } else if (args[i].equals("--table") && i + 1 < args.length) {
+                table = EndgameTable.open(Path.of(args[++i]), false);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+
+        int games = positional.size() > 0 ? Integer.parseInt(positional.get(0)) : 100_000;
+        int players = positional.size() > 1 ? Integer.parseInt(positional.get(1)) : 4;
+        int threads = positional.size() > 2 ? Integer.parseInt(positional.get(2)) : Runtime.getRuntime().availableProcessors();
+
+        List<StrategyFactory> strategies = new ArrayList<>();
+        if (bots != null) {
+            for (String bot : bots) {
+                strategies.add(StrategyFactory.byName(bot.trim(), table));
+            }
+        } else {
+            for (int i = 0; i < players; i++) {
+                strategies.add(GreedyStrategy::new);
+            }
+        }
+
+        TournamentRunner runner = new TournamentRunner(strategies, threads);
+        long start = System.nanoTime();
+        TournamentStats stats = runner.run(games, seed);
+        TournamentRenderer.showReport(stats, System.nanoTime() - start, threads, seed);
+    }
+}
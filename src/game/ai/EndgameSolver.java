@@ -0,0 +1,416 @@
+package game.ai;
+
+import game.simulation.*;
+import java.util.*;
+
+/**
+ * Exact solver for the end of a game whose hands are all known: the turns
+ * left in the last round followed by the final play, where each player in
+ * seat order opens all but GameState.FINAL_HAND_SIZE of their cards.
+ *
+ * Every player picks the move that maximizes their own reward (max^n), and a
+ * position's value is one reward per player as given by
+ * GameState.computeRewards. The last round is searched on a stack of state
+ * copies, since playing a card changes the parade, while the final play
+ * opens and undoes cards in place. Values are memoized by Zobrist key; once
+ * the turns are over the key leaves out the parade and the cards kept
+ * closed, so final plays reached through different turns or in different
+ * determinizations are solved once.
+ *
+ * Without pruning, the search visits every leaf counted by countLeaves,
+ * which stays below a few thousand with two or three players but grows to
+ * hundreds of thousands with four, so callers check the count first.
+ *
+ * In two-player games the solver can also look positions up in a
+ * precomputed EndgameTable before searching them.
+ */
+public class EndgameSolver {
+
+    /**
+     * Slots of a new memo, a power of two. The memo doubles each time it is
+     * half full, up to MAX_CACHE_SLOTS, so a solver that only ever sees small
+     * endgames stays small.
+     */
+    private static final int INITIAL_CACHE_SLOTS = 1 << 10;
+
+    /**
+     * Most slots of the memo, a power of two. Once this is half full the memo
+     * is cleared instead of growing.
+     */
+    private static final int MAX_CACHE_SLOTS = 1 << 16;
+
+    // ============================ Instance Variables ============================
+    private final int playerCount;
+
+    /**
+     * One state per search depth for the last round turns.
+     */
+    private final GameState[] stack;
+
+    /**
+     * One array of child values per search depth.
+     */
+    private final double[][] childValues;
+
+    /**
+     * The cards opened at each final play depth, indexed by hand position.
+     */
+    private final int[][] openedCards;
+
+    /**
+     * Open-addressing cache from position key to one value per player. A key
+     * of 0 marks an empty slot.
+     */
+    private long[] cacheKeys;
+    private double[] cacheValues;
+    private int cacheSize;
+
+    /**
+     * Precomputed positions for two-player games, or null.
+     */
+    private final EndgameTable table;
+    private final ColorCanonicalizer canonicalizer = new ColorCanonicalizer();
+
+    // ============================ Constructors ============================
+    /**
+     * Creates a solver for games with the given number of players.
+     *
+     * @param playerCount The number of players.
+     */
+    public EndgameSolver(int playerCount) {
+        this(playerCount, null);
+    }
+
+    /**
+     * Creates a solver that looks the last round turns up in a table of
+     * solved positions before searching them.
+     *
+     * @param playerCount The number of players.
+     * @param table       The table of solved positions, or null.
+     * @throws IllegalArgumentException if a table is given for a game that
+     *                                  is not a two-player game.
+     */
+    public EndgameSolver(int playerCount, EndgameTable table) {
+        if (table != null && playerCount != EndgameTable.PLAYER_COUNT) {
+            throw new IllegalArgumentException("Endgame tables only hold two-player games.");
+        }
+        this.playerCount = playerCount;
+        this.table = table;
+        int maxDepth = 2 * playerCount + 2;
+        this.stack = new GameState[playerCount + 1];
+        for (int i = 0; i < stack.length; i++) {
+            stack[i] = new GameState(playerCount);
+        }
+        this.childValues = new double[maxDepth][playerCount];
+        this.openedCards = new int[maxDepth][GameState.MAX_HAND_SIZE];
+        this.cacheKeys = new long[INITIAL_CACHE_SLOTS];
+        this.cacheValues = new double[INITIAL_CACHE_SLOTS * playerCount];
+    }
+
+    // ============================ Solving ============================
+    /**
+     * Solves a position from the last round on.
+     *
+     * @param state  The position, with every hand dealt. It is left as given.
+     * @param values Receives the reward each player gets with best play.
+     * @throws IllegalArgumentException if the last round has not started.
+     */
+    public void solve(GameState state, double[] values) {
+        checkLastRound(state);
+        if (state.isTurnPhaseOver()) {
+            solveFinalPlay(state, 0, values);
+        } else {
+            solveTurns(state, 0, values);
+        }
+    }
+
+    /**
+     * Rates each card the player to move could play in the last round.
+     *
+     * @param state      The position, with every hand dealt and turns left.
+     * @param moveValues Receives, for each index of the current player's
+     *                   hand, the reward they get by playing that card.
+     * @throws IllegalArgumentException if the state is not in the last round
+     *                                  turns.
+     */
+    public void evaluatePlays(GameState state, double[] moveValues) {
+        checkLastRound(state);
+        if (state.isTurnPhaseOver()) {
+            throw new IllegalArgumentException("The last round turns are over.");
+        }
+        int player = state.getCurrentPlayer();
+        double[] values = childValues[0];
+        for (int i = 0; i < state.getHandSize(player); i++) {
+            GameState child = stack[0];
+            child.copyFrom(state);
+            child.playCard(i);
+            solveTurns(child, 1, values);
+            moveValues[i] = values[player];
+        }
+    }
+
+    /**
+     * Rates each set of cards the next player of the final play could open.
+     * Sets of the wrong size get a value of -1.
+     *
+     * @param state      The position, with every hand dealt and the turns
+     *                   over. It is left as given.
+     * @param maskValues Receives, for each mask of hand positions, the reward
+     *                   the player gets by opening those cards. Needs
+     *                   1 << handSize entries.
+     * @return The player whose cards were rated, or -1 if every player has
+     * already opened their cards.
+     * @throws IllegalArgumentException if the turns are not over.
+     */
+    public int evaluateOpenings(GameState state, double[] maskValues) {
+        checkLastRound(state);
+        if (!state.isTurnPhaseOver()) {
+            throw new IllegalArgumentException("The last round turns are not over.");
+        }
+        int player = nextOpener(state);
+        if (player < 0) {
+            return -1;
+        }
+        int handSize = state.getHandSize(player);
+        int opens = handSize - GameState.FINAL_HAND_SIZE;
+        double[] values = childValues[0];
+        for (int mask = 0; mask < 1 << handSize; mask++) {
+            if (Integer.bitCount(mask) != opens) {
+                maskValues[mask] = -1;
+                continue;
+            }
+            openMask(state, player, mask, openedCards[0]);
+            solveFinalPlay(state, 1, values);
+            undoMask(state, player, mask, openedCards[0]);
+            maskValues[mask] = values[player];
+        }
+        return player;
+    }
+
+    /**
+     * Counts the leaves a full search from the position would visit, before
+     * memoization. Saturates at Long.MAX_VALUE.
+     *
+     * @param state The position.
+     * @return The number of complete lines of play from the position.
+     */
+    public static long countLeaves(GameState state) {
+        int count = state.getPlayerCount();
+        int[] handSizes = new int[count];
+        for (int p = 0; p < count; p++) {
+            handSizes[p] = state.getHandSize(p);
+        }
+        long leaves = 1;
+        int turnsLeft = state.isLastRound() ? state.getLastRoundTurnsLeft() : count;
+        for (int turn = 0; turn < turnsLeft; turn++) {
+            int player = (state.getCurrentPlayer() + turn) % count;
+            leaves = multiply(leaves, handSizes[player]);
+            handSizes[player]--;
+        }
+        for (int p = 0; p < count; p++) {
+            if (handSizes[p] > GameState.FINAL_HAND_SIZE) {
+                leaves = multiply(leaves, binomial(handSizes[p], GameState.FINAL_HAND_SIZE));
+            }
+        }
+        return leaves;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Empties the memo and shrinks it back to its initial size, which is only
+     * needed to bound memory: cached values stay correct across positions and
+     * games.
+     */
+    public void clear() {
+        if (cacheKeys.length > INITIAL_CACHE_SLOTS) {
+            cacheKeys = new long[INITIAL_CACHE_SLOTS];
+            cacheValues = new double[INITIAL_CACHE_SLOTS * playerCount];
+        } else {
+            Arrays.fill(cacheKeys, 0);
+        }
+        cacheSize = 0;
+    }
+
+    // ============================ Search ============================
+    private void solveTurns(GameState state, int depth, double[] values) {
+        if (state.isTurnPhaseOver()) {
+            solveFinalPlay(state, depth, values);
+            return;
+        }
+        long key = state.zobristKey();
+        if (lookup(key, values)) {
+            return;
+        }
+        if (table != null && table.probe(canonicalizer.canonicalKey(state), values)) {
+            store(key, values);
+            return;
+        }
+        int player = state.getCurrentPlayer();
+        double[] child = childValues[depth];
+        GameState next = stack[depth];
+        double best = -1;
+        for (int i = 0; i < state.getHandSize(player); i++) {
+            next.copyFrom(state);
+            next.playCard(i);
+            solveTurns(next, depth + 1, child);
+            if (child[player] > best) {
+                best = child[player];
+                System.arraycopy(child, 0, values, 0, playerCount);
+            }
+        }
+        store(key, values);
+    }
+
+    private void solveFinalPlay(GameState state, int depth, double[] values) {
+        int player = nextOpener(state);
+        if (player < 0) {
+            state.score();
+            state.computeRewards(values);
+            return;
+        }
+        long key = state.finalPlayKey();
+        if (lookup(key, values)) {
+            return;
+        }
+        int handSize = state.getHandSize(player);
+        int opens = handSize - GameState.FINAL_HAND_SIZE;
+        double[] child = childValues[depth];
+        int[] opened = openedCards[depth];
+        double best = -1;
+        for (int mask = 0; mask < 1 << handSize; mask++) {
+            if (Integer.bitCount(mask) != opens) {
+                continue;
+            }
+            openMask(state, player, mask, opened);
+            solveFinalPlay(state, depth + 1, child);
+            undoMask(state, player, mask, opened);
+            if (child[player] > best) {
+                best = child[player];
+                System.arraycopy(child, 0, values, 0, playerCount);
+            }
+        }
+        store(key, values);
+    }
+
+    /**
+     * Returns the first player in seat order that has not opened their
+     * cards yet, as the game asks them in that order, or -1 if none is left.
+     */
+    private static int nextOpener(GameState state) {
+        for (int p = 0; p < state.getPlayerCount(); p++) {
+            if (state.getHandSize(p) > GameState.FINAL_HAND_SIZE) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Opens the cards at the positions in the mask, highest position first so
+     * that the lower positions keep their cards.
+     */
+    private static void openMask(GameState state, int player, int mask, int[] opened) {
+        for (int m = mask; m != 0; m &= ~Integer.highestOneBit(m)) {
+            int index = Integer.numberOfTrailingZeros(Integer.highestOneBit(m));
+            opened[index] = state.getHandCard(player, index);
+            state.openCard(player, index);
+        }
+    }
+
+    /**
+     * Undoes openMask in reverse order.
+     */
+    private static void undoMask(GameState state, int player, int mask, int[] opened) {
+        for (int m = mask; m != 0; m &= m - 1) {
+            int index = Integer.numberOfTrailingZeros(m);
+            state.undoOpenCard(player, index, opened[index]);
+        }
+    }
+
+    private static void checkLastRound(GameState state) {
+        if (!state.isLastRound()) {
+            throw new IllegalArgumentException("The last round has not started.");
+        }
+    }
+
+    // ============================ Memo ============================
+    private boolean lookup(long key, double[] values) {
+        if (key == 0) {
+            return false;
+        }
+        int mask = cacheKeys.length - 1;
+        for (int slot = slotOf(key, mask); cacheKeys[slot] != 0; slot = (slot + 1) & mask) {
+            if (cacheKeys[slot] == key) {
+                System.arraycopy(cacheValues, slot * playerCount, values, 0, playerCount);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void store(long key, double[] values) {
+        if (key == 0) {
+            return;
+        }
+        if (cacheSize >= cacheKeys.length / 2) {
+            if (cacheKeys.length < MAX_CACHE_SLOTS) {
+                grow();
+            } else {
+                clear();
+            }
+        }
+        int mask = cacheKeys.length - 1;
+        int slot = slotOf(key, mask);
+        while (cacheKeys[slot] != 0 && cacheKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (cacheKeys[slot] == 0) {
+            cacheKeys[slot] = key;
+            cacheSize++;
+        }
+        System.arraycopy(values, 0, cacheValues, slot * playerCount, playerCount);
+    }
+
+    /**
+     * Doubles the memo, moving every cached position to its new slot.
+     */
+    private void grow() {
+        long[] oldKeys = cacheKeys;
+        double[] oldValues = cacheValues;
+        cacheKeys = new long[oldKeys.length * 2];
+        cacheValues = new double[cacheKeys.length * playerCount];
+        int mask = cacheKeys.length - 1;
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            long key = oldKeys[oldSlot];
+            if (key == 0) {
+                continue;
+            }
+            int slot = slotOf(key, mask);
+            while (cacheKeys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            cacheKeys[slot] = key;
+            System.arraycopy(oldValues, oldSlot * playerCount, cacheValues, slot * playerCount, playerCount);
+        }
+    }
+
+    private static int slotOf(long key, int mask) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    // ============================ Counting ============================
+    private static long multiply(long a, long b) {
+        return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+    }
+
+    private static long binomial(int n, int k) {
+        long result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,222 @@
+package game.ai;
+
+import game.core.*;
+import game.simulation.GameState;
+import java.util.*;
+
+/**
+ * Strategy that plays the end of the game with an EndgameSolver and leaves
+ * the rest of the game to another strategy.
+ *
+ * Once the last round has started no more cards are drawn, so with every
+ * hand known the rest of the game could be solved exactly. The opponents'
+ * hands are hidden, though, so the strategy deals them at random from the
+ * cards the player has not seen, solves each deal, and plays the move with
+ * the best average reward over as many deals as the budgets allow (perfect
+ * information Monte Carlo). Positions whose search would visit more than
+ * the leaf budget, usually the first turns of the last round with four or
+ * more players, are left to the other strategy.
+ *
+ * The final play is always solved, as there is at most one turn left per
+ * player in it. This needs the game's CardTracker; without one, the final
+ * play is left to the other strategy as well.
+ *
+ * In two-player games the solver can be given an EndgameTable, so that
+ * positions generated ahead of time are not searched again.
+ */
+public class EndgameStrategy implements Strategy {
+
+    /**
+     * Most leaves one deal may need for the solver to be used.
+     */
+    public static final long DEFAULT_LEAF_BUDGET = 50_000L;
+
+    /**
+     * Most deals solved per move.
+     */
+    public static final int DEFAULT_MAX_DEALS = 200;
+
+    // ============================ Instance Variables ============================
+    private final Strategy fallback;
+    private final SplittableRandom random;
+    private final long timeBudgetNanos;
+    private final int maxDeals;
+    private final long leafBudget;
+    private final EndgameTable table;
+    private EndgameSolver solver;
+    private double lastExpectedReward = Double.NaN;
+
+    /**
+     * Scratch arrays for the values of one deal and their totals, indexed by
+     * hand position during the turns and by mask during the final play.
+     */
+    private final double[] dealValues = new double[1 << GameState.MAX_HAND_SIZE];
+    private final double[] totals = new double[1 << GameState.MAX_HAND_SIZE];
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs an EndgameStrategy with the default budgets.
+     *
+     * @param fallback The strategy used before the endgame can be solved.
+     * @param random   The random number generator used to deal hidden cards.
+     */
+    public EndgameStrategy(Strategy fallback, SplittableRandom random) {
+        this(fallback, random, MctsStrategy.DEFAULT_TIME_BUDGET_NANOS, DEFAULT_MAX_DEALS, DEFAULT_LEAF_BUDGET);
+    }
+
+    /**
+     * Constructs an EndgameStrategy with the given budgets.
+     *
+     * @param fallback        The strategy used before the endgame can be solved.
+     * @param random          The random number generator used to deal hidden cards.
+     * @param timeBudgetNanos The time budget per move in nanoseconds, or 0 for no time limit.
+     * @param maxDeals        The most deals solved per move.
+     * @param leafBudget      The most leaves one deal may need for the solver to be used.
+     * @throws IllegalArgumentException if the budgets are invalid.
+     */
+    public EndgameStrategy(Strategy fallback, SplittableRandom random, long timeBudgetNanos, int maxDeals,
+            long leafBudget) {
+        this(fallback, random, timeBudgetNanos, maxDeals, leafBudget, null);
+    }
+
+    /**
+     * Constructs an EndgameStrategy with the given budgets that looks
+     * two-player positions up in a table before solving them.
+     *
+     * @param fallback        The strategy used before the endgame can be solved.
+     * @param random          The random number generator used to deal hidden cards.
+     * @param timeBudgetNanos The time budget per move in nanoseconds, or 0 for no time limit.
+     * @param maxDeals        The most deals solved per move.
+     * @param leafBudget      The most leaves one deal may need for the solver to be used.
+     * @param table           The table of solved two-player positions, or null.
+     * @throws IllegalArgumentException if the budgets are invalid.
+     */
+    public EndgameStrategy(Strategy fallback, SplittableRandom random, long timeBudgetNanos, int maxDeals,
+            long leafBudget, EndgameTable table) {
+        if (timeBudgetNanos < 0 || maxDeals < 1 || leafBudget < 1) {
+            throw new IllegalArgumentException("Invalid search budget.");
+        }
+        this.fallback = fallback;
+        this.random = random;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.maxDeals = maxDeals;
+        this.leafBudget = leafBudget;
+        this.table = table;
+    }
+
+    // ============================ Strategy Methods ============================
+    @Override
+    public int chooseCardToPlay(Player self, Parade parade, List<Player> players) {
+        GameState root = GameState.observe(self, parade, players);
+        if (!root.isLastRound() || root.isTurnPhaseOver() || EndgameSolver.countLeaves(root) > leafBudget) {
+            lastExpectedReward = Double.NaN;
+            return fallback.chooseCardToPlay(self, parade, players);
+        }
+
+        int handSize = root.getHandSize(root.getObserver());
+        Arrays.fill(totals, 0, handSize, 0);
+        GameState world = new GameState(root.getPlayerCount());
+        int deals = 0;
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        do {
+            world.copyFrom(root);
+            world.determinize(random);
+            getSolver(root.getPlayerCount()).evaluatePlays(world, dealValues);
+            for (int i = 0; i < handSize; i++) {
+                totals[i] += dealValues[i];
+            }
+            deals++;
+        } while (deals < maxDeals && (timeBudgetNanos == 0 || System.nanoTime() < deadline));
+
+        int best = bestIndex(handSize);
+        lastExpectedReward = totals[best] / deals;
+        return best;
+    }
+
+    /**
+     * Opens the lowest card of the best set found by bestCardsToOpen. The
+     * next call finds the rest of the set again.
+     */
+    @Override
+    public int chooseCardToOpen(Player self, List<Player> players) {
+        if (self.getCardTracker() == null) {
+            lastExpectedReward = Double.NaN;
+            return fallback.chooseCardToOpen(self, players);
+        }
+        return Integer.numberOfTrailingZeros(bestCardsToOpen(self, players));
+    }
+
+    @Override
+    public String getName() {
+        return "Endgame+" + fallback.getName();
+    }
+
+    // ============================ Final Play ============================
+    /**
+     * Finds the cards the player should open in the final play, from the
+     * open cards on the table and the cards they have not seen. The average
+     * reward of the set is then given by getLastExpectedReward.
+     *
+     * @param self    The player whose final play it is.
+     * @param players Every player at the table, including self.
+     * @return A mask with bit i set for each index of the player's closed
+     * cards to open.
+     * @throws IllegalStateException if the player has no card tracker.
+     */
+    public int bestCardsToOpen(Player self, List<Player> players) {
+        GameState root = GameState.observeFinalPlay(self, players);
+        int masks = 1 << root.getHandSize(root.getObserver());
+        Arrays.fill(totals, 0, masks, 0);
+        GameState world = new GameState(root.getPlayerCount());
+        int deals = 0;
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        do {
+            world.copyFrom(root);
+            world.determinize(random);
+            getSolver(root.getPlayerCount()).evaluateOpenings(world, dealValues);
+            for (int mask = 0; mask < masks; mask++) {
+                totals[mask] += dealValues[mask];
+            }
+            deals++;
+        } while (deals < maxDeals && (timeBudgetNanos == 0 || System.nanoTime() < deadline));
+
+        int best = bestIndex(masks);
+        lastExpectedReward = totals[best] / deals;
+        return best;
+    }
+
+    /**
+     * @return The average reward of the last move chosen by the solver,
+     * between 0 and 1, or NaN if the last move was left to the other
+     * strategy.
+     */
+    public double getLastExpectedReward() {
+        return lastExpectedReward;
+    }
+
+    public Strategy getFallback() {
+        return fallback;
+    }
+
+    // ============================ Helpers ============================
+    private EndgameSolver getSolver(int playerCount) {
+        if (solver == null || solver.getPlayerCount() != playerCount) {
+            solver = new EndgameSolver(playerCount, playerCount == EndgameTable.PLAYER_COUNT ? table : null);
+        }
+        return solver;
+    }
+
+    /**
+     * Returns the index of the highest total. Invalid masks total below zero,
+     * so they never win.
+     */
+    private int bestIndex(int count) {
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (totals[i] > totals[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
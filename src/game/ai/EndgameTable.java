@@ -0,0 +1,275 @@
+package game.ai;
+
+import game.simulation.*;
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+/**
+ * Table of solved two-player endgame positions, stored in a file that is
+ * memory-mapped instead of read into the heap, so that bots can probe it in
+ * constant time without loading it.
+ *
+ * Positions are keyed by their ColorCanonicalizer.canonicalKey, so a
+ * position is stored once for every relabeling of its colors. The file
+ * starts with a header of HEADER_BYTES holding the format version, a
+ * fingerprint of the hashing (so that a table built with other Zobrist keys
+ * is rejected), the number of positions stored and the generator's
+ * checkpoint. It is followed by an open-addressing array of slots, each the
+ * 64-bit key and the first player's reward as a double; the second player's
+ * reward is the rest of 1. A key of 0 marks an empty slot.
+ *
+ * Probing only reads the mapping, so any number of threads may probe a
+ * table opened read-only. Storing is meant for a single generator thread.
+ */
+public class EndgameTable implements AutoCloseable {
+
+    /**
+     * Version of the file format, raised whenever the layout or the keys
+     * change.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Players of the games the table is for.
+     */
+    public static final int PLAYER_COUNT = 2;
+
+    /**
+     * Largest number of slots, as log2, which keeps the file within a
+     * single mapping.
+     */
+    public static final int MAX_SLOT_BITS = 26;
+
+    private static final long MAGIC = 0x5041524144455442L; // "PARADETB"
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_PROBES = 16;
+
+    // Header offsets
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int PLAYER_COUNT_OFFSET = 12;
+    private static final int SLOT_BITS_OFFSET = 16;
+    private static final int FINGERPRINT_OFFSET = 24;
+    private static final int SIZE_OFFSET = 32;
+    private static final int NEXT_GAME_OFFSET = 40;
+    private static final int BASE_SEED_OFFSET = 48;
+
+    // ============================ Instance Variables ============================
+    private final MappedByteBuffer buffer;
+    private final boolean writable;
+    private final int slotMask;
+    private long size;
+
+    // ============================ Constructors ============================
+    private EndgameTable(MappedByteBuffer buffer, boolean writable) {
+        this.buffer = buffer;
+        this.writable = writable;
+        this.slotMask = (1 << buffer.getInt(SLOT_BITS_OFFSET)) - 1;
+        this.size = buffer.getLong(SIZE_OFFSET);
+    }
+
+    /**
+     * Creates an empty table file, replacing any file at the path.
+     *
+     * @param file     The file to create.
+     * @param slotBits The number of slots as log2.
+     * @param baseSeed The seed the generator deals its games from.
+     * @return The table, open for writing.
+     * @throws IOException if the file cannot be written.
+     * @throws IllegalArgumentException if slotBits is out of range.
+     */
+    public static EndgameTable create(Path file, int slotBits, long baseSeed) throws IOException {
+        if (slotBits < 1 || slotBits > MAX_SLOT_BITS) {
+            throw new IllegalArgumentException("The table needs between 1 and " + MAX_SLOT_BITS + " slot bits.");
+        }
+        long length = HEADER_BYTES + ((long) SLOT_BYTES << slotBits);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.putLong(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, VERSION);
+            buffer.putInt(PLAYER_COUNT_OFFSET, PLAYER_COUNT);
+            buffer.putInt(SLOT_BITS_OFFSET, slotBits);
+            buffer.putLong(FINGERPRINT_OFFSET, fingerprint());
+            buffer.putLong(BASE_SEED_OFFSET, baseSeed);
+            buffer.force();
+            return new EndgameTable(buffer, true);
+        }
+    }
+
+    /**
+     * Maps an existing table file.
+     *
+     * A table opened for writing counts its positions again instead of
+     * trusting the header, since a generator that died after storing a chunk
+     * but before its checkpoint leaves the slots filled and the size behind.
+     *
+     * @param file     The table file.
+     * @param writable Whether positions will be stored.
+     * @return The table.
+     * @throws IOException if the file cannot be read or is not a table of
+     *                     this version.
+     */
+    public static EndgameTable open(Path file, boolean writable) throws IOException {
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        OpenOption[] options = writable
+                ? new OpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE }
+                : new OpenOption[] { StandardOpenOption.READ };
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException(file + " is not an endgame table.");
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getLong(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException(file + " is not an endgame table.");
+            }
+            if (header.getInt(VERSION_OFFSET) != VERSION || header.getLong(FINGERPRINT_OFFSET) != fingerprint()
+                    || header.getInt(PLAYER_COUNT_OFFSET) != PLAYER_COUNT) {
+                throw new IOException(file + " was built by another version and must be generated again.");
+            }
+            int slotBits = header.getInt(SLOT_BITS_OFFSET);
+            long length = HEADER_BYTES + ((long) SLOT_BYTES << slotBits);
+            if (slotBits < 1 || slotBits > MAX_SLOT_BITS || channel.size() != length) {
+                throw new IOException(file + " is truncated or corrupt.");
+            }
+            EndgameTable table = new EndgameTable(channel.map(mode, 0, length), writable);
+            if (writable) {
+                table.size = table.countStored();
+            }
+            return table;
+        }
+    }
+
+    // ============================ Probing ============================
+    /**
+     * Looks up a solved position.
+     *
+     * @param key    The canonical key of the position.
+     * @param values Receives the reward of each player if the position is
+     *               stored.
+     * @return true if the position is stored.
+     */
+    public boolean probe(long key, double[] values) {
+        if (key == 0) {
+            return false;
+        }
+        int slot = slotOf(key);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            long offset = offsetOf(slot);
+            long stored = buffer.getLong((int) offset);
+            if (stored == 0) {
+                return false;
+            }
+            if (stored == key) {
+                values[0] = buffer.getDouble((int) offset + Long.BYTES);
+                values[1] = 1 - values[0];
+                return true;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return false;
+    }
+
+    /**
+     * Stores a solved position, unless its slots are all taken.
+     *
+     * @param key    The canonical key of the position.
+     * @param values The reward of each player.
+     * @return true if the position is in the table afterwards.
+     * @throws IllegalStateException if the table was opened read-only.
+     */
+    public boolean store(long key, double[] values) {
+        if (!writable) {
+            throw new IllegalStateException("The endgame table is read-only.");
+        }
+        if (key == 0) {
+            return false;
+        }
+        int slot = slotOf(key);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            long offset = offsetOf(slot);
+            long stored = buffer.getLong((int) offset);
+            if (stored == key) {
+                return true;
+            }
+            if (stored == 0) {
+                buffer.putDouble((int) offset + Long.BYTES, values[0]);
+                buffer.putLong((int) offset, key);
+                size++;
+                return true;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return false;
+    }
+
+    /**
+     * Records how far the generator got and flushes the table to disk, so
+     * that an interrupted generation resumes from here.
+     *
+     * @param nextGame The index of the first game not yet generated.
+     */
+    public void checkpoint(long nextGame) {
+        buffer.putLong(SIZE_OFFSET, size);
+        buffer.putLong(NEXT_GAME_OFFSET, nextGame);
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        if (writable) {
+            buffer.putLong(SIZE_OFFSET, size);
+            buffer.force();
+        }
+    }
+
+    // ============================ Getters ============================
+    public long size() {
+        return size;
+    }
+
+    public long capacity() {
+        return slotMask + 1L;
+    }
+
+    /**
+     * @return The index of the first game the generator has not processed.
+     */
+    public long getNextGame() {
+        return buffer.getLong(NEXT_GAME_OFFSET);
+    }
+
+    public long getBaseSeed() {
+        return buffer.getLong(BASE_SEED_OFFSET);
+    }
+
+    // ============================ Helpers ============================
+    private int slotOf(long key) {
+        return (int) (key ^ (key >>> 32)) & slotMask;
+    }
+
+    private long countStored() {
+        long count = 0;
+        for (int slot = 0; slot <= slotMask; slot++) {
+            if (buffer.getLong((int) offsetOf(slot)) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long offsetOf(int slot) {
+        return HEADER_BYTES + (long) slot * SLOT_BYTES;
+    }
+
+    /**
+     * Hashes an empty position, which changes whenever the Zobrist keys or
+     * the canonicalization change.
+     */
+    private static long fingerprint() {
+        return new ColorCanonicalizer().canonicalKey(new GameState(PLAYER_COUNT));
+    }
+}
@@ -0,0 +1,31 @@
+package game.ai;
+
+import game.simulation.GameState;
+
+/**
+ * Rates a position for one player, for searches that stop before the end
+ * of the game. Values must lie between LOWER_BOUND and UPPER_BOUND, like
+ * the rewards of GameState.computeRewards, so that searches can prune
+ * chance nodes with those bounds.
+ */
+@FunctionalInterface
+public interface Evaluator {
+
+    /**
+     * Lowest value an evaluation may return.
+     */
+    double LOWER_BOUND = 0;
+
+    /**
+     * Highest value an evaluation may return.
+     */
+    double UPPER_BOUND = 1;
+
+    /**
+     * @param state  The position to rate. Must not be changed.
+     * @param player The player the position is rated for.
+     * @return How good the position is for the player, between LOWER_BOUND
+     * and UPPER_BOUND.
+     */
+    double evaluate(GameState state, int player);
+}
@@ -0,0 +1,335 @@
+package game.ai;
+
+import game.core.*;
+import game.simulation.GameState;
+import game.utils.Constants;
+import java.util.*;
+
+/**
+ * Strategy that searches a few turns ahead with expectimax and plays the
+ * card with the best expected evaluation.
+ *
+ * The search never deals the cards the player cannot see. Instead, every
+ * turn of an opponent is a chance node over the hidden cards, each equally
+ * likely to be the card played, and every card the player draws is a chance
+ * node over the hidden cards too. A draw only matters once the player plays
+ * again, so it is branched on at the player's next turn rather than right
+ * after the play. Positions at the depth limit are rated by a pluggable
+ * Evaluator, a MajorityEvaluator by default.
+ *
+ * Chance nodes are pruned with Star1, which bounds a node by the values of
+ * the children searched so far and the evaluation bounds for the rest. The
+ * draws, whose children are the player's own turns, use Star2: a first pass
+ * searches only one move of each child, which gives lower bounds that often
+ * prune the node before the full pass. The search deepens one turn at a time
+ * until the time budget runs out and plays the best move of the deepest
+ * completed iteration, so a move costs at most the budget and, with no time
+ * limit, the same depth always gives the same move.
+ */
+public class ExpectimaxStrategy implements Strategy {
+
+    /**
+     * Default deepest search, in turns.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 12;
+
+    /**
+     * Number of nodes between two checks of the clock.
+     */
+    private static final int NODES_PER_CLOCK_CHECK = 1024;
+
+    private static final double LOWER = Evaluator.LOWER_BOUND;
+    private static final double UPPER = Evaluator.UPPER_BOUND;
+
+    // ============================ Instance Variables ============================
+    private final long timeBudgetNanos;
+    private final int maxDepth;
+    private final Evaluator evaluator;
+    private final Strategy finalPlayStrategy;
+
+    /**
+     * One state per level of the search tree, and the first-move values of
+     * the children of each draw node.
+     */
+    private GameState[] stack;
+    private double[][] probes;
+
+    /**
+     * State of the current search.
+     */
+    private int observer;
+    private long nodes;
+    private long deadline;
+    private boolean timed;
+    private boolean aborted;
+    private boolean depthLimited;
+    private int lastDepth;
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs an ExpectimaxStrategy with the default budgets and its own
+     * random number generator.
+     */
+    public ExpectimaxStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs an ExpectimaxStrategy with the same time budget as
+     * MctsStrategy.
+     *
+     * @param random The random number generator used to break ties in the
+     *               final play.
+     */
+    public ExpectimaxStrategy(SplittableRandom random) {
+        this(random, MctsStrategy.DEFAULT_TIME_BUDGET_NANOS, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Constructs an ExpectimaxStrategy with the given budgets and a
+     * MajorityEvaluator.
+     *
+     * @param random          The random number generator used to break ties in the final play.
+     * @param timeBudgetNanos The time budget per move in nanoseconds, or 0 for no time limit.
+     * @param maxDepth        The deepest search, in turns.
+     * @throws IllegalArgumentException if the budgets are invalid.
+     */
+    public ExpectimaxStrategy(SplittableRandom random, long timeBudgetNanos, int maxDepth) {
+        this(random, timeBudgetNanos, maxDepth, new MajorityEvaluator());
+    }
+
+    /**
+     * Constructs an ExpectimaxStrategy with the given budgets and evaluator.
+     *
+     * @param random          The random number generator used to break ties in the final play.
+     * @param timeBudgetNanos The time budget per move in nanoseconds, or 0 for no time limit.
+     * @param maxDepth        The deepest search, in turns.
+     * @param evaluator       Rates the positions at the depth limit.
+     * @throws IllegalArgumentException if the budgets are invalid.
+     */
+    public ExpectimaxStrategy(SplittableRandom random, long timeBudgetNanos, int maxDepth, Evaluator evaluator) {
+        if (timeBudgetNanos < 0 || maxDepth < 1) {
+            throw new IllegalArgumentException("Invalid search budget.");
+        }
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.maxDepth = maxDepth;
+        this.evaluator = evaluator;
+        this.finalPlayStrategy = new GreedyStrategy(random);
+    }
+
+    // ============================ Strategy Methods ============================
+    @Override
+    public int chooseCardToPlay(Player self, Parade parade, List<Player> players) {
+        if (self.getClosedCards().size() == 1) {
+            return 0;
+        }
+
+        GameState root = GameState.observe(self, parade, players);
+        prepare(root);
+        timed = timeBudgetNanos > 0;
+        deadline = System.nanoTime() + timeBudgetNanos;
+        aborted = false;
+        nodes = 0;
+
+        int bestIndex = 0;
+        lastDepth = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            depthLimited = false;
+            int best = searchRoot(root, depth, bestIndex);
+            if (aborted) {
+                break;
+            }
+            bestIndex = best;
+            lastDepth = depth;
+            if (!depthLimited) {
+                break; // The search already reached the end of the turns
+            }
+        }
+        return bestIndex;
+    }
+
+    @Override
+    public int chooseCardToOpen(Player self, List<Player> players) {
+        return finalPlayStrategy.chooseCardToOpen(self, players);
+    }
+
+    @Override
+    public String getName() {
+        return "Expectimax";
+    }
+
+    /**
+     * @return The depth, in turns, of the last completed iteration of the
+     * last search.
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    // ============================ Search ============================
+    /**
+     * Allocates one state per level of the tree: each turn takes a level and
+     * each of the player's draws another one.
+     */
+    private void prepare(GameState root) {
+        observer = root.getObserver();
+        int levels = 2 * maxDepth + 2;
+        if (stack == null || stack[0].getPlayerCount() != root.getPlayerCount()) {
+            stack = new GameState[levels];
+            probes = new double[levels][];
+            for (int i = 0; i < levels; i++) {
+                stack[i] = new GameState(root.getPlayerCount());
+                probes[i] = new double[Constants.TOTAL_CARDS];
+            }
+        }
+    }
+
+    /**
+     * Searches every move of the root to the given depth, the previous best
+     * move first, and returns the index of the best one. Ties go to the move
+     * searched first.
+     */
+    private int searchRoot(GameState root, int depth, int firstMove) {
+        int handSize = root.getHandSize(observer);
+        int bestIndex = firstMove;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int n = 0; n < handSize; n++) {
+            int i = n == 0 ? firstMove : (n <= firstMove ? n - 1 : n);
+            GameState child = stack[0];
+            child.copyFrom(root);
+            child.playCardDrawingLater(i);
+            double value = search(child, 1, depth - 1, !root.isLastRound(), bestValue, UPPER);
+            if (aborted) {
+                return bestIndex;
+            }
+            if (value > bestValue) {
+                bestValue = value;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Returns the expected evaluation of a position, fail-hard within the
+     * window from alpha to beta.
+     *
+     * @param level       The level of the tree, which picks the scratch state.
+     * @param depth       The number of turns left to search.
+     * @param drawPending Whether the player still has to draw the card of
+     *                    their last turn.
+     */
+    private double search(GameState state, int level, int depth, boolean drawPending, double alpha, double beta) {
+        if (timed && lastDepth > 0 && ++nodes % NODES_PER_CLOCK_CHECK == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+        }
+        if (aborted) {
+            return alpha;
+        }
+        if (state.isTurnPhaseOver() || depth == 0 || state.getHiddenCount() == 0) {
+            depthLimited |= !state.isTurnPhaseOver();
+            return evaluator.evaluate(state, observer);
+        }
+        if (state.getCurrentPlayer() != observer) {
+            return opponentTurn(state, level, depth, drawPending, alpha, beta);
+        }
+        if (drawPending) {
+            return draw(state, level, depth, alpha, beta);
+        }
+        return ownTurn(state, level, depth, alpha, beta, state.getHandSize(observer));
+    }
+
+    /**
+     * Max node: the player's own turn, trying the first moveLimit cards of
+     * the hand.
+     */
+    private double ownTurn(GameState state, int level, int depth, double alpha, double beta, int moveLimit) {
+        boolean drawAfter = !state.isLastRound();
+        GameState child = stack[level];
+        for (int i = 0; i < moveLimit; i++) {
+            child.copyFrom(state);
+            child.playCardDrawingLater(i);
+            double value = search(child, level + 1, depth - 1, drawAfter, alpha, beta);
+            if (value >= beta) {
+                return beta;
+            }
+            alpha = Math.max(alpha, value);
+        }
+        return alpha;
+    }
+
+    /**
+     * Chance node with Star1 pruning: an opponent plays one of the hidden
+     * cards, each as likely as the others.
+     */
+    private double opponentTurn(GameState state, int level, int depth, boolean drawPending, double alpha,
+            double beta) {
+        int outcomes = state.getHiddenCount();
+        double probability = 1.0 / outcomes;
+        double expected = 0;
+        GameState child = stack[level];
+        for (int i = 0; i < outcomes; i++) {
+            double remaining = (outcomes - i - 1) * probability;
+            double childAlpha = (alpha - expected - remaining * UPPER) / probability;
+            double childBeta = (beta - expected - remaining * LOWER) / probability;
+            child.copyFrom(state);
+            child.playHiddenCard(state.getHiddenCard(i));
+            double value = search(child, level + 1, depth - 1, drawPending,
+                    Math.max(childAlpha, LOWER), Math.min(childBeta, UPPER));
+            if (value <= childAlpha) {
+                return alpha;
+            }
+            if (value >= childBeta) {
+                return beta;
+            }
+            expected += probability * value;
+        }
+        return expected;
+    }
+
+    /**
+     * Chance node with Star2 pruning: the player draws one of the hidden
+     * cards before their turn. A probing pass searches only the first move
+     * of each outcome, whose value bounds that outcome from below.
+     */
+    private double draw(GameState state, int level, int depth, double alpha, double beta) {
+        int outcomes = state.getHiddenCount();
+        double probability = 1.0 / outcomes;
+        double[] lowerBounds = probes[level];
+        GameState child = stack[level];
+
+        double probed = 0;
+        for (int i = 0; i < outcomes; i++) {
+            double childBeta = (beta - probed - (outcomes - i - 1) * probability * LOWER) / probability;
+            child.copyFrom(state);
+            child.drawHiddenCard(state.getHiddenCard(i));
+            double value = ownTurn(child, level + 1, depth, LOWER, Math.min(childBeta, UPPER), 1);
+            if (value >= childBeta) {
+                return beta;
+            }
+            lowerBounds[i] = value;
+            probed += probability * value;
+        }
+
+        double expected = 0;
+        double laterLowerBounds = probed;
+        for (int i = 0; i < outcomes; i++) {
+            laterLowerBounds -= probability * lowerBounds[i];
+            double remaining = (outcomes - i - 1) * probability;
+            double childAlpha = (alpha - expected - remaining * UPPER) / probability;
+            double childBeta = (beta - expected - laterLowerBounds) / probability;
+            child.copyFrom(state);
+            child.drawHiddenCard(state.getHiddenCard(i));
+            double value = ownTurn(child, level + 1, depth, Math.max(childAlpha, lowerBounds[i]),
+                    Math.min(childBeta, UPPER), child.getHandSize(observer));
+            if (value <= childAlpha) {
+                return alpha;
+            }
+            if (value >= childBeta) {
+                return beta;
+            }
+            expected += probability * value;
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,213 @@
+package game.ai;
+
+import game.core.*;
+import game.gameplay.managers.CardFlipper;
+import game.utils.Constants;
+import java.util.*;
+
+/**
+ * Works out, for every card in a player's hand at once, which parade cards
+ * playing it would take and how much that would raise the player's
+ * projected score. Used by GreedyStrategy to pick its move and by Human to
+ * preview each card before choosing.
+ *
+ * The removal masks of the whole hand come from Parade.getRemovalMasks.
+ * The parade is then walked a single time, over the positions any card of
+ * the hand would take, and each taken card is added to the intake of every
+ * hand card whose mask holds it, so that the per-color counts and values of
+ * all intakes are known after one pass.
+ *
+ * The projected score counts the open cards of each color at face value,
+ * unless the player would flip that color given the open cards on the table
+ * right now, in which case each card counts FLIPPED_CARD_VALUE, following
+ * the same rules as CardFlipper. An instance reuses its arrays, so previews
+ * allocate nothing, and is meant for one thread.
+ */
+public class IntakePreview {
+
+    private static final int MAX_CANDIDATES = Constants.INITIAL_HAND_SIZE;
+
+    // ============================ Instance Variables ============================
+    private final int[] cardIds = new int[MAX_CANDIDATES];
+    private final long[] removalMasks = new long[MAX_CANDIDATES];
+    private final int[] scoreDeltas = new int[MAX_CANDIDATES];
+    private int size;
+
+    /**
+     * Number and value of the cards each candidate would take of each color.
+     */
+    private final int[][] takenCounts = new int[MAX_CANDIDATES][Constants.TOTAL_COLORS];
+    private final int[][] takenValues = new int[MAX_CANDIDATES][Constants.TOTAL_COLORS];
+
+    /**
+     * Most and fewest open cards any opponent holds of each color.
+     */
+    private final int[] opponentMax = new int[Constants.TOTAL_COLORS];
+    private final int[] opponentMin = new int[Constants.TOTAL_COLORS];
+
+    // ============================ Previews ============================
+    /**
+     * Previews playing each of the player's closed cards into the parade.
+     *
+     * @param self    The player about to play.
+     * @param parade  The parade as it is now.
+     * @param players Every player at the table, including self.
+     * @throws IllegalArgumentException if the hand holds more cards than a
+     *                                  hand can.
+     */
+    public void previewPlays(Player self, Parade parade, List<Player> players) {
+        loadHand(self);
+        parade.getRemovalMasks(cardIds, size, removalMasks);
+        collectIntakes(parade);
+        updateOpponentCounts(self, players);
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            for (int colorIndex = 0; colorIndex < Constants.TOTAL_COLORS; colorIndex++) {
+                if (takenCounts[i][colorIndex] != 0) {
+                    delta += colorScoreDelta(self, colorIndex, takenCounts[i][colorIndex],
+                            takenValues[i][colorIndex], players.size());
+                }
+            }
+            scoreDeltas[i] = delta;
+        }
+    }
+
+    /**
+     * Previews opening each of the player's closed cards in the final play,
+     * where the card itself is the only one taken.
+     *
+     * @param self    The player about to open a card.
+     * @param players Every player at the table, including self.
+     * @throws IllegalArgumentException if the hand holds more cards than a
+     *                                  hand can.
+     */
+    public void previewOpenings(Player self, List<Player> players) {
+        loadHand(self);
+        updateOpponentCounts(self, players);
+        for (int i = 0; i < size; i++) {
+            Card card = Card.fromId(cardIds[i]);
+            removalMasks[i] = 0;
+            scoreDeltas[i] = colorScoreDelta(self, card.getColorIndex(), 1, card.getValue(), players.size());
+        }
+    }
+
+    // ============================ Getters ============================
+    /**
+     * @return The number of cards previewed.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index The index of the card in the hand.
+     * @return The positions of the parade cards the card would take.
+     */
+    public long getRemovalMask(int index) {
+        return removalMasks[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index The index of the card in the hand.
+     * @return The number of parade cards the card would take.
+     */
+    public int getTakenCount(int index) {
+        return Long.bitCount(getRemovalMask(index));
+    }
+
+    /**
+     * @param index The index of the card in the hand.
+     * @return How much the card would raise the player's projected score.
+     */
+    public int getScoreDelta(int index) {
+        return scoreDeltas[Objects.checkIndex(index, size)];
+    }
+
+    // ============================ Helpers ============================
+    private void loadHand(Player self) {
+        List<Card> hand = self.getClosedCards();
+        if (hand.size() > MAX_CANDIDATES) {
+            throw new IllegalArgumentException("A hand holds at most " + MAX_CANDIDATES + " cards.");
+        }
+        size = hand.size();
+        for (int i = 0; i < size; i++) {
+            cardIds[i] = hand.get(i).getId();
+        }
+    }
+
+    /**
+     * Walks the parade once, over every position some candidate would take,
+     * and adds each card to the intake of those candidates.
+     */
+    private void collectIntakes(Parade parade) {
+        long anyTaken = 0;
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(takenCounts[i], 0);
+            Arrays.fill(takenValues[i], 0);
+            anyTaken |= removalMasks[i];
+        }
+        for (long mask = anyTaken; mask != 0; mask &= mask - 1) {
+            int position = Long.numberOfTrailingZeros(mask);
+            Card card = Card.fromId(parade.getCardId(position));
+            int colorIndex = card.getColorIndex();
+            long bit = 1L << position;
+            for (int i = 0; i < size; i++) {
+                if ((removalMasks[i] & bit) != 0) {
+                    takenCounts[i][colorIndex]++;
+                    takenValues[i][colorIndex] += card.getValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns how much adding cards of one color to the player's open cards
+     * would raise the projected score of that color.
+     */
+    private int colorScoreDelta(Player self, int colorIndex, int addedCount, int addedValue, int playerCount) {
+        Color color = Color.fromIndex(colorIndex);
+        int count = self.getOpenCardCount(color);
+        int valueSum = self.getOpenCardValueSum(color);
+        return projectedColorScore(colorIndex, count + addedCount, valueSum + addedValue, playerCount)
+                - projectedColorScore(colorIndex, count, valueSum, playerCount);
+    }
+
+    /**
+     * Returns what the player's open cards of one color would be worth at
+     * the end of the game if the opponents' open cards stayed as they are.
+     */
+    private int projectedColorScore(int colorIndex, int count, int valueSum, int playerCount) {
+        return wouldFlip(colorIndex, count, playerCount)
+                ? count * Constants.FLIPPED_CARD_VALUE
+                : valueSum;
+    }
+
+    /**
+     * Applies CardFlipper.flips to the player holding the given number of
+     * cards of a color against the opponents' open cards.
+     */
+    private boolean wouldFlip(int colorIndex, int count, int playerCount) {
+        int max = Math.max(count, opponentMax[colorIndex]);
+        int min = Math.min(count, opponentMin[colorIndex]);
+        return CardFlipper.flips(count, max, min, playerCount);
+    }
+
+    /**
+     * Records, for each color, the most and fewest open cards held by any
+     * opponent.
+     */
+    private void updateOpponentCounts(Player self, List<Player> players) {
+        Arrays.fill(opponentMax, 0);
+        Arrays.fill(opponentMin, players.size() > 1 ? Integer.MAX_VALUE : 0);
+        for (Player player : players) {
+            if (player == self) {
+                continue;
+            }
+            for (int colorIndex = 0; colorIndex < Constants.TOTAL_COLORS; colorIndex++) {
+                int count = player.getOpenCardCount(Color.fromIndex(colorIndex));
+                opponentMax[colorIndex] = Math.max(opponentMax[colorIndex], count);
+                opponentMin[colorIndex] = Math.min(opponentMin[colorIndex], count);
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package game.ai;
+
+import game.core.*;
+import game.simulation.*;
+import game.utils.Constants;
+import java.util.*;
+
+/**
+ * Strategy that searches with Information Set Monte Carlo Tree Search
+ * (single-observer ISMCTS) and plays the card its simulations rate best.
+ *
+ * Like MctsStrategy, every iteration deals the cards the player cannot see at
+ * random, so the search never looks at the opponents' hands or the deck
+ * order. The statistics, however, are not stored in a tree of moves but per
+ * information set: each edge is keyed by the position before the move, as
+ * the searching player sees it, together with the card played. Positions
+ * reached by different move orders or different deals therefore share their
+ * statistics. Both are first relabeled by a ColorCanonicalizer, so positions
+ * that only differ by which color is which share them too.
+ *
+ * Because an opponent's cards differ from deal to deal, a move is not always
+ * legal when its position is visited. Each edge counts how often it was
+ * available, and UCB1 uses that count instead of the visits of the parent,
+ * so moves that are rarely possible are not over-explored.
+ *
+ * The edges live in a TranspositionTable with a fixed memory budget, and
+ * the table is kept from move to move, since an information set seen in an
+ * earlier search has the same value now: later searches start from what
+ * earlier ones learned about the positions still ahead.
+ */
+public class IsmctsStrategy implements Strategy {
+
+    /**
+     * UCB1 exploration constant, for rewards between 0 and 1.
+     */
+    private static final double EXPLORATION = 0.7;
+
+    // ============================ Instance Variables ============================
+    private final SplittableRandom random;
+    private final long timeBudgetNanos;
+    private final int maxIterations;
+    private final Strategy finalPlayStrategy;
+    private int lastIterations;
+
+    /**
+     * Edge statistics keyed by information set and card, kept for the whole
+     * game.
+     */
+    private final TranspositionTable edges;
+
+    /**
+     * Scratch arrays for one iteration: the keys and movers of the edges
+     * walked through, and the edges of the cards in the hand being considered.
+     */
+    private final long[] pathKeys = new long[Constants.TOTAL_CARDS + Constants.MAX_PLAYERS];
+    private final int[] pathMovers = new int[Constants.TOTAL_CARDS + Constants.MAX_PLAYERS];
+    private final TranspositionTable.Entry[] candidates = new TranspositionTable.Entry[GameState.MAX_HAND_SIZE];
+    private final TranspositionTable.Entry scratch = new TranspositionTable.Entry();
+    private final ColorCanonicalizer canonicalizer = new ColorCanonicalizer();
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs an IsmctsStrategy with the default budgets and its own
+     * random number generator.
+     */
+    public IsmctsStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs an IsmctsStrategy with the same default budgets as
+     * MctsStrategy.
+     *
+     * @param random The random number generator used to sample deals and playouts.
+     */
+    public IsmctsStrategy(SplittableRandom random) {
+        this(random, MctsStrategy.DEFAULT_TIME_BUDGET_NANOS, MctsStrategy.DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Constructs an IsmctsStrategy with the given budgets and a table of the
+     * default size.
+     *
+     * @param random          The random number generator used to sample deals and playouts.
+     * @param timeBudgetNanos The time budget per move in nanoseconds, or 0 for no time limit.
+     * @param maxIterations   The most iterations per move.
+     * @throws IllegalArgumentException if the budgets are invalid.
+     */
+    public IsmctsStrategy(SplittableRandom random, long timeBudgetNanos, int maxIterations) {
+        this(random, timeBudgetNanos, maxIterations, TranspositionTable.DEFAULT_MEMORY_BYTES);
+    }
+
+    /**
+     * Constructs an IsmctsStrategy with the given budgets.
+     *
+     * @param random          The random number generator used to sample deals and playouts.
+     * @param timeBudgetNanos The time budget per move in nanoseconds, or 0 for no time limit.
+     * @param maxIterations   The most iterations per move.
+     * @param tableBytes      The memory budget of the transposition table.
+     * @throws IllegalArgumentException if the budgets are invalid.
+     */
+    public IsmctsStrategy(SplittableRandom random, long timeBudgetNanos, int maxIterations, long tableBytes) {
+        if (timeBudgetNanos < 0 || maxIterations < 1) {
+            throw new IllegalArgumentException("Invalid search budget.");
+        }
+        this.random = random;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.maxIterations = maxIterations;
+        this.finalPlayStrategy = new GreedyStrategy(random);
+        this.edges = new TranspositionTable(tableBytes);
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = new TranspositionTable.Entry();
+        }
+    }
+
+    // ============================ Strategy Methods ============================
+    @Override
+    public int chooseCardToPlay(Player self, Parade parade, List<Player> players) {
+        List<Card> hand = self.getClosedCards();
+        if (hand.size() == 1) {
+            return 0;
+        }
+
+        GameState root = GameState.observe(self, parade, players);
+        search(root);
+
+        long rootKey = canonicalizer.canonicalInformationSetKey(root);
+        int bestIndex = 0;
+        int bestVisits = -1;
+        for (int i = 0; i < hand.size(); i++) {
+            int canonicalCard = canonicalizer.toCanonicalCard(hand.get(i).getId());
+            if (edges.load(edgeKey(rootKey, canonicalCard), scratch) && scratch.visits > bestVisits) {
+                bestIndex = i;
+                bestVisits = scratch.visits;
+            }
+        }
+        return bestIndex;
+    }
+
+    @Override
+    public int chooseCardToOpen(Player self, List<Player> players) {
+        return finalPlayStrategy.chooseCardToOpen(self, players);
+    }
+
+    @Override
+    public String getName() {
+        return "ISMCTS";
+    }
+
+    /**
+     * @return The number of iterations run for the last move, for tuning.
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    // ============================ Search ============================
+    /**
+     * Runs iterations from the given state until a budget runs out.
+     */
+    private void search(GameState root) {
+        edges.newSearch();
+        GameState state = new GameState(root.getPlayerCount());
+        double[] rewards = new double[root.getPlayerCount()];
+
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        int iterations = 0;
+        do {
+            state.copyFrom(root);
+            state.determinize(random);
+            runIteration(state, rewards);
+            iterations++;
+        } while (iterations < maxIterations && (timeBudgetNanos == 0 || System.nanoTime() < deadline));
+
+        lastIterations = iterations;
+    }
+
+    /**
+     * Runs one selection, expansion, playout and backpropagation pass on a
+     * freshly determinized state.
+     */
+    private void runIteration(GameState state, double[] rewards) {
+        int depth = 0;
+        boolean expanded = false;
+        while (!expanded && !state.isTurnPhaseOver()) {
+            int player = state.getCurrentPlayer();
+            int handSize = state.getHandSize(player);
+            long key = canonicalizer.canonicalInformationSetKey(state);
+
+            // Every move legal in this deal was available, whether or not it is picked
+            int untriedIndex = -1;
+            int untried = 0;
+            for (int i = 0; i < handSize; i++) {
+                long edgeKey = edgeKey(key, canonicalizer.toCanonicalCard(state.getHandCard(player, i)));
+                TranspositionTable.Entry edge = candidates[i];
+                if (edges.load(edgeKey, edge) && edge.visits > 0) {
+                    edge.availability++;
+                    edges.store(edgeKey, edge);
+                } else if (random.nextInt(++untried) == 0) {
+                    untriedIndex = i;
+                }
+            }
+
+            int handIndex;
+            if (untriedIndex >= 0) {
+                handIndex = untriedIndex;
+                expanded = true;
+            } else {
+                handIndex = selectMove(handSize);
+            }
+            pathKeys[depth] = edgeKey(key, canonicalizer.toCanonicalCard(state.getHandCard(player, handIndex)));
+            pathMovers[depth++] = player;
+            state.playCard(handIndex);
+        }
+
+        while (!state.isTurnPhaseOver()) {
+            state.playCard(PlayoutPolicy.chooseMove(state, random));
+        }
+        state.finishGame();
+        state.computeRewards(rewards);
+
+        // The new edge is stored here too, with its first visit
+        for (int i = 0; i < depth; i++) {
+            if (!edges.load(pathKeys[i], scratch)) {
+                scratch.clear();
+                scratch.availability = 1;
+            }
+            scratch.visits++;
+            scratch.totalReward += rewards[pathMovers[i]];
+            edges.store(pathKeys[i], scratch);
+        }
+    }
+
+    /**
+     * Picks the candidate edge with the highest UCB1 value, counting the
+     * times each was available rather than the visits of the position.
+     *
+     * @return The index of the card in the hand.
+     */
+    private int selectMove(int handSize) {
+        int best = 0;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < handSize; i++) {
+            TranspositionTable.Entry edge = candidates[i];
+            double value = edge.totalReward / edge.visits
+                    + EXPLORATION * Math.sqrt(Math.log(edge.availability) / edge.visits);
+            if (value > bestValue) {
+                best = i;
+                bestValue = value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Combines a canonical information set key with the canonical card
+     * played from it.
+     */
+    private static long edgeKey(long informationSetKey, int cardId) {
+        return informationSetKey + cardId * 0x9e3779b97f4a7c15L;
+    }
+}
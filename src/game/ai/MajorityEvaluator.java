@@ -0,0 +1,57 @@
+package game.ai;
+
+import game.gameplay.managers.CardFlipper;
+import game.simulation.GameState;
+import game.utils.Constants;
+import java.util.Arrays;
+
+/**
+ * Default Evaluator: scores every player as if the game ended now, flipping
+ * each color for the players that hold its majority with the same rules as
+ * CardFlipper, and turns the score differences into the expected fraction
+ * of opponents the player finishes ahead of.
+ *
+ * Each opponent counts as a win with a logistic probability of the score
+ * difference, so a lead of SCORE_SCALE points is worth about 73% of a win
+ * against that opponent.
+ */
+public class MajorityEvaluator implements Evaluator {
+
+    /**
+     * Score difference, in points, that the logistic curve is scaled to.
+     */
+    public static final double SCORE_SCALE = 5.0;
+
+    /**
+     * Scratch array for the projected score of each player.
+     */
+    private final int[] projectedScores = new int[Constants.MAX_PLAYERS];
+
+    @Override
+    public double evaluate(GameState state, int player) {
+        int playerCount = state.getPlayerCount();
+        Arrays.fill(projectedScores, 0, playerCount, 0);
+        for (int color = 0; color < Constants.TOTAL_COLORS; color++) {
+            int max = 0;
+            int min = Integer.MAX_VALUE;
+            for (int p = 0; p < playerCount; p++) {
+                max = Math.max(max, state.getOpenCardCount(p, color));
+                min = Math.min(min, state.getOpenCardCount(p, color));
+            }
+            for (int p = 0; p < playerCount; p++) {
+                int count = state.getOpenCardCount(p, color);
+                projectedScores[p] += CardFlipper.flips(count, max, min, playerCount)
+                        ? count * Constants.FLIPPED_CARD_VALUE
+                        : state.getOpenCardValueSum(p, color);
+            }
+        }
+
+        double wins = 0;
+        for (int q = 0; q < playerCount; q++) {
+            if (q != player) {
+                wins += 1 / (1 + Math.exp((projectedScores[player] - projectedScores[q]) / SCORE_SCALE));
+            }
+        }
+        return playerCount > 1 ? wins / (playerCount - 1) : UPPER_BOUND;
+    }
+}
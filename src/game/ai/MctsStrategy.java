@@ -0,0 +1,506 @@
+package game.ai;
+
+import game.core.*;
+import game.simulation.GameState;
+import game.utils.Constants;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Strategy that searches the rest of the game with Monte Carlo Tree Search
+ * (UCT) and plays the card its simulations rate best.
+ *
+ * Each iteration deals the cards the player cannot see, the opponents' hands
+ * and the deck, at random into a copy of the observed GameState, walks down
+ * the tree picking moves for every player with the UCB1 formula, adds one new
+ * node and plays the game out with a cheap heuristic. The outcome, rated by
+ * GameState.computeRewards, is then added to every node on the path from the
+ * point of view of the player who made that node's move. Children are keyed
+ * by card ID, so one tree is shared by all the sampled deals.
+ *
+ * The search can run on several threads that all walk the same tree. There is
+ * no lock: node statistics are updated with atomic adds and children are
+ * attached with compare-and-set, so two threads expanding the same move end
+ * up sharing one node. A node's visit is counted on the way down and its
+ * reward only on the way back up, which acts as a virtual loss: while a
+ * thread is still playing out below a node, the node looks worse to the
+ * other threads, which spreads them over different lines. By default, and on
+ * a single core, the search runs on the calling thread alone, since many
+ * games may share the JVM; the thread count is chosen per strategy.
+ *
+ * Helper threads come from a small shared pool with a bounded queue. A helper
+ * that finds the pool busy is dropped and the search goes on with fewer
+ * threads, and helpers still queued when a search stops are removed, so an
+ * idle pool holds no trees.
+ *
+ * The search stops when its time budget or iteration budget runs out,
+ * whichever comes first. Only the deadline check and the node creation happen
+ * per iteration beyond the simulation itself, which allocates nothing, so the
+ * time per move stays close to the budget. The final play is left to a greedy
+ * strategy.
+ */
+public class MctsStrategy implements Strategy {
+
+    /**
+     * Default time budget per move. Together with the one-iteration overrun,
+     * this keeps moves well within 50 ms.
+     */
+    public static final long DEFAULT_TIME_BUDGET_NANOS = 20_000_000L;
+
+    /**
+     * Default iteration budget per move, which bounds the size of the tree.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 200_000;
+
+    /**
+     * UCB1 exploration constant, for rewards between 0 and 1.
+     */
+    private static final double EXPLORATION = 0.7;
+
+    // ============================ Instance Variables ============================
+    private final SplittableRandom random;
+    private final long timeBudgetNanos;
+    private final int maxIterations;
+    private final int threads;
+    private final Strategy finalPlayStrategy;
+    private int lastIterations;
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs an MctsStrategy with the default budgets and its own random
+     * number generator.
+     */
+    public MctsStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a single-threaded MctsStrategy with the default budgets.
+     *
+     * @param random The random number generator used to sample deals and playouts.
+     */
+    public MctsStrategy(SplittableRandom random) {
+        this(random, DEFAULT_TIME_BUDGET_NANOS, DEFAULT_MAX_ITERATIONS, 1);
+    }
+
+    /**
+     * Constructs a single-threaded MctsStrategy with the given budgets.
+     *
+     * @param random          The random number generator used to sample deals and playouts.
+     * @param timeBudgetNanos The time budget per move in nanoseconds, or 0 for no time limit.
+     * @param maxIterations   The most iterations per move.
+     * @throws IllegalArgumentException if the budgets are invalid.
+     */
+    public MctsStrategy(SplittableRandom random, long timeBudgetNanos, int maxIterations) {
+        this(random, timeBudgetNanos, maxIterations, 1);
+    }
+
+    /**
+     * Constructs an MctsStrategy with the given budgets that searches on up
+     * to the given number of threads. Only as many threads as there are
+     * available cores are used.
+     *
+     * @param random          The random number generator used to sample deals and playouts.
+     * @param timeBudgetNanos The time budget per move in nanoseconds, or 0 for no time limit.
+     * @param maxIterations   The most iterations per move, over all threads.
+     * @param threads         The most threads to search with, including the calling thread.
+     * @throws IllegalArgumentException if the budgets or the thread count are invalid.
+     */
+    public MctsStrategy(SplittableRandom random, long timeBudgetNanos, int maxIterations, int threads) {
+        if (timeBudgetNanos < 0 || maxIterations < 1) {
+            throw new IllegalArgumentException("Invalid search budget.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threads);
+        }
+        this.random = random;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.maxIterations = maxIterations;
+        this.threads = threads;
+        this.finalPlayStrategy = new GreedyStrategy(random);
+    }
+
+    // ============================ Strategy Methods ============================
+    @Override
+    public int chooseCardToPlay(Player self, Parade parade, List<Player> players) {
+        List<Card> hand = self.getClosedCards();
+        if (hand.size() == 1) {
+            return 0;
+        }
+
+        GameState root = GameState.observe(self, parade, players);
+        Node rootNode = search(root);
+
+        AtomicReferenceArray<Node> children = rootNode.getChildren();
+        int bestCard = -1;
+        int bestVisits = -1;
+        for (int cardId = 0; cardId < Constants.TOTAL_CARDS; cardId++) {
+            Node child = children.get(cardId);
+            if (child != null && child.visits > bestVisits) {
+                bestCard = cardId;
+                bestVisits = child.visits;
+            }
+        }
+        return hand.indexOf(Card.fromId(bestCard));
+    }
+
+    @Override
+    public int chooseCardToOpen(Player self, List<Player> players) {
+        return finalPlayStrategy.chooseCardToOpen(self, players);
+    }
+
+    @Override
+    public String getName() {
+        return "MCTS";
+    }
+
+    /**
+     * @return The number of iterations run for the last move over all
+     *         threads, for tuning.
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * @return The number of threads the search actually runs on, which is at
+     *         most the number of available cores.
+     */
+    public int getSearchThreads() {
+        return Math.min(threads, Runtime.getRuntime().availableProcessors());
+    }
+
+    // ============================ Search ============================
+    /**
+     * Runs iterations from the given state until a budget runs out, on the
+     * calling thread and on helper threads from a shared pool if more than
+     * one thread is used. Helpers the pool has not started by then are
+     * removed from its queue.
+     *
+     * @return The root of the search tree.
+     */
+    private Node search(GameState root) {
+        Node rootNode = new Node(-1);
+        SearchBudget budget = new SearchBudget(System.nanoTime() + timeBudgetNanos);
+        int workerCount = getSearchThreads();
+
+        Worker[] helpers = new Worker[workerCount - 1];
+        for (int i = 0; i < helpers.length; i++) {
+            helpers[i] = new Worker(root, rootNode, budget, random.split());
+            HelperPool.EXECUTOR.execute(helpers[i]);
+        }
+        Worker caller = new Worker(root, rootNode, budget, random);
+        caller.search();
+        budget.stopAndAwaitHelpers();
+        for (Worker helper : helpers) {
+            HelperPool.EXECUTOR.remove(helper);
+        }
+
+        int iterations = caller.iterations;
+        for (Worker helper : helpers) {
+            iterations += helper.iterations;
+        }
+        lastIterations = iterations;
+        return rootNode;
+    }
+
+    /**
+     * The budgets of one search, shared by all its threads.
+     */
+    private final class SearchBudget {
+        private final long deadline;
+        private final AtomicInteger claimedIterations = new AtomicInteger();
+        private final AtomicInteger activeHelpers = new AtomicInteger();
+        private volatile boolean stopped;
+
+        SearchBudget(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * Reserves one iteration. The first iteration is always granted, so
+         * that the root has at least one child.
+         *
+         * @return true if the iteration may run.
+         */
+        boolean claimIteration() {
+            if (stopped) {
+                return false;
+            }
+            int claimed = claimedIterations.getAndIncrement();
+            return claimed == 0
+                    || (claimed < maxIterations && (timeBudgetNanos == 0 || System.nanoTime() < deadline));
+        }
+
+        /**
+         * Registers a helper thread that is about to search.
+         *
+         * @return false if the search is already over, in which case the
+         *         helper must not touch the tree.
+         */
+        boolean enterHelper() {
+            activeHelpers.incrementAndGet();
+            if (stopped) {
+                activeHelpers.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        void exitHelper() {
+            activeHelpers.decrementAndGet();
+        }
+
+        /**
+         * Stops the search and waits for the helpers still running their last
+         * iteration, which takes microseconds. Helpers that have not started
+         * yet will see the stop and leave the tree alone.
+         */
+        void stopAndAwaitHelpers() {
+            stopped = true;
+            while (activeHelpers.get() > 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * One search thread, with its own copy of the game state, random stream
+     * and scratch arrays. Only the tree is shared between workers.
+     */
+    private final class Worker implements Runnable {
+        private final GameState root;
+        private final Node rootNode;
+        private final SearchBudget budget;
+        private final SplittableRandom random;
+        private final GameState state;
+        private final Node[] path = new Node[Constants.TOTAL_CARDS + Constants.MAX_PLAYERS + 1];
+        private final double[] rewards;
+        private int iterations;
+
+        Worker(GameState root, Node rootNode, SearchBudget budget, SplittableRandom random) {
+            this.root = root;
+            this.rootNode = rootNode;
+            this.budget = budget;
+            this.random = random;
+            this.state = new GameState(root.getPlayerCount());
+            this.rewards = new double[root.getPlayerCount()];
+        }
+
+        /**
+         * Entry point of a helper thread.
+         */
+        @Override
+        public void run() {
+            if (!budget.enterHelper()) {
+                return;
+            }
+            try {
+                search();
+            } finally {
+                budget.exitHelper();
+            }
+        }
+
+        void search() {
+            while (budget.claimIteration()) {
+                state.copyFrom(root);
+                state.determinize(random);
+                runIteration();
+                iterations++;
+            }
+        }
+
+        /**
+         * Runs one selection, expansion, playout and backpropagation pass on a
+         * freshly determinized state.
+         */
+        private void runIteration() {
+            Node node = rootNode;
+            node.addVisit();
+            int depth = 0;
+            path[depth++] = node;
+
+            boolean expanded = false;
+            while (!expanded && !state.isTurnPhaseOver()) {
+                int player = state.getCurrentPlayer();
+                AtomicReferenceArray<Node> children = node.getChildren();
+
+                int handIndex = pickUntriedMove(children);
+                if (handIndex >= 0) {
+                    int cardId = state.getHandCard(player, handIndex);
+                    Node child = new Node(player);
+                    Node existing = children.compareAndExchange(cardId, null, child);
+                    if (existing == null) {
+                        node = child;
+                        expanded = true;
+                    } else {
+                        // Another thread expanded this move first, so walk through its node
+                        node = existing;
+                        node.addVisit();
+                    }
+                } else {
+                    handIndex = selectMove(node, children);
+                    node = children.get(state.getHandCard(player, handIndex));
+                    node.addVisit();
+                }
+                state.playCard(handIndex);
+                path[depth++] = node;
+            }
+
+            while (!state.isTurnPhaseOver()) {
+                state.playCard(PlayoutPolicy.chooseMove(state, random));
+            }
+            state.finishGame();
+            state.computeRewards(rewards);
+
+            for (int i = 0; i < depth; i++) {
+                Node visited = path[i];
+                if (visited.mover >= 0) {
+                    visited.addReward(rewards[visited.mover]);
+                }
+            }
+        }
+
+        /**
+         * Picks a random card of the current hand that has no node yet.
+         *
+         * @return The index of the card in the hand, or -1 if every card has a node.
+         */
+        private int pickUntriedMove(AtomicReferenceArray<Node> children) {
+            int player = state.getCurrentPlayer();
+            int chosen = -1;
+            int untried = 0;
+            for (int i = 0; i < state.getHandSize(player); i++) {
+                if (children.get(state.getHandCard(player, i)) == null && random.nextInt(++untried) == 0) {
+                    chosen = i;
+                }
+            }
+            return chosen;
+        }
+
+        /**
+         * Picks the card of the current hand with the highest UCB1 value.
+         *
+         * @return The index of the card in the hand.
+         */
+        private int selectMove(Node node, AtomicReferenceArray<Node> children) {
+            int player = state.getCurrentPlayer();
+            double logVisits = Math.log(node.visits);
+            int best = 0;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < state.getHandSize(player); i++) {
+                Node child = children.get(state.getHandCard(player, i));
+                int visits = child.visits;
+                double value = child.getTotalReward() / visits
+                        + EXPLORATION * Math.sqrt(logVisits / visits);
+                if (value > bestValue) {
+                    best = i;
+                    bestValue = value;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Daemon threads that help the calling thread search, shared by every
+     * MctsStrategy and created on first use. One fewer than the number of
+     * cores, since the calling thread searches too, and at most as many
+     * queued helpers; more are discarded.
+     */
+    private static final class HelperPool {
+        private static final int THREADS = Math.max(Runtime.getRuntime().availableProcessors() - 1, 1);
+
+        static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(THREADS, THREADS,
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(THREADS),
+                new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable task) {
+                        Thread thread = new Thread(task, "mcts-helper-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    // ============================ Tree ============================
+    /**
+     * A node of the search tree, reached by one move of one player. Nodes are
+     * shared by all search threads and updated without locks.
+     */
+    private static final class Node {
+        /**
+         * Rewards are summed as fixed-point longs so they can be added
+         * atomically. Rewards are multiples of 1 / (2 * (players - 1)), which
+         * this scale represents closely enough for UCB1.
+         */
+        private static final double REWARD_SCALE = 1 << 20;
+
+        private static final AtomicIntegerFieldUpdater<Node> VISITS =
+                AtomicIntegerFieldUpdater.newUpdater(Node.class, "visits");
+        private static final AtomicLongFieldUpdater<Node> TOTAL_REWARD =
+                AtomicLongFieldUpdater.newUpdater(Node.class, "scaledTotalReward");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, AtomicReferenceArray> CHILDREN =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, AtomicReferenceArray.class, "children");
+
+        /**
+         * The player who made the move leading to this node, or -1 for the root.
+         */
+        final int mover;
+
+        /**
+         * Visits, counted when a thread walks down through the node. A new
+         * node starts with the visit of the thread that created it.
+         */
+        volatile int visits;
+
+        /**
+         * Sum of the rewards, counted when a thread walks back up.
+         */
+        private volatile long scaledTotalReward;
+
+        /**
+         * Child nodes indexed by the ID of the card played, created on the
+         * first visit.
+         */
+        private volatile AtomicReferenceArray<Node> children;
+
+        Node(int mover) {
+            this.mover = mover;
+            this.visits = 1;
+        }
+
+        void addVisit() {
+            VISITS.incrementAndGet(this);
+        }
+
+        void addReward(double reward) {
+            TOTAL_REWARD.addAndGet(this, Math.round(reward * REWARD_SCALE));
+        }
+
+        double getTotalReward() {
+            return scaledTotalReward / REWARD_SCALE;
+        }
+
+        /**
+         * Returns the children of this node, creating the array if no thread
+         * has yet.
+         */
+        AtomicReferenceArray<Node> getChildren() {
+            AtomicReferenceArray<Node> current = children;
+            if (current == null) {
+                current = new AtomicReferenceArray<>(Constants.TOTAL_CARDS);
+                if (!CHILDREN.compareAndSet(this, null, current)) {
+                    current = children;
+                }
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package game.ai;
+
+import game.simulation.GameState;
+import java.util.SplittableRandom;
+
+/**
+ * The cheap move policy that the tree searches use to play simulated games
+ * to the end once they leave their trees.
+ */
+class PlayoutPolicy {
+
+    /**
+     * One move in this many is random instead of heuristic, so that the
+     * playouts do not all follow the same line.
+     */
+    private static final int RANDOM_MOVE_ONE_IN = 8;
+
+    /**
+     * Mostly plays the card that takes the least face value from the parade,
+     * sometimes a random card.
+     *
+     * @param state  The simulated game.
+     * @param random The random number generator of the calling search thread.
+     * @return The index of the card in the current hand.
+     */
+    static int chooseMove(GameState state, SplittableRandom random) {
+        int player = state.getCurrentPlayer();
+        int handSize = state.getHandSize(player);
+        if (random.nextInt(RANDOM_MOVE_ONE_IN) == 0) {
+            return random.nextInt(handSize);
+        }
+
+        int best = 0;
+        int bestCost = Integer.MAX_VALUE;
+        for (int i = 0; i < handSize; i++) {
+            long removalMask = state.getParade().getRemovalMask(state.getHandCard(player, i));
+            int cost = state.removalValue(removalMask);
+            if (cost < bestCost) {
+                best = i;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+}
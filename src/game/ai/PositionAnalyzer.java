@@ -0,0 +1,410 @@
+package game.ai;
+
+import game.core.*;
+import game.setup.GameSeed;
+import game.simulation.GameState;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Rates every card the player to move could play by playing the rest of the
+ * game out many times after each one, for post-game review and for tuning
+ * the bots against a stronger reference.
+ *
+ * A rollout deals the cards the player cannot see at random, plays the
+ * candidate card, plays the remaining turns with the playout policy of the
+ * tree searches and finishes the game as GameState does, whose scoring and
+ * ranking follow CardFlipper and WinnerDeterminer. It yields the player's
+ * final score and their share of the win, so each move gets an expected
+ * score and a win probability, both with a normal confidence interval.
+ *
+ * Rollout i deals the same cards for every move, so the moves are compared
+ * on the same worlds. The rollouts run in rounds on a fixed thread pool, in
+ * chunks whose results are merged in a fixed order: with the same seed, an
+ * analysis gives the same numbers on any number of threads. After each
+ * round, once every move has MIN_ROLLOUTS rollouts, the moves whose win
+ * interval lies entirely below the interval of the best move are dropped,
+ * and the analysis stops as soon as a single move is left.
+ *
+ * An analyzer keeps its threads until it is closed, and analyzes one
+ * position at a time.
+ */
+public class PositionAnalyzer implements AutoCloseable {
+
+    /**
+     * Default most rollouts per move.
+     */
+    public static final int DEFAULT_MAX_ROLLOUTS = 10_000;
+
+    /**
+     * Default width of the confidence intervals, in standard errors: about
+     * 95% confidence.
+     */
+    public static final double DEFAULT_CONFIDENCE_Z = 1.96;
+
+    /**
+     * Rollouts every move needs before any move is dropped, so that the
+     * normal intervals are meaningful.
+     */
+    public static final int MIN_ROLLOUTS = 512;
+
+    /**
+     * Rollouts added to each remaining move per round.
+     */
+    private static final int ROLLOUTS_PER_ROUND = 256;
+
+    /**
+     * Rollouts run by one task of the pool.
+     */
+    private static final int ROLLOUTS_PER_TASK = 64;
+
+    // ============================ Instance Variables ============================
+    private final ExecutorService pool;
+    private final int maxRollouts;
+    private final double confidenceZ;
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs a PositionAnalyzer with the default budgets.
+     *
+     * @param threads The number of worker threads.
+     * @throws IllegalArgumentException if the thread count is invalid.
+     */
+    public PositionAnalyzer(int threads) {
+        this(threads, DEFAULT_MAX_ROLLOUTS, DEFAULT_CONFIDENCE_Z);
+    }
+
+    /**
+     * Constructs a PositionAnalyzer with the given budgets.
+     *
+     * @param threads     The number of worker threads.
+     * @param maxRollouts The most rollouts per move.
+     * @param confidenceZ The width of the confidence intervals in standard errors.
+     * @throws IllegalArgumentException if a setting is invalid.
+     */
+    public PositionAnalyzer(int threads, int maxRollouts, double confidenceZ) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required.");
+        }
+        if (maxRollouts < 1 || !(confidenceZ > 0)) {
+            throw new IllegalArgumentException("Invalid analysis budget.");
+        }
+        this.maxRollouts = maxRollouts;
+        this.confidenceZ = confidenceZ;
+        this.pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "position-analyzer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ============================ Analysis ============================
+    /**
+     * Analyzes the position of a real game as seen by the player to move.
+     *
+     * @param self    The player to move.
+     * @param parade  The current parade.
+     * @param players Every player at the table in turn order.
+     * @param seed    The seed the rollouts are dealt from.
+     * @return The rating of each card in the player's hand.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    public Analysis analyze(Player self, Parade parade, List<Player> players, long seed)
+            throws InterruptedException {
+        return analyze(GameState.observe(self, parade, players), seed);
+    }
+
+    /**
+     * Analyzes a position as seen by its observer, who must be the player to
+     * move. The position is left as given.
+     *
+     * @param position The position.
+     * @param seed     The seed the rollouts are dealt from.
+     * @return The rating of each card in the observer's hand.
+     * @throws InterruptedException if the thread is interrupted.
+     * @throws IllegalArgumentException if the observer is not to move or the
+     *                                  turns are over.
+     */
+    public Analysis analyze(GameState position, long seed) throws InterruptedException {
+        if (position.isTurnPhaseOver() || position.getCurrentPlayer() != position.getObserver()) {
+            throw new IllegalArgumentException("The observer has no card to play.");
+        }
+        int player = position.getObserver();
+        MoveAnalysis[] moves = new MoveAnalysis[position.getHandSize(player)];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = new MoveAnalysis(i, Card.fromId(position.getHandCard(player, i)), confidenceZ);
+        }
+
+        List<MoveAnalysis> remaining = new ArrayList<>(Arrays.asList(moves));
+        boolean stoppedEarly = false;
+        while (!remaining.isEmpty()) {
+            runRound(position, seed, remaining);
+            dropBeatenMoves(moves);
+            remaining.removeIf(move -> move.dropped || move.rollouts >= maxRollouts);
+            if (moves.length > 1 && countKept(moves) == 1) {
+                stoppedEarly = true;
+                break;
+            }
+        }
+        return new Analysis(moves, stoppedEarly);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    // ============================ Rollouts ============================
+    /**
+     * Adds up to ROLLOUTS_PER_ROUND rollouts to each of the given moves.
+     */
+    private void runRound(GameState position, long seed, List<MoveAnalysis> moves) throws InterruptedException {
+        List<MoveAnalysis> owners = new ArrayList<>();
+        List<Future<Sample>> parts = new ArrayList<>();
+        for (MoveAnalysis move : moves) {
+            int end = Math.min(move.rollouts + ROLLOUTS_PER_ROUND, maxRollouts);
+            for (int from = move.rollouts; from < end; from += ROLLOUTS_PER_TASK) {
+                int partFrom = from;
+                int partTo = Math.min(from + ROLLOUTS_PER_TASK, end);
+                int handIndex = move.handIndex;
+                owners.add(move);
+                parts.add(pool.submit(() -> rollOut(position, seed, handIndex, partFrom, partTo)));
+            }
+        }
+        try {
+            for (int i = 0; i < parts.size(); i++) {
+                owners.get(i).add(getResult(parts.get(i)));
+            }
+        } finally {
+            for (Future<Sample> part : parts) {
+                part.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Plays the rollouts with indices from first to end, exclusive, after the
+     * card at the given index of the observer's hand.
+     */
+    private static Sample rollOut(GameState position, long seed, int handIndex, int first, int end) {
+        int player = position.getObserver();
+        GameState state = new GameState(position.getPlayerCount());
+        Sample sample = new Sample();
+        for (int rollout = first; rollout < end; rollout++) {
+            SplittableRandom random = new SplittableRandom(GameSeed.mix64(seed + rollout));
+            state.copyFrom(position);
+            state.determinize(random);
+            state.playCard(handIndex);
+            while (!state.isTurnPhaseOver()) {
+                state.playCard(PlayoutPolicy.chooseMove(state, random));
+            }
+            state.finishGame();
+            sample.add(state.getScore(player), state.winShare(player));
+        }
+        return sample;
+    }
+
+    /**
+     * Marks the moves whose win interval lies entirely below the interval of
+     * the move with the highest win probability, once every remaining move
+     * has enough rollouts.
+     */
+    private void dropBeatenMoves(MoveAnalysis[] moves) {
+        MoveAnalysis best = null;
+        for (MoveAnalysis move : moves) {
+            if (move.dropped) {
+                continue;
+            }
+            if (move.rollouts < MIN_ROLLOUTS) {
+                return;
+            }
+            if (best == null || move.getWinProbability() > best.getWinProbability()) {
+                best = move;
+            }
+        }
+        for (MoveAnalysis move : moves) {
+            if (!move.dropped && move.getWinHigh() < best.getWinLow()) {
+                move.dropped = true;
+            }
+        }
+    }
+
+    private static int countKept(MoveAnalysis[] moves) {
+        int kept = 0;
+        for (MoveAnalysis move : moves) {
+            if (!move.dropped) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    private static Sample getResult(Future<Sample> part) throws InterruptedException {
+        try {
+            return part.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Position analysis failed", e.getCause());
+        }
+    }
+
+    /**
+     * Sums of the scores and win shares of a batch of rollouts and of their
+     * squares.
+     */
+    private static final class Sample {
+        long count;
+        long scoreSum;
+        long scoreSquareSum;
+        double winSum;
+        double winSquareSum;
+
+        void add(int score, double win) {
+            count++;
+            scoreSum += score;
+            scoreSquareSum += (long) score * score;
+            winSum += win;
+            winSquareSum += win * win;
+        }
+    }
+
+    // ============================ Results ============================
+    /**
+     * The rating of every card the player could play.
+     */
+    public static class Analysis {
+        private final List<MoveAnalysis> moves;
+        private final boolean stoppedEarly;
+
+        private Analysis(MoveAnalysis[] moves, boolean stoppedEarly) {
+            this.moves = List.of(moves);
+            this.stoppedEarly = stoppedEarly;
+        }
+
+        /**
+         * @return One rating per card, in hand order.
+         */
+        public List<MoveAnalysis> getMoves() {
+            return moves;
+        }
+
+        /**
+         * @return The rating of the card with the highest win probability,
+         * ties going to the lower expected score.
+         */
+        public MoveAnalysis getBestMove() {
+            MoveAnalysis best = moves.get(0);
+            for (MoveAnalysis move : moves) {
+                if (move.getWinProbability() > best.getWinProbability()
+                        || (move.getWinProbability() == best.getWinProbability()
+                                && move.getMeanScore() < best.getMeanScore())) {
+                    best = move;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * @return true if every move but one was dropped as clearly worse.
+         */
+        public boolean isStoppedEarly() {
+            return stoppedEarly;
+        }
+
+        /**
+         * @return The number of rollouts over all moves.
+         */
+        public long getTotalRollouts() {
+            long total = 0;
+            for (MoveAnalysis move : moves) {
+                total += move.getRollouts();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * The rating of one card: expected final score and win probability of
+     * the player after playing it, each with its confidence interval.
+     */
+    public static class MoveAnalysis {
+        private final int handIndex;
+        private final Card card;
+        private final double confidenceZ;
+        private int rollouts;
+        private long scoreSum;
+        private long scoreSquareSum;
+        private double winSum;
+        private double winSquareSum;
+        private boolean dropped;
+
+        private MoveAnalysis(int handIndex, Card card, double confidenceZ) {
+            this.handIndex = handIndex;
+            this.card = card;
+            this.confidenceZ = confidenceZ;
+        }
+
+        private void add(Sample sample) {
+            rollouts += (int) sample.count;
+            scoreSum += sample.scoreSum;
+            scoreSquareSum += sample.scoreSquareSum;
+            winSum += sample.winSum;
+            winSquareSum += sample.winSquareSum;
+        }
+
+        public int getHandIndex() {
+            return handIndex;
+        }
+
+        public Card getCard() {
+            return card;
+        }
+
+        public int getRollouts() {
+            return rollouts;
+        }
+
+        /**
+         * @return true if the move was dropped as clearly worse than another.
+         */
+        public boolean isDropped() {
+            return dropped;
+        }
+
+        public double getMeanScore() {
+            return rollouts == 0 ? 0 : (double) scoreSum / rollouts;
+        }
+
+        public double getScoreLow() {
+            return getMeanScore() - margin(scoreSum, scoreSquareSum);
+        }
+
+        public double getScoreHigh() {
+            return getMeanScore() + margin(scoreSum, scoreSquareSum);
+        }
+
+        public double getWinProbability() {
+            return rollouts == 0 ? 0 : winSum / rollouts;
+        }
+
+        public double getWinLow() {
+            return Math.max(getWinProbability() - margin(winSum, winSquareSum), 0);
+        }
+
+        public double getWinHigh() {
+            return Math.min(getWinProbability() + margin(winSum, winSquareSum), 1);
+        }
+
+        /**
+         * Returns the half width of the confidence interval of a mean, from
+         * the sum of the samples and of their squares.
+         */
+        private double margin(double sum, double squareSum) {
+            if (rollouts < 2) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double mean = sum / rollouts;
+            double variance = Math.max(squareSum / rollouts - mean * mean, 0) * rollouts / (rollouts - 1);
+            return confidenceZ * Math.sqrt(variance / rollouts);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package game.ai;
+
+import game.core.*;
+import java.util.*;
+
+/**
+ * Strategy that plays a random card from the hand. Useful as a baseline
+ * opponent in simulations.
+ */
+public class RandomStrategy implements Strategy {
+
+    // ============================ Instance Variables ============================
+    private final SplittableRandom random;
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs a RandomStrategy with its own random number generator.
+     */
+    public RandomStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a RandomStrategy using the given random number generator.
+     *
+     * @param random The random number generator used to pick cards.
+     */
+    public RandomStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    // ============================ Strategy Methods ============================
+    @Override
+    public int chooseCardToPlay(Player self, Parade parade, List<Player> players) {
+        return random.nextInt(self.getClosedCards().size());
+    }
+
+    @Override
+    public int chooseCardToOpen(Player self, List<Player> players) {
+        return random.nextInt(self.getClosedCards().size());
+    }
+
+    @Override
+    public String getName() {
+        return "Random";
+    }
+}
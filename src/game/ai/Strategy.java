@@ -0,0 +1,37 @@
+package game.ai;
+
+import game.core.*;
+import java.util.List;
+
+/**
+ * Decides which cards a computer player plays. Each computer player owns its
+ * own strategy instance, so a strategy may keep per-game state such as its
+ * random number generator. Strategies see every player at the table, but must
+ * only use what a human could see: their own hand and everyone's open cards.
+ */
+public interface Strategy {
+
+    /**
+     * Chooses the card to play into the parade.
+     *
+     * @param self    The player the strategy plays for.
+     * @param parade  The current parade.
+     * @param players Every player at the table, including self.
+     * @return The index of the chosen card in the player's closed cards.
+     */
+    int chooseCardToPlay(Player self, Parade parade, List<Player> players);
+
+    /**
+     * Chooses a card to add to the open cards during the final play.
+     *
+     * @param self    The player the strategy plays for.
+     * @param players Every player at the table, including self.
+     * @return The index of the chosen card in the player's closed cards.
+     */
+    int chooseCardToOpen(Player self, List<Player> players);
+
+    /**
+     * @return A short name identifying the strategy in simulation reports.
+     */
+    String getName();
+}
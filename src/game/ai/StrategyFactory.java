@@ -0,0 +1,74 @@
+package game.ai;
+
+import java.util.SplittableRandom;
+
+/**
+ * Creates a strategy for one player of one game. The factory is handed the
+ * player's own random stream, so that seeded games stay reproducible.
+ */
+@FunctionalInterface
+public interface StrategyFactory {
+
+    /**
+     * @param random The random stream of the player the strategy is for.
+     * @return A new strategy instance.
+     */
+    Strategy create(SplittableRandom random);
+
+    /**
+     * Looks up the factory of a built-in strategy by name. "mcts" searches on
+     * the calling thread within a time budget per move. "mcts:N" limits it
+     * to N iterations per move and no time limit instead, which plays the
+     * same moves on any machine, and "ismcts:N" does the same for ISMCTS.
+     * "expectimax:D" searches D turns deep with no time limit.
+     * "endgame+NAME" plays the strategy NAME until the endgame is small
+     * enough to solve, and without a time limit if NAME has a fixed budget.
+     *
+     * @param name The strategy name (case-insensitive), as given by getName.
+     * @return The factory for that strategy.
+     * @throws IllegalArgumentException if there is no strategy with that name.
+     */
+    static StrategyFactory byName(String name) {
+        return byName(name, null);
+    }
+
+    /**
+     * Looks up the factory of a built-in strategy by name, giving "endgame+"
+     * strategies a table of solved two-player positions.
+     *
+     * @param name  The strategy name (case-insensitive), as given by getName.
+     * @param table The table of solved two-player positions, or null.
+     * @return The factory for that strategy.
+     * @throws IllegalArgumentException if there is no strategy with that name.
+     */
+    static StrategyFactory byName(String name, EndgameTable table) {
+        String lower = name.toLowerCase();
+        if (lower.startsWith("endgame+")) {
+            String fallbackName = lower.substring("endgame+".length());
+            StrategyFactory fallback = byName(fallbackName, table);
+            long timeBudgetNanos = fallbackName.contains(":") ? 0 : MctsStrategy.DEFAULT_TIME_BUDGET_NANOS;
+            return random -> new EndgameStrategy(fallback.create(random), random, timeBudgetNanos,
+                    EndgameStrategy.DEFAULT_MAX_DEALS, EndgameStrategy.DEFAULT_LEAF_BUDGET, table);
+        }
+        if (lower.startsWith("mcts:")) {
+            int iterations = Integer.parseInt(lower.substring("mcts:".length()));
+            return random -> new MctsStrategy(random, 0, iterations);
+        }
+        if (lower.startsWith("expectimax:")) {
+            int depth = Integer.parseInt(lower.substring("expectimax:".length()));
+            return random -> new ExpectimaxStrategy(random, 0, depth);
+        }
+        if (lower.startsWith("ismcts:")) {
+            int iterations = Integer.parseInt(lower.substring("ismcts:".length()));
+            return random -> new IsmctsStrategy(random, 0, iterations);
+        }
+        return switch (lower) {
+            case "random" -> RandomStrategy::new;
+            case "greedy" -> GreedyStrategy::new;
+            case "mcts" -> MctsStrategy::new;
+            case "ismcts" -> IsmctsStrategy::new;
+            case "expectimax" -> ExpectimaxStrategy::new;
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+}
@@ -0,0 +1,187 @@
+package game.ai;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size hash table of search statistics keyed by 64-bit Zobrist keys,
+ * which search threads can share without locks.
+ *
+ * The table is one long array sized from a memory budget, split into buckets
+ * of BUCKET_SIZE entries. An entry is three longs: a check word, the packed
+ * counts and the reward sum. The check word is the key XOR the two data
+ * words, so a reader that sees an entry half written by another thread gets
+ * a check that does not match and treats the entry as missing. Updates are
+ * plain read-modify-write, so concurrent updates of one entry may lose a
+ * visit, which search statistics tolerate.
+ *
+ * When a key is stored in a full bucket, it replaces the entry from the
+ * oldest search, and among those the entry with the fewest visits. Callers
+ * start a new search with newSearch, which ages the existing entries but
+ * keeps them, since statistics of the same key stay valid from move to move.
+ */
+public class TranspositionTable {
+
+    /**
+     * Default memory budget of a table.
+     */
+    public static final long DEFAULT_MEMORY_BYTES = 8L << 20;
+
+    /**
+     * Entries per bucket, all compared on a store.
+     */
+    public static final int BUCKET_SIZE = 4;
+
+    private static final int LONGS_PER_ENTRY = 3;
+    private static final int ENTRY_BYTES = LONGS_PER_ENTRY * Long.BYTES;
+
+    /**
+     * Layout of the counts word: visits and availability saturate at
+     * COUNT_MASK, the search generation wraps around.
+     */
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int GENERATION_SHIFT = 2 * COUNT_BITS;
+    private static final int GENERATION_MASK = (1 << (Long.SIZE - GENERATION_SHIFT)) - 1;
+
+    // ============================ Instance Variables ============================
+    private final long[] table;
+    private final int bucketMask;
+    private volatile int generation;
+
+    // ============================ Constructors ============================
+    /**
+     * Creates a table within the default memory budget.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_MEMORY_BYTES);
+    }
+
+    /**
+     * Creates a table with the largest power-of-two number of buckets that
+     * fits in the given memory budget.
+     *
+     * @param memoryBytes The memory budget in bytes.
+     * @throws IllegalArgumentException if the budget does not fit one bucket
+     *         or needs more than one array.
+     */
+    public TranspositionTable(long memoryBytes) {
+        long buckets = memoryBytes / ((long) BUCKET_SIZE * ENTRY_BYTES);
+        if (buckets < 1 || buckets * BUCKET_SIZE * LONGS_PER_ENTRY > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid memory budget: " + memoryBytes);
+        }
+        int bucketCount = Integer.highestOneBit((int) buckets);
+        this.table = new long[bucketCount * BUCKET_SIZE * LONGS_PER_ENTRY];
+        this.bucketMask = bucketCount - 1;
+    }
+
+    // ============================ Table Operations ============================
+    /**
+     * Starts a new search. Entries stored before are kept, but are replaced
+     * before the entries of the new search.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    /**
+     * Reads the statistics stored for a key.
+     *
+     * @param key   The key.
+     * @param entry Receives the statistics if the key is found.
+     * @return true if the key was found.
+     */
+    public boolean load(long key, Entry entry) {
+        int start = bucketStart(key);
+        for (int i = start; i < start + BUCKET_SIZE * LONGS_PER_ENTRY; i += LONGS_PER_ENTRY) {
+            long counts = table[i + 1];
+            long reward = table[i + 2];
+            if (counts != 0 && (table[i] ^ counts ^ reward) == key) {
+                entry.visits = (int) (counts & COUNT_MASK);
+                entry.availability = (int) ((counts >>> COUNT_BITS) & COUNT_MASK);
+                entry.totalReward = Double.longBitsToDouble(reward);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stores the statistics for a key, overwriting the key's entry if it is
+     * in the table and otherwise replacing the least valuable entry of its
+     * bucket. Entries with neither visits nor availability are not stored.
+     *
+     * @param key   The key.
+     * @param entry The statistics to store.
+     */
+    public void store(long key, Entry entry) {
+        int currentGeneration = generation;
+        int start = bucketStart(key);
+        int victim = start;
+        long victimRank = Long.MAX_VALUE;
+        for (int i = start; i < start + BUCKET_SIZE * LONGS_PER_ENTRY; i += LONGS_PER_ENTRY) {
+            long counts = table[i + 1];
+            if (counts == 0 || (table[i] ^ counts ^ table[i + 2]) == key) {
+                victim = i;
+                break;
+            }
+            // Entries of older searches go first, then entries with fewer visits
+            int age = (currentGeneration - (int) (counts >>> GENERATION_SHIFT)) & GENERATION_MASK;
+            long rank = ((long) (GENERATION_MASK - age) << COUNT_BITS) | (counts & COUNT_MASK);
+            if (rank < victimRank) {
+                victim = i;
+                victimRank = rank;
+            }
+        }
+
+        long counts = Math.min(entry.visits, COUNT_MASK)
+                | Math.min(entry.availability, COUNT_MASK) << COUNT_BITS
+                | (long) currentGeneration << GENERATION_SHIFT;
+        if ((counts & ~((long) GENERATION_MASK << GENERATION_SHIFT)) == 0) {
+            return;
+        }
+        long reward = Double.doubleToRawLongBits(entry.totalReward);
+        table[victim] = key ^ counts ^ reward;
+        table[victim + 1] = counts;
+        table[victim + 2] = reward;
+    }
+
+    /**
+     * Empties the table.
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+    }
+
+    /**
+     * @return The number of entries the table holds.
+     */
+    public int capacity() {
+        return table.length / LONGS_PER_ENTRY;
+    }
+
+    private int bucketStart(long key) {
+        int bucket = (int) (key ^ (key >>> 32)) & bucketMask;
+        return bucket * BUCKET_SIZE * LONGS_PER_ENTRY;
+    }
+
+    // ============================ Entry ============================
+    /**
+     * The statistics of one key, copied out of and into the table. Search
+     * threads keep their own entries and reuse them, so reading the table
+     * does not allocate.
+     */
+    public static final class Entry {
+        public int visits;
+        public int availability;
+        public double totalReward;
+
+        /**
+         * Resets the statistics to those of a key not seen yet.
+         */
+        public void clear() {
+            visits = 0;
+            availability = 0;
+            totalReward = 0;
+        }
+    }
+}
@@ -1,56 +1,132 @@
 package game.core;
 import game.renderer.CardUI;
+import game.utils.Constants;
 /**
  * Represents a playing card with a color and numerical value.
+ *
+ * Cards are immutable flyweights: there is exactly one instance per color and
+ * value, shared by every deck and game in the JVM. Each card is also
+ * addressable by a compact ID between 0 and TOTAL_CARDS - 1, so decks and
+ * simulations can store cards as bytes. Whether a card counts as flipped at
+ * the end of the game is tracked by the player holding it, not by the card.
  */
-public class Card {
+public final class Card {
+
+    // ============================ Card Registry ============================
+    /**
+     * The canonical card instances, indexed by card ID.
+     */
+    private static final Card[] CARDS = new Card[Constants.TOTAL_CARDS];
+
+    static {
+        for (int colorIndex = 0; colorIndex < Constants.TOTAL_COLORS; colorIndex++) {
+            for (int value = Constants.MINVALUEOFCARD; value <= Constants.MAXVALUEOFCARD; value++) {
+                int id = toId(colorIndex, value);
+                CARDS[id] = new Card(id, Color.fromIndex(colorIndex), value);
+            }
+        }
+    }
 
     // ============================ Attributes ============================
     /**
-     * The color of the card (e.g., "red", "blue").
+     * The compact ID of the card.
      */
-    private final String color;
+    private final byte id;
+
+    /**
+     * The color of the card.
+     */
+    private final Color color;
 
     /**
      * The numerical value of the card.
      */
-    private int value;
+    private final int value;
 
     // ============================ Constructor ============================
     /**
-     * Creates a card with the specified color and value.
-     *
-     * @param color The color of the card (case-insensitive).
-     * @param value The numerical value of the card.
+     * Creates a card with the specified ID, color and value. Only used to
+     * build the card registry.
      */
-    public Card(String color, int value) {
+    private Card(int id, Color color, int value) {
+        this.id = (byte) id;
         this.color = color;
         this.value = value;
     }
 
+    // ============================ Lookup ============================
+    /**
+     * Returns the card with the given ID.
+     *
+     * @param id The card ID, between 0 and TOTAL_CARDS - 1.
+     * @return The canonical card instance.
+     */
+    public static Card fromId(int id) {
+        return CARDS[id];
+    }
+
+    /**
+     * Returns the card with the given color and value.
+     *
+     * @param color The color of the card.
+     * @param value The numerical value of the card.
+     * @return The canonical card instance.
+     * @throws IllegalArgumentException if the value is out of range.
+     */
+    public static Card of(Color color, int value) {
+        if (value < Constants.MINVALUEOFCARD || value > Constants.MAXVALUEOFCARD) {
+            throw new IllegalArgumentException("Invalid card value: " + value);
+        }
+        return CARDS[toId(color.ordinal(), value)];
+    }
+
+    /**
+     * Returns the card with the given color name and value.
+     *
+     * @param color The name of the color (case-insensitive).
+     * @param value The numerical value of the card.
+     * @return The canonical card instance.
+     * @throws IllegalArgumentException if no such card exists.
+     */
+    public static Card of(String color, int value) {
+        return of(Color.fromName(color), value);
+    }
+
+    /**
+     * Computes the ID of the card with the given color index and value.
+     */
+    private static int toId(int colorIndex, int value) {
+        return colorIndex * Constants.CARDS_PER_COLOR + (value - Constants.MINVALUEOFCARD);
+    }
+
     // ============================ Getters============================
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return The ordinal of the card's color.
+     */
+    public int getColorIndex() {
+        return id / Constants.CARDS_PER_COLOR;
+    }
+
     public int getValue() {
         return value;
     }
 
-    public String getColor() {
+    public Color getColor() {
         return color;
     }
-    // ============================ Setters============================
-
-    //Mainly for testing purposes
-    public void setValue(int value) {
-        this.value = value;
-    }
 
     // ============================ Display Methods ============================
     /**
      * Returns a string representation of the card.
      *
-     * @return The string representation, either simple format or ASCII art.
+     * @return The one-line string representation of the card.
      */
     @Override
     public String toString() {
-        return CardUI.renderToString(this);
+        return CardUI.renderSimple(this);
     }
-}
\ No newline at end of file
+}
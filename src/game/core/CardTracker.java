@@ -0,0 +1,181 @@
+package game.core;
+
+import game.utils.Constants;
+import java.util.*;
+
+/**
+ * Keeps track of which cards have not been seen yet in one game, so that
+ * bots and hint tools can query them in constant time instead of going
+ * through the deck and every player's cards.
+ *
+ * A card is seen by everyone once it is played into the parade (including
+ * the cards that set up the parade) or opened during the final play; a card
+ * taken from the parade was already seen there. The tracker keeps the cards
+ * no one has seen as a 66-bit set, in two longs, together with a count per
+ * color. The cards a player has not seen are those cards minus the player's
+ * own hand, which holds at most five cards, so every query is O(1).
+ *
+ * GameManager creates one tracker per game, hands it to the parade and to
+ * every player, and the parade and players report to it as cards are
+ * revealed.
+ */
+public class CardTracker {
+
+    // ============================ Instance Variables ============================
+    /**
+     * Bits of the unseen cards with IDs 0-63 and 64-65.
+     */
+    private long unseenLow;
+    private long unseenHigh;
+
+    private final int[] unseenColorCounts;
+    private int unseenCount;
+
+    // ============================ Constructor ============================
+    /**
+     * Creates a tracker for a new game, where no card has been seen.
+     */
+    public CardTracker() {
+        this.unseenLow = -1L;
+        this.unseenHigh = (1L << (Constants.TOTAL_CARDS - Long.SIZE)) - 1;
+        this.unseenColorCounts = new int[Constants.TOTAL_COLORS];
+        Arrays.fill(unseenColorCounts, Constants.CARDS_PER_COLOR);
+        this.unseenCount = Constants.TOTAL_CARDS;
+    }
+
+    // ============================ Events ============================
+    /**
+     * Records that a card has been shown to every player. Revealing a card
+     * that was already seen has no effect.
+     *
+     * @param cardId The ID of the revealed card.
+     */
+    public void reveal(int cardId) {
+        long bit;
+        if (cardId < Long.SIZE) {
+            bit = unseenLow & (1L << cardId);
+            unseenLow &= ~bit;
+        } else {
+            bit = unseenHigh & (1L << (cardId - Long.SIZE));
+            unseenHigh &= ~bit;
+        }
+        if (bit != 0) {
+            unseenColorCounts[cardId / Constants.CARDS_PER_COLOR]--;
+            unseenCount--;
+        }
+    }
+
+    // ============================ Queries ============================
+    /**
+     * @return true if no player but the holder has seen the card.
+     */
+    public boolean isUnseen(int cardId) {
+        return cardId < Long.SIZE
+                ? (unseenLow & (1L << cardId)) != 0
+                : (unseenHigh & (1L << (cardId - Long.SIZE))) != 0;
+    }
+
+    /**
+     * @return The number of cards no player has seen, in the deck or in a hand.
+     */
+    public int getUnseenCount() {
+        return unseenCount;
+    }
+
+    /**
+     * @return The number of cards of the given color no player has seen.
+     */
+    public int getUnseenCount(Color color) {
+        return unseenColorCounts[color.ordinal()];
+    }
+
+    /**
+     * @return The number of cards the viewer has not seen: the deck and the
+     *         other players' hands.
+     */
+    public int getUnseenCount(Player viewer) {
+        return unseenCount - viewer.getClosedCards().size();
+    }
+
+    /**
+     * @return The number of cards of the given color the viewer has not seen.
+     */
+    public int getUnseenCount(Player viewer, Color color) {
+        int count = unseenColorCounts[color.ordinal()];
+        for (Card card : viewer.getClosedCards()) {
+            if (card.getColor() == color) {
+                count--;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the bits of the cards with IDs 0-63 that the viewer has not
+     * seen, bit i standing for card ID i.
+     */
+    public long getUnseenLow(Player viewer) {
+        long mask = unseenLow;
+        for (Card card : viewer.getClosedCards()) {
+            if (card.getId() < Long.SIZE) {
+                mask &= ~(1L << card.getId());
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the bits of the cards with IDs 64-65 that the viewer has not
+     * seen, bit i standing for card ID 64 + i.
+     */
+    public long getUnseenHigh(Player viewer) {
+        long mask = unseenHigh;
+        for (Card card : viewer.getClosedCards()) {
+            if (card.getId() >= Long.SIZE) {
+                mask &= ~(1L << (card.getId() - Long.SIZE));
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Draws a card uniformly at random from the cards the viewer has not
+     * seen, without removing it.
+     *
+     * @param viewer The player whose point of view is used.
+     * @param random The random number generator to draw with.
+     * @return The ID of the drawn card.
+     * @throws IllegalStateException if the viewer has seen every card.
+     */
+    public int sampleUnseen(Player viewer, SplittableRandom random) {
+        long low = getUnseenLow(viewer);
+        long high = getUnseenHigh(viewer);
+        int lowCount = Long.bitCount(low);
+        int total = lowCount + Long.bitCount(high);
+        if (total == 0) {
+            throw new IllegalStateException("No unseen cards left.");
+        }
+        int index = random.nextInt(total);
+        return index < lowCount
+                ? selectBit(low, index)
+                : Long.SIZE + selectBit(high, index - lowCount);
+    }
+
+    /**
+     * Returns the position of the set bit with the given rank, skipping whole
+     * bytes by their bit count first.
+     */
+    private static int selectBit(long mask, int rank) {
+        int shift = 0;
+        int byteCount;
+        while ((byteCount = Long.bitCount(mask & 0xFFL)) <= rank) {
+            rank -= byteCount;
+            mask >>>= Byte.SIZE;
+            shift += Byte.SIZE;
+        }
+        for (int i = 0; i < rank; i++) {
+            mask &= mask - 1;
+        }
+        return shift + Long.numberOfTrailingZeros(mask);
+    }
+}
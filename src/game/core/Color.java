@@ -0,0 +1,82 @@
+package game.core;
+
+import game.utils.Constants;
+
+/**
+ * The six card colors. A color's ordinal doubles as its index in per-color
+ * arrays and bitmasks, and cards with a lower color ordinal have lower IDs.
+ */
+public enum Color {
+    BLUE("Blue"),
+    GREEN("Green"),
+    GREY("Grey"),
+    ORANGE("Orange"),
+    PURPLE("Purple"),
+    RED("Red");
+
+    /**
+     * Shared copy of values(), which allocates a new array on every call.
+     */
+    private static final Color[] VALUES = values();
+
+    static {
+        if (VALUES.length != Constants.TOTAL_COLORS) {
+            throw new AssertionError("TOTAL_COLORS does not match the Color enum");
+        }
+    }
+
+    // ============================ Attributes ============================
+    /**
+     * The name of the color as shown to players.
+     */
+    private final String displayName;
+
+    // ============================ Constructor ============================
+    Color(String displayName) {
+        this.displayName = displayName;
+    }
+
+    // ============================ Lookup ============================
+    /**
+     * Returns the color with the given index.
+     *
+     * @param index The ordinal of the color, between 0 and TOTAL_COLORS - 1.
+     * @return The color.
+     */
+    public static Color fromIndex(int index) {
+        return VALUES[index];
+    }
+
+    /**
+     * Returns the color with the given name.
+     *
+     * @param name The name of the color (case-insensitive, "gray" is accepted).
+     * @return The color.
+     * @throws IllegalArgumentException if no color has that name.
+     */
+    public static Color fromName(String name) {
+        for (Color color : VALUES) {
+            if (color.displayName.equalsIgnoreCase(name)) {
+                return color;
+            }
+        }
+        if ("gray".equalsIgnoreCase(name)) {
+            return GREY;
+        }
+        throw new IllegalArgumentException("Invalid card color: " + name);
+    }
+
+    // ============================ Getters ============================
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the display name, so colors print the same as the former
+     * color strings.
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -1,14 +1,23 @@
 package game.core;
 
+import game.ai.*;
+import game.input.PlayerInput;
 import game.renderer.PlayerRenderer;
 import game.utils.Constants;
 import java.util.*;
 
 /**
- * Represents a computer player in the game. The computer player can play cards
- * randomly from its hand into the parade and perform final play moves.
+ * Represents a computer player in the game. The computer player plays cards
+ * from its hand into the parade and performs final play moves, choosing its
+ * cards with a Strategy (greedy by default).
  */
-public class Computer extends Player {
+public class Computer extends Player implements InteractivePlayer {
+    // ============================ Attributes ============================
+    /**
+     * The strategy used to choose which cards to play.
+     */
+    private final Strategy strategy;
+
     // ============================ Constructor ============================
 
     /**
@@ -17,64 +26,154 @@ public class Computer extends Player {
      * @param name The name of the computer player.
      */
     public Computer(String name) {
+        this(name, new GreedyStrategy());
+    }
+
+    /**
+     * Constructor for a Computer player using the given strategy.
+     *
+     * @param name     The name of the computer player.
+     * @param strategy The strategy used to choose cards.
+     */
+    public Computer(String name, Strategy strategy) {
         super(name);
+        this.strategy = strategy;
     }
 
     // ============================ Gameplay Methods ============================
     /**
-     * Allows the computer player to randomly play a card from its hand into the
-     * parade.
+     * Allows the computer player to play a card from its hand into the parade.
      *
      * @param parade The parade where the card will be added.
-     * @param scanner Scanner object (not used, but kept for consistency with
+     * @param input Player input (not used, but kept for consistency with
      * Human player).
+     * @param moveTimeoutMillis Not used, the computer player never waits
+     * for input.
      */
     @Override
-    public void playCard(Parade parade, Scanner scanner) {
+    public void playCard(Parade parade, PlayerInput input, long moveTimeoutMillis) {
+        Card selectedCard = playCard(parade);
+
+        PlayerRenderer.showComputerThinking(name);
+        PlayerRenderer.showPlayedCard(selectedCard, name);
+    }
+
+    /**
+     * Plays a card from the computer player's hand into the parade without
+     * any console output. Used by the headless simulation.
+     *
+     * @param parade The parade where the card will be added.
+     * @return The card that was played.
+     * @throws IllegalStateException if the computer player's hand is empty.
+     */
+    public Card playCard(Parade parade) {
 
         // Not necessary but kept for consistency
         if (closedCards.isEmpty()) {
             throw new IllegalStateException(name + " has no cards left to play!");
         }
 
-        // Select a random card from closedCards
-        int index = Constants.RANDOM.nextInt(closedCards.size());
-        Card selectedCard = closedCards.remove(index);
+        return playClosedCard(chooseCardToPlay(parade), parade);
+    }
 
-        // Add the selected card to the parade
-        PlayerRenderer.showComputerThinking(name);
-        PlayerRenderer.showPlayedCard(selectedCard, name);
+    /**
+     * Chooses the card to play into the parade without playing it. Only
+     * reads the game, so it may run on another thread while the game waits.
+     *
+     * @param parade The parade the card would be played into.
+     * @return The index of the card in the hand.
+     */
+    public int chooseCardToPlay(Parade parade) {
+        return strategy.chooseCardToPlay(this, parade, players);
+    }
+
+    /**
+     * Chooses the next card to open in the final play without opening it.
+     * Only reads the game, so it may run on another thread while the game
+     * waits.
+     *
+     * @return The index of the card in the hand.
+     */
+    public int chooseCardToOpen() {
+        return strategy.chooseCardToOpen(this, players);
+    }
+
+    /**
+     * Plays the closed card at the given index, chosen earlier with
+     * chooseCardToPlay, into the parade.
+     *
+     * @param index  The index of the card in the hand.
+     * @param parade The parade the card is played into.
+     * @return The card that was played.
+     */
+    public Card playCard(int index, Parade parade) {
+        return playClosedCard(index, parade);
+    }
 
-        parade.addCard(selectedCard);
+    /**
+     * Opens the closed card at the given index, chosen earlier with
+     * chooseCardToOpen.
+     *
+     * @param index The index of the card in the hand.
+     * @return The card added to the open cards.
+     */
+    public Card openCard(int index) {
+        return openClosedCard(index);
     }
 
     /**
-     * Executes the computer player's final play moves by randomly selecting and
-     * playing cards from its hand into the open cards.
-     * @param scanner Scanner object (not used, but kept for consistency with
+     * Executes the computer player's final play moves by selecting and playing
+     * cards from its hand into the open cards.
+     * @param input Player input (not used, but kept for consistency with
      * Human player).
+     * @param moveTimeoutMillis Not used, the computer player never waits
+     * for input.
      * @throws IllegalStateException if the computer player's hand is empty when
      * attempting to play.
      */
     @Override
-    public void finalPlay(Scanner scanner) {
+    public void finalPlay(PlayerInput input, long moveTimeoutMillis) {
         for (int i = 0; i < Constants.FINAL_PLAY_MOVES; i++) {
+            Card selectedCard = finalPlayCard();
 
-            // Not necessary but kept for consistency
-            if (closedCards.isEmpty()) {
-                throw new IllegalStateException(name + " has no cards left to play!");
-            }
-
-            // Select a random card
-            int index = Constants.RANDOM.nextInt(closedCards.size());
-            Card selectedCard = closedCards.remove(index);
-
-            // Display and add to open cards
+            // Display the card added to open cards
             PlayerRenderer.showComputerThinking(name);
             PlayerRenderer.showPlayedCard(selectedCard, name);
             PlayerRenderer.showCardAddedToOpenCards(name, selectedCard);
+        }
+    }
+
+    /**
+     * Executes the computer player's final play moves without any console
+     * output. Used by the headless simulation.
+     *
+     * @throws IllegalStateException if the computer player's hand is empty when
+     * attempting to play.
+     */
+    public void finalPlay() {
+        for (int i = 0; i < Constants.FINAL_PLAY_MOVES; i++) {
+            finalPlayCard();
+        }
+    }
 
-            openCards.computeIfAbsent(selectedCard.getColor(), key -> new ArrayList<>()).add(selectedCard);
+    /**
+     * Moves a single card chosen by the strategy from the computer player's
+     * hand into its open cards.
+     *
+     * @return The card added to the open cards.
+     */
+    private Card finalPlayCard() {
+
+        // Not necessary but kept for consistency
+        if (closedCards.isEmpty()) {
+            throw new IllegalStateException(name + " has no cards left to play!");
         }
+
+        return openClosedCard(chooseCardToOpen());
+    }
+
+    // ============================ Getters ============================
+    public Strategy getStrategy() {
+        return strategy;
     }
 }
@@ -6,14 +6,27 @@ import java.util.*;
 /**
  * Deck class represents the collection of cards in the game. It provides methods
  * to shuffle the deck, draw cards from the deck, and check if the deck is empty.
+ * The deck stores compact card IDs; the shared Card instances are looked up
+ * when a card is drawn.
  */
 public class Deck {
 
     // ============================ Instance Variables ============================
     /**
-     * List to hold all cards in the deck.
+     * IDs of the cards in the deck. The top of the deck is at index size - 1.
      */
-    private final List<Card> cards;
+    private final byte[] cards;
+
+    /**
+     * Number of cards left in the deck.
+     */
+    private int size;
+
+    /**
+     * Random number generator used for shuffling, owned by this deck so that
+     * concurrent games do not share any state.
+     */
+    private final SplittableRandom random;
 
     // ============================ Constructor ============================
     /**
@@ -21,33 +34,75 @@ public class Deck {
      * values. Each color will have cards numbered from 0 to 10.
      */
     public Deck() {
-        this.cards = new ArrayList<>();
-        for (String color : Constants.COLORS) {
-            for (int i = Constants.MINVALUEOFCARD; i <= Constants.MAXVALUEOFCARD; i++) { // Adding cards numbered 0 to 10
-                cards.add(new Card(color, i));
-            }
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor to initialize the deck with a specific random number
+     * generator for shuffling.
+     *
+     * @param random The random number generator used to shuffle the deck.
+     */
+    public Deck(SplittableRandom random) {
+        this.random = random;
+        this.cards = new byte[Constants.TOTAL_CARDS];
+        for (int id = 0; id < Constants.TOTAL_CARDS; id++) { // Card IDs run color by color, 0 to 10
+            cards[id] = (byte) id;
         }
+        this.size = Constants.TOTAL_CARDS;
     }
 
     // ============================ Deck Operations ============================
+    /**
+     * Shuffles the remaining cards with a Fisher-Yates walk driven by the
+     * deck's own random stream.
+     */
     public void shuffle() {
-        Collections.shuffle(cards);
+        for (int i = size; i > 1; i--) {
+            int j = random.nextInt(i);
+            byte card = cards[i - 1];
+            cards[i - 1] = cards[j];
+            cards[j] = card;
+        }
     }
 
     public Card removeCardFromDeck() {
-        return cards.isEmpty() ? null : cards.remove(cards.size() - 1);
+        return size == 0 ? null : Card.fromId(cards[--size]);
+    }
+
+    /**
+     * Removes the top card of the deck without looking up its Card instance.
+     *
+     * @return The ID of the removed card, or -1 if the deck is empty.
+     */
+    public int removeCardIdFromDeck() {
+        return size == 0 ? -1 : cards[--size];
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
 
     // ============================ Getters ============================
+    /**
+     * Returns a read-only view of the cards left in the deck, bottom first.
+     */
     public List<Card> getCards() {
-        return Collections.unmodifiableList(cards);
+        return new AbstractList<>() {
+            @Override
+            public Card get(int index) {
+                Objects.checkIndex(index, size);
+                return Card.fromId(cards[index]);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     public int size() {
-        return cards.size();
+        return size;
     }
 }
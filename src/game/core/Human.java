@@ -1,16 +1,28 @@
 package game.core;
 
-import game.exceptions.InvalidInputException;
-import game.renderer.CardUI;
+import game.ai.*;
+import game.exceptions.*;
+import game.input.PlayerInput;
 import game.renderer.PlayerRenderer;
 import game.utils.Constants;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents a human player in the game. The human player can play cards from
  * their hand into the parade and perform final play moves.
  */
-public class Human extends Player {
+public class Human extends Player implements InteractivePlayer {
+
+    /**
+     * Selection returned when the player asks for a hint instead of a card.
+     */
+    private static final int HINT = 0;
+
+    /**
+     * Works out what each card in hand would take from the parade.
+     */
+    private final IntakePreview intakePreview = new IntakePreview();
 
     // ============================ Constructor ============================
     public Human(String name) {
@@ -20,45 +32,68 @@ public class Human extends Player {
     // ============================ Gameplay Methods ============================
     /**
      * Allows the human player to select and play a card from their hand into
-     * the parade.
+     * the parade, after showing what each card would take from it. A player
+     * that does not choose in time gets the card a greedy player would play.
      *
      * @param parade The parade where the selected card will be added.
-     * @param scanner Scanner used for capturing the player's card selection
-     * input.
+     * @param input Input used for capturing the player's card selection.
+     * @param moveTimeoutMillis How long the player may take to choose, or 0
+     * for no limit.
      * @throws IllegalStateException if the player's hand is empty when
      * attempting to play.
      */
     @Override
-    public void playCard(Parade parade, Scanner scanner) {
+    public void playCard(Parade parade, PlayerInput input, long moveTimeoutMillis) {
 
         // Will never be empty but kept for consistency
         if (closedCards.isEmpty()) {
             throw new IllegalStateException(name + " has no cards left to play!");
         }
 
-        int cardIndex = getValidCardSelection(scanner, closedCards.size());
-        Card selectedCard = closedCards.remove(cardIndex - 1);
-        parade.addCard(selectedCard);
+        intakePreview.previewPlays(this, parade, players);
+        PlayerRenderer.showIntakePreview(getClosedCards(), parade, intakePreview);
+
+        int cardIndex;
+        try {
+            cardIndex = getValidCardSelection(input, closedCards.size(), false, deadlineOf(moveTimeoutMillis));
+        } catch (InputTimeoutException e) {
+            PlayerRenderer.showMoveTimedOut(name);
+            cardIndex = new GreedyStrategy().chooseCardToPlay(this, parade, players) + 1;
+        }
+        Card selectedCard = playClosedCard(cardIndex - 1, parade);
 
         PlayerRenderer.showPlayedCard(selectedCard, name);
     }
 
     /**
      * Allows the human player to select and move cards from their closed cards
-     * to open cards during the final play phase of the game.
+     * to open cards during the final play phase of the game. Entering H
+     * instead of a card number shows which cards the endgame solver would
+     * open. A player that does not choose a card in time gets the card a
+     * greedy player would open.
      *
-     * @param scanner Scanner used to capture user input for card selection.
+     * @param input Input used to capture the player's card selection.
+     * @param moveTimeoutMillis How long the player may take to choose each
+     * card, hints included, or 0 for no limit.
      */
 
     @Override
-    public void finalPlay(Scanner scanner) {
+    public void finalPlay(PlayerInput input, long moveTimeoutMillis) {
         for (int selection = 1; selection <= Constants.FINAL_PLAY_MOVES; selection++) {
             PlayerRenderer.showClosedCards(this);
-            int cardIndex = getValidCardSelection(scanner, closedCards.size());
-            Card selectedCard = closedCards.remove(cardIndex - 1);
-
-            CardUI.setSimpleDisplayMode(true);
-            openCards.computeIfAbsent(selectedCard.getColor(), key -> new ArrayList<>()).add(selectedCard);
+            long deadline = deadlineOf(moveTimeoutMillis);
+            int cardIndex;
+            try {
+                cardIndex = getValidCardSelection(input, closedCards.size(), true, deadline);
+                while (cardIndex == HINT) {
+                    showFinalPlayHint();
+                    cardIndex = getValidCardSelection(input, closedCards.size(), true, deadline);
+                }
+            } catch (InputTimeoutException e) {
+                PlayerRenderer.showMoveTimedOut(name);
+                cardIndex = new GreedyStrategy().chooseCardToOpen(this, players) + 1;
+            }
+            Card selectedCard = openClosedCard(cardIndex - 1);
             PlayerRenderer.showPlayedCard(selectedCard, name);
             PlayerRenderer.showCardAddedToOpenCards(name, selectedCard);
         }
@@ -77,13 +112,25 @@ public class Human extends Player {
     // ============================= Helpers ===============================
     /**
      * Handles and validates user input for selecting a card.
+     *
+     * @param deadline The System.nanoTime by which the player must have
+     * chosen, or 0 for no limit.
+     * @return The number of the card, or HINT if hints are allowed and the
+     * player asked for one.
+     * @throws InputTimeoutException if no valid choice was made by the
+     * deadline.
      */
-    private int getValidCardSelection(Scanner scanner, int maxCards) {
+    private int getValidCardSelection(PlayerInput input, int maxCards, boolean allowHint, long deadline)
+            throws InputTimeoutException {
         while (true) {
-            System.out.print("Enter the number of the card to play (1-" + maxCards + "): ");
+            System.out.print("Enter the number of the card to play (1-" + maxCards + ")"
+                    + (allowHint ? " or H for a hint" : "") + ": ");
             try {
-                String input = scanner.nextLine();
-                int index = Integer.parseInt(input);  // Throws NumberFormatException
+                String line = readLine(input, deadline);
+                if (allowHint && line.trim().equalsIgnoreCase("H")) {
+                    return HINT;
+                }
+                int index = Integer.parseInt(line);  // Throws NumberFormatException
 
                 if (index >= 1 && index <= maxCards) {
                     return index;
@@ -95,4 +142,40 @@ public class Human extends Player {
             }
         }
     }
+
+    /**
+     * Reads the next line, waiting at most until the deadline.
+     */
+    private static String readLine(PlayerInput input, long deadline) throws InputTimeoutException {
+        if (deadline == 0) {
+            return input.readLine();
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new InputTimeoutException("The time for the move is up.");
+        }
+        return input.readLine(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The System.nanoTime by which a move must be made, or 0 if
+     * there is no limit.
+     */
+    private static long deadlineOf(long moveTimeoutMillis) {
+        return moveTimeoutMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(moveTimeoutMillis) : 0;
+    }
+
+    /**
+     * Solves the final play from what the player can see and shows the
+     * cards worth opening.
+     */
+    private void showFinalPlayHint() {
+        if (cardTracker == null) {
+            PlayerRenderer.showNoHint();
+            return;
+        }
+        EndgameStrategy advisor = new EndgameStrategy(new GreedyStrategy(), new SplittableRandom());
+        int openMask = advisor.bestCardsToOpen(this, players);
+        PlayerRenderer.showFinalPlayHint(getClosedCards(), openMask, advisor.getLastExpectedReward());
+    }
 }
@@ -0,0 +1,34 @@
+package game.core;
+
+import game.input.PlayerInput;
+
+/**
+ * A player that takes its turns in a GameController game, reading its
+ * choices from the game's PlayerInput or, for a computer player, making
+ * them itself. Players whose moves arrive some other way, such as the
+ * RemotePlayer of a NetworkGame, do not implement it and cannot be seated
+ * in such a game.
+ */
+public interface InteractivePlayer {
+
+    /**
+     * Plays one card from the hand into the parade.
+     *
+     * @param parade            The parade the card is played into.
+     * @param input             The input the human players answer on.
+     * @param moveTimeoutMillis How long a human player may take to choose,
+     *                          or 0 for no limit; when it runs out, a card is
+     *                          chosen for them.
+     */
+    void playCard(Parade parade, PlayerInput input, long moveTimeoutMillis);
+
+    /**
+     * Moves the cards of the final play from the hand to the open cards.
+     *
+     * @param input             The input the human players answer on.
+     * @param moveTimeoutMillis How long a human player may take to choose
+     *                          each card, or 0 for no limit; when it runs
+     *                          out, the card is chosen for them.
+     */
+    void finalPlay(PlayerInput input, long moveTimeoutMillis);
+}
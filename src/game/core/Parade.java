@@ -7,20 +7,71 @@ import java.util.*;
  * Parade class represents the parade of cards in the game. It provides methods
  * to initialize the parade, add cards, check if it's empty, and retrieve
  * eligible cards for removal based on the last played card.
+ *
+ * The parade is stored as an array of card IDs together with one bitmask per
+ * color and per value, where bit i stands for the card at position i (the
+ * front of the parade is position 0). The cards to remove for a played card
+ * are then found with a few mask operations and returned as a single long,
+ * without allocating.
  */
 public class Parade {
 
-    private final List<Card> cards;
+    /**
+     * Most cards a parade can hold, one per bit of a mask. A real game never
+     * gets close, since every player always holds cards in hand.
+     */
+    public static final int MAX_LENGTH = Long.SIZE;
+
+    private final byte[] cards;
+    private int size;
+
+    /**
+     * For each color, the positions of the cards of that color.
+     */
+    private final long[] colorMasks;
+
+    /**
+     * For each value v, the positions of the cards with a value of at most v.
+     */
+    private final long[] valueAtMostMasks;
+
     private final Deck deck;
 
+    /**
+     * Tracker told about every card added to the parade, or null.
+     */
+    private final CardTracker cardTracker;
+
     // ============================ Constructor ============================
 
+    /**
+     * Constructor for a parade that is filled with addCard instead of from a
+     * deck, as done by simulations.
+     */
+    public Parade() {
+        this(null);
+    }
+
     /**
      * Constructor for Parade. Initializes an empty parade.
      */
     public Parade(Deck deck) {
+        this(deck, null);
+    }
+
+    /**
+     * Constructor for the parade of a real game, which reports every card
+     * added to it to the game's card tracker.
+     *
+     * @param deck        The deck the parade is initialized from.
+     * @param cardTracker The tracker of the game, or null.
+     */
+    public Parade(Deck deck, CardTracker cardTracker) {
         this.deck = deck;
-        this.cards = new ArrayList<>();
+        this.cardTracker = cardTracker;
+        this.cards = new byte[MAX_LENGTH];
+        this.colorMasks = new long[Constants.TOTAL_COLORS];
+        this.valueAtMostMasks = new long[Constants.CARDS_PER_COLOR];
     }
 
     // ======================== Parade Operations ==========================
@@ -29,20 +80,45 @@ public class Parade {
      * @throws IllegalStateException if there are not enough cards in the deck.
      */
     public void initializeParade() {
+        if (deck == null) {
+            throw new IllegalStateException("This parade has no deck to draw from");
+        }
         for (int i = 0; i < Constants.INITIAL_CARDS_OF_PARADE; i++) {
             if (deck.isEmpty()) {
                 throw new IllegalStateException("Not enough cards in the deck to initialize a Parade");
             }
-            cards.add(deck.removeCardFromDeck());
+            addCard(deck.removeCardFromDeck());
         }
     }
 
     public void addCard(Card card) {
-        cards.add(card);
+        addCardId(card.getId());
+    }
+
+    /**
+     * Adds the card with the given ID to the end of the parade.
+     *
+     * @param cardId The ID of the card to add.
+     * @throws IllegalStateException if the parade is full.
+     */
+    public void addCardId(int cardId) {
+        if (size == MAX_LENGTH) {
+            throw new IllegalStateException("Parade cannot hold more than " + MAX_LENGTH + " cards.");
+        }
+        cards[size] = (byte) cardId;
+        markPosition(size, cardId);
+        size++;
+        if (cardTracker != null) {
+            cardTracker.reveal(cardId);
+        }
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
     }
 
     /**
@@ -50,39 +126,179 @@ public class Parade {
      * @throws IllegalStateException if the parade is empty.
      */
     public Card getLastPlayedCard() {
-        if (cards.isEmpty()) {
+        if (size == 0) {
+            throw new IllegalStateException("Parade is empty.");
+        }
+        return Card.fromId(cards[size - 1]);
+    }
+
+    // ======================== Removal Masks ==========================
+    /**
+     * Returns the positions of the cards to remove for the last played card.
+     *
+     * @return A mask with bit i set if the card at position i must be removed.
+     * @throws IllegalStateException if the parade is empty.
+     */
+    public long getRemovalMask() {
+        if (size == 0) {
             throw new IllegalStateException("Parade is empty.");
         }
-        return cards.get(cards.size() - 1);
+        return removalMask(cards[size - 1], size - 1);
+    }
+
+    /**
+     * Returns the positions of the cards that would be removed if the given
+     * card were played now, without changing the parade.
+     *
+     * @param cardId The ID of the card that would be played.
+     * @return A mask with bit i set if the card at position i would be removed.
+     */
+    public long getRemovalMask(int cardId) {
+        return removalMask(cardId, size);
+    }
+
+    /**
+     * Returns the removal masks of several candidate cards at once, such as
+     * every card of a hand. The masks of the parade are kept up to date as
+     * cards come and go, so no candidate needs to walk the parade.
+     *
+     * @param cardIds The IDs of the candidate cards.
+     * @param count   The number of candidates.
+     * @param masks   Receives, at the index of each candidate, the positions
+     *                of the cards it would remove.
+     */
+    public void getRemovalMasks(int[] cardIds, int count, long[] masks) {
+        for (int i = 0; i < count; i++) {
+            masks[i] = removalMask(cardIds[i], size);
+        }
     }
 
+    /**
+     * Computes the removal mask for a card played behind the first
+     * paradeLength cards: the cards not protected by the played card's value
+     * that match its color or have a value no higher than it.
+     */
+    private long removalMask(int cardId, int paradeLength) {
+        Card playedCard = Card.fromId(cardId);
+        int toCount = Math.max(paradeLength - playedCard.getValue(), 0);
+        long eligiblePositions = toCount >= MAX_LENGTH ? -1L : (1L << toCount) - 1;
+        int valueIndex = playedCard.getValue() - Constants.MINVALUEOFCARD;
+        return eligiblePositions & (colorMasks[playedCard.getColorIndex()] | valueAtMostMasks[valueIndex]);
+    }
+
+    /**
+     * Removes the cards at the positions set in the mask, shifting the rest of
+     * the parade forward in place.
+     *
+     * @param removalMask A mask with bit i set for each position to remove.
+     */
+    public void removeMask(long removalMask) {
+        if (removalMask == 0) {
+            return;
+        }
+        Arrays.fill(colorMasks, 0);
+        Arrays.fill(valueAtMostMasks, 0);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removalMask & (1L << i)) == 0) {
+                cards[kept] = cards[i];
+                markPosition(kept, cards[kept]);
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Returns the ID of the card at the given position.
+     *
+     * @param position The position, where 0 is the front of the parade.
+     * @return The card ID.
+     */
+    public int getCardId(int position) {
+        Objects.checkIndex(position, size);
+        return cards[position];
+    }
+
+    /**
+     * Sets the bit for the given position in the masks of the card's color and
+     * of every value at or above the card's value.
+     */
+    private void markPosition(int position, int cardId) {
+        Card card = Card.fromId(cardId);
+        long bit = 1L << position;
+        colorMasks[card.getColorIndex()] |= bit;
+        for (int v = card.getValue() - Constants.MINVALUEOFCARD; v < valueAtMostMasks.length; v++) {
+            valueAtMostMasks[v] |= bit;
+        }
+    }
+
+    /**
+     * Replaces the contents of this parade with a copy of another parade,
+     * without allocating. Used to reset or branch simulated parades.
+     *
+     * @param other The parade to copy.
+     */
+    public void copyFrom(Parade other) {
+        System.arraycopy(other.cards, 0, cards, 0, other.size);
+        System.arraycopy(other.colorMasks, 0, colorMasks, 0, colorMasks.length);
+        System.arraycopy(other.valueAtMostMasks, 0, valueAtMostMasks, 0, valueAtMostMasks.length);
+        size = other.size;
+    }
+
+    // ======================== List-Based Operations ==========================
     /**
      * Retrieves cards eligible for removal based on the last played card.
      * @param playedCard The card triggering the removal logic.
      */
     public List<Card> getEligibleCards(Card playedCard) {
+        // The played card is the last card of the parade and never removes itself
+        long mask = removalMask(playedCard.getId(), Math.max(size - 1, 0));
+        return getCards(mask);
+    }
 
-        // Count the number of cards that will not be eligible for removal
-        int toCount = Math.max(cards.size() - playedCard.getValue() - 1, 0);
-        List<Card> eligibleCards = new ArrayList<>();
-
-        // Add cards that match the color or are less than the played card's value to eligibleCards
-        for (int i = 0; i < toCount; i++) {
-            Card card = cards.get(i);
-            if (card.getColor().equals(playedCard.getColor()) || playedCard.getValue() >= card.getValue()) {
-                eligibleCards.add(card);
+    public void removeCards(List<Card> cardsToRemove) {
+        long mask = 0;
+        for (Card card : cardsToRemove) {
+            for (int i = 0; i < size; i++) {
+                if (cards[i] == card.getId()) {
+                    mask |= 1L << i;
+                }
             }
         }
-        return eligibleCards;
+        removeMask(mask);
     }
 
-    public void removeCards(List<Card> cardsToRemove) {
-        cards.removeAll(cardsToRemove);
+    /**
+     * Returns the cards at the positions set in the mask, front to back.
+     *
+     * @param mask A mask with bit i set for each position to include.
+     */
+    public List<Card> getCards(long mask) {
+        List<Card> selected = new ArrayList<>(Long.bitCount(mask));
+        while (mask != 0) {
+            selected.add(Card.fromId(cards[Long.numberOfTrailingZeros(mask)]));
+            mask &= mask - 1;
+        }
+        return selected;
     }
 
     // ========================= Getter Methods ============================
 
+    /**
+     * Returns a read-only view of the parade, front first.
+     */
     public List<Card> getCards() {
-        return Collections.unmodifiableList(cards);
+        return new AbstractList<>() {
+            @Override
+            public Card get(int index) {
+                return Card.fromId(getCardId(index));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 }
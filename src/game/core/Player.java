@@ -23,13 +23,58 @@ public abstract class Player {
     /**
      * Open cards grouped by color (visible to all players).
      */
-    protected Map<String, List<Card>> openCards;
+    protected Map<Color, List<Card>> openCards;
 
     /**
-     * The player's current score.
+     * Colors of open cards that were flipped at the end of the game. Flipped
+     * cards are worth FLIPPED_CARD_VALUE each instead of their face value.
+     */
+    protected Set<Color> flippedColors;
+
+    /**
+     * The player's current score, kept up to date as open cards are added
+     * and colors are flipped.
      */
     protected int score;
 
+    // ============================ Open Card Aggregates ============================
+    /**
+     * Number of open cards of each color, indexed by color ordinal.
+     */
+    private final int[] colorCounts;
+
+    /**
+     * Sum of the face values of the open cards of each color, indexed by
+     * color ordinal.
+     */
+    private final int[] colorValueSums;
+
+    /**
+     * Total number of open cards.
+     */
+    private int totalOpenCards;
+
+    /**
+     * Colors the player holds at least one open card of, with bit i set for
+     * the color with ordinal i.
+     */
+    private int collectedColorMask;
+
+    /**
+     * Mask with one bit set for every color.
+     */
+    public static final int ALL_COLORS_MASK = (1 << Constants.TOTAL_COLORS) - 1;
+
+    /**
+     * Tracker of the cards seen in the current game, or null outside a game.
+     */
+    protected CardTracker cardTracker;
+
+    /**
+     * Every player at the table, including this one.
+     */
+    protected List<Player> players;
+
     // ============================ Constructor ============================
     /**
      * Creates a new player with the specified name.
@@ -39,8 +84,12 @@ public abstract class Player {
     public Player(String name) {
         this.name = name;
         this.closedCards = new ArrayList<>();
-        this.openCards = new HashMap<>();
+        this.openCards = new EnumMap<>(Color.class);
+        this.flippedColors = EnumSet.noneOf(Color.class);
+        this.colorCounts = new int[Constants.TOTAL_COLORS];
+        this.colorValueSums = new int[Constants.TOTAL_COLORS];
         this.score = 0;
+        this.players = List.of(this);
     }
     // ============================ Player Type Check ============================
     /**
@@ -52,11 +101,6 @@ public abstract class Player {
         return false;
     }
 
-    // ============================ Abstract Methods ============================
-    public abstract void playCard(Parade parade, Scanner scanner);
-
-    public abstract void finalPlay(Scanner scanner);
-
     // ============================ Card Initialization ============================
     /**
      * Initializes the player's closed cards by drawing cards from the deck.
@@ -87,18 +131,81 @@ public abstract class Player {
             return new ArrayList<>();
         }
 
-        Card playedCard = parade.getLastPlayedCard();
-        List<Card> cardsToReceive = parade.getEligibleCards(playedCard);
-        parade.removeCards(cardsToReceive);
-        addCardsToOpenCards(cardsToReceive);
+        List<Card> cardsToReceive = parade.getCards(parade.getRemovalMask());
+        takeCardsFromParade(parade);
 
         return cardsToReceive;
     }
 
-    private void addCardsToOpenCards(List<Card> cards) {
-        for (Card card : cards) {
-            openCards.computeIfAbsent(card.getColor(), key -> new ArrayList<>()).add(card);
+    /**
+     * Moves the cards removed by the last played card from the parade into
+     * the player's open cards, without building a list of them. Used by the
+     * headless simulation.
+     *
+     * @param parade The parade from which cards are drawn.
+     * @return The number of cards received.
+     */
+    public int takeCardsFromParade(Parade parade) {
+        if (parade.isEmpty()) {
+            return 0;
         }
+
+        long removalMask = parade.getRemovalMask();
+        for (long mask = removalMask; mask != 0; mask &= mask - 1) {
+            addCardToOpenCards(Card.fromId(parade.getCardId(Long.numberOfTrailingZeros(mask))));
+        }
+        parade.removeMask(removalMask);
+
+        return Long.bitCount(removalMask);
+    }
+
+    /**
+     * Adds a single card to the player's open cards under its color and
+     * updates the running counts and score.
+     *
+     * @param card The card to add.
+     */
+    protected void addCardToOpenCards(Card card) {
+        Color color = card.getColor();
+        openCards.computeIfAbsent(color, key -> new ArrayList<>()).add(card);
+
+        int colorIndex = color.ordinal();
+        colorCounts[colorIndex]++;
+        colorValueSums[colorIndex] += card.getValue();
+        totalOpenCards++;
+        collectedColorMask |= 1 << colorIndex;
+        score += flippedColors.contains(color) ? Constants.FLIPPED_CARD_VALUE : card.getValue();
+    }
+
+    // ============================ Hand Interaction ============================
+    /**
+     * Removes the closed card at the given index and adds it to the end of the
+     * parade.
+     *
+     * @param index The index of the card in the player's hand.
+     * @param parade The parade the card is played into.
+     * @return The card that was played.
+     */
+    protected Card playClosedCard(int index, Parade parade) {
+        Card card = closedCards.remove(index);
+        parade.addCard(card);
+        return card;
+    }
+
+    /**
+     * Removes the closed card at the given index and adds it to the player's
+     * open cards, as done during the final play.
+     *
+     * @param index The index of the card in the player's hand.
+     * @return The card that was moved to the open cards.
+     */
+    protected Card openClosedCard(int index) {
+        Card card = closedCards.remove(index);
+        addCardToOpenCards(card);
+        if (cardTracker != null) {
+            cardTracker.reveal(card.getId());
+        }
+        return card;
     }
 
     // ============================ Deck Interaction ============================
@@ -116,18 +223,79 @@ public abstract class Player {
 
     // ============================ Score Calculation ============================
     /**
-     * Calculates the player's score based on the total value of open cards.
+     * Calculates the player's score based on the total value of open cards,
+     * counting each card of a flipped color as FLIPPED_CARD_VALUE. The score
+     * is already kept up to date, so this only recomputes it from the
+     * per-color totals, undoing any setScore.
      */
     public void calculateScore() {
         score = 0;
-        for (List<Card> cards : openCards.values()) {
-            for (Card card : cards) {
-                score += card.getValue();
-            }
+        for (int colorIndex = 0; colorIndex < Constants.TOTAL_COLORS; colorIndex++) {
+            score += getColorScore(colorIndex);
         }
     }
 
+    /**
+     * @return The points the open cards of the given color are worth.
+     */
+    private int getColorScore(int colorIndex) {
+        return flippedColors.contains(Color.fromIndex(colorIndex))
+                ? colorCounts[colorIndex] * Constants.FLIPPED_CARD_VALUE
+                : colorValueSums[colorIndex];
+    }
+
+    // ============================ Card Flipping ============================
+    /**
+     * Flips all of the player's open cards of the given color.
+     *
+     * @param color The color to flip.
+     */
+    public void flipColor(Color color) {
+        int colorIndex = color.ordinal();
+        int faceValue = getColorScore(colorIndex);
+        if (flippedColors.add(color)) {
+            score += getColorScore(colorIndex) - faceValue;
+        }
+    }
+
+    /**
+     * Checks whether the player's open cards of the given color are flipped.
+     *
+     * @param color The color to check.
+     * @return true if the cards of that color are flipped.
+     */
+    public boolean isColorFlipped(Color color) {
+        return flippedColors.contains(color);
+    }
+
     // ============================ Getter Methods ============================
+    /**
+     * Lets the player see the other players at the table. Called by
+     * GameManager when the game is set up.
+     *
+     * @param players Every player at the table, including this one.
+     */
+    public void joinTable(List<Player> players) {
+        this.players = Collections.unmodifiableList(players);
+    }
+
+    /**
+     * Lets the player report the cards it opens to the game's tracker.
+     * Called by GameManager when the game is set up.
+     *
+     * @param cardTracker The tracker of the game.
+     */
+    public void setCardTracker(CardTracker cardTracker) {
+        this.cardTracker = cardTracker;
+    }
+
+    /**
+     * @return The tracker of the current game, or null outside a game.
+     */
+    public CardTracker getCardTracker() {
+        return cardTracker;
+    }
+
     public String getName() {
         return name;
     }
@@ -136,7 +304,7 @@ public abstract class Player {
         return Collections.unmodifiableList(closedCards);
     }
 
-    public Map<String, List<Card>> getOpenCards() {
+    public Map<Color, List<Card>> getOpenCards() {
         return Collections.unmodifiableMap(openCards);
     }
 
@@ -150,22 +318,53 @@ public abstract class Player {
      * @return The total count of open cards.
      */
     public int getTotalOpenCards() {
-        return openCards.values().stream()
-                .mapToInt(List::size)
-                .sum();
+        return totalOpenCards;
     }
 
     /**
-     * Counts the total number of colors in the player's open cards.
+     * Counts the number of different colors in the player's open cards.
      *
-     * @return The total color count of open cards.
+     * @return The number of colors the player holds open cards of.
      */
     public int getColorCount() {
-        int totalCount = 0;
-        for (List<Card> cards : openCards.values()) {
-            totalCount += cards.size();
-        }
-        return totalCount;
+        return Integer.bitCount(collectedColorMask);
+    }
+
+    /**
+     * Gets the number of open cards of the given color.
+     *
+     * @param color The color to count.
+     * @return The number of open cards of that color.
+     */
+    public int getOpenCardCount(Color color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * Gets the sum of the face values of the open cards of the given color.
+     *
+     * @param color The color to sum.
+     * @return The face value of the open cards of that color, ignoring flips.
+     */
+    public int getOpenCardValueSum(Color color) {
+        return colorValueSums[color.ordinal()];
+    }
+
+    /**
+     * @return A mask with bit i set if the player holds an open card of the
+     * color with ordinal i.
+     */
+    public int getCollectedColorMask() {
+        return collectedColorMask;
+    }
+
+    /**
+     * Checks if the player holds at least one open card of every color.
+     *
+     * @return true if every color has been collected.
+     */
+    public boolean hasAllColors() {
+        return collectedColorMask == ALL_COLORS_MASK;
     }
 
     // ============================ Setter Methods ============================
@@ -174,7 +373,17 @@ public abstract class Player {
     }
 
     // For testing of tiebreakers
-    public void setOpenCards(Map<String, List<Card>> openCards) {
-        this.openCards = new HashMap<>(openCards);
+    public void setOpenCards(Map<Color, List<Card>> openCards) {
+        this.openCards = new EnumMap<>(Color.class);
+        Arrays.fill(colorCounts, 0);
+        Arrays.fill(colorValueSums, 0);
+        totalOpenCards = 0;
+        collectedColorMask = 0;
+        score = 0;
+        for (List<Card> cards : openCards.values()) {
+            for (Card card : cards) {
+                addCardToOpenCards(card);
+            }
+        }
     }
 }
@@ -0,0 +1,25 @@
+package game.events;
+
+/**
+ * Receives the events an EventRing.Subscriber reads, on the subscriber's
+ * own thread.
+ */
+public interface EventHandler {
+
+    /**
+     * @param sequence The number of the event in its ring.
+     * @param type     The type of the event, one of GameEvent's.
+     * @param seat     The seat the event is about.
+     * @param card     The card ID, if the type has one.
+     * @param value    The value, if the type has one.
+     */
+    void onEvent(long sequence, int type, int seat, int card, long value);
+
+    /**
+     * Called when a conflating subscriber fell too far behind and skipped
+     * ahead to the newest event.
+     *
+     * @param count The number of events skipped.
+     */
+    void onMissed(long count);
+}
@@ -0,0 +1,202 @@
+package game.events;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A single-producer, multi-consumer ring of game events, so that one game
+ * can feed any number of spectators without waiting on any of them.
+ *
+ * The game's thread publishes each event once into a slot of a fixed ring
+ * of primitive arrays, allocating nothing. Every subscriber keeps its own
+ * cursor and reads at its own pace, without locks and without the producer
+ * knowing about it; publishing costs the same whether there are no
+ * subscribers or thousands. The producer never waits: a subscriber that
+ * falls a whole ring behind has been lapped, and is then either dropped or
+ * skipped ahead to the newest event, as chosen when it subscribed.
+ *
+ * Each slot has a stamp holding the sequence number of the event in it, or
+ * -1 while the producer rewrites it. A reader checks the stamp before and
+ * after reading the slot, so an event overwritten while it was being read
+ * is noticed rather than returned torn.
+ */
+public class EventRing {
+
+    /**
+     * What happens to a subscriber that falls a whole ring behind.
+     */
+    public enum Overflow {
+        /**
+         * The subscriber is closed.
+         */
+        DROP,
+        /**
+         * The subscriber skips to the newest event and is told how many
+         * events it missed.
+         */
+        CONFLATE
+    }
+
+    private static final long WRITING = -1;
+
+    // ============================ Instance Variables ============================
+    private final int mask;
+    private final int[] headers;
+    private final long[] values;
+    private final AtomicLongArray stamps;
+
+    /**
+     * The sequence number of the newest published event, -1 before the first.
+     */
+    private final AtomicLong cursor = new AtomicLong(-1);
+
+    /**
+     * The sequence number of the next event, only touched by the producer.
+     */
+    private long nextSequence;
+
+    // ============================ Constructor ============================
+    /**
+     * @param capacity The number of events the ring holds, a power of two.
+     * @throws IllegalArgumentException if the capacity is not a power of two.
+     */
+    public EventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two.");
+        }
+        this.mask = capacity - 1;
+        this.headers = new int[capacity];
+        this.values = new long[capacity];
+        this.stamps = new AtomicLongArray(capacity);
+        for (int slot = 0; slot < capacity; slot++) {
+            stamps.setPlain(slot, WRITING);
+        }
+    }
+
+    // ============================ Producer ============================
+    /**
+     * Publishes an event. Only one thread may publish into a ring.
+     *
+     * @param type  The type of the event, one of GameEvent's.
+     * @param seat  The seat the event is about, from 0 to 255.
+     * @param card  The card ID, from 0 to 255, or 0.
+     * @param value The value, or 0.
+     * @return The sequence number of the event.
+     */
+    public long publish(int type, int seat, int card, long value) {
+        long sequence = nextSequence++;
+        int slot = (int) sequence & mask;
+        stamps.setOpaque(slot, WRITING);
+        VarHandle.storeStoreFence();
+        headers[slot] = type << 16 | (seat & 0xFF) << 8 | (card & 0xFF);
+        values[slot] = value;
+        stamps.setRelease(slot, sequence);
+        cursor.setRelease(sequence);
+        return sequence;
+    }
+
+    // ============================ Consumers ============================
+    /**
+     * Subscribes from the next event to be published. May be called on any
+     * thread.
+     *
+     * @param overflow What happens if the subscriber falls a ring behind.
+     * @return The subscriber, to be polled by a single thread.
+     */
+    public Subscriber subscribe(Overflow overflow) {
+        return new Subscriber(this, cursor.get() + 1, overflow);
+    }
+
+    /**
+     * @return The sequence number of the newest event, -1 before the first.
+     */
+    public long getCursor() {
+        return cursor.getAcquire();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * One reader's position in the ring. A subscriber belongs to a single
+     * thread.
+     */
+    public static class Subscriber {
+        private final EventRing ring;
+        private final Overflow overflow;
+        private long next;
+        private boolean dropped;
+
+        private Subscriber(EventRing ring, long next, Overflow overflow) {
+            this.ring = ring;
+            this.next = next;
+            this.overflow = overflow;
+        }
+
+        /**
+         * Hands the subscriber's unread events to the handler, oldest first.
+         * A conflating subscriber that is skipped ahead stops there, after
+         * the handler is told how many events it missed, so the count comes
+         * between the events before and after the gap.
+         *
+         * @param handler Receives the events.
+         * @param limit   The most events to hand over.
+         * @return The number of events handed over, or -1 if the subscriber
+         * fell a ring behind and was dropped.
+         */
+        public int poll(EventHandler handler, int limit) {
+            if (dropped) {
+                return -1;
+            }
+            int handled = 0;
+            while (handled < limit) {
+                long newest = ring.cursor.getAcquire();
+                if (next > newest) {
+                    break;
+                }
+                int slot = (int) next & ring.mask;
+                long before = ring.stamps.getAcquire(slot);
+                int header = ring.headers[slot];
+                long value = ring.values[slot];
+                VarHandle.loadLoadFence();
+                long after = ring.stamps.getAcquire(slot);
+                if (before != next || after != next) {
+                    return overtaken(handler) ? handled : -1;
+                }
+                handler.onEvent(next, header >>> 16, header >>> 8 & 0xFF, header & 0xFF, value);
+                next++;
+                handled++;
+            }
+            return handled;
+        }
+
+        /**
+         * Deals with the producer having overwritten the next event, either
+         * dropping the subscriber or skipping it to the newest event.
+         *
+         * @return false if the subscriber is dropped.
+         */
+        private boolean overtaken(EventHandler handler) {
+            if (overflow == Overflow.DROP) {
+                dropped = true;
+                return false;
+            }
+            long newest = ring.cursor.getAcquire();
+            handler.onMissed(newest - next);
+            next = newest;
+            return true;
+        }
+
+        /**
+         * @return The sequence number of the next event to read.
+         */
+        public long getNext() {
+            return next;
+        }
+
+        public boolean isDropped() {
+            return dropped;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package game.events;
+
+/**
+ * The types of the events a game publishes into an EventRing. Each event
+ * carries a seat, a card ID and a value, whose meaning depends on the type;
+ * fields a type does not use are 0.
+ */
+public final class GameEvent {
+
+    /**
+     * A player is about to move. Value: the phase of the game (the ordinal
+     * of NetworkGame.Phase).
+     */
+    public static final int TURN_START = 1;
+
+    /**
+     * A card was played into the parade. Card: the card played.
+     */
+    public static final int CARD_PLAYED = 2;
+
+    /**
+     * Cards left the parade for a player's open cards. Value: their
+     * positions in the parade as it was with the played card at its end.
+     */
+    public static final int INTAKE = 3;
+
+    /**
+     * A player drew a card from the deck. The card is not given, since only
+     * the player who drew it may see it.
+     */
+    public static final int CARD_DRAWN = 4;
+
+    /**
+     * A player opened a card of their hand in the final play. Card: the card
+     * opened.
+     */
+    public static final int CARD_OPENED = 5;
+
+    /**
+     * A player's cards of one color were flipped. Value: the index of the
+     * color.
+     */
+    public static final int FLIP = 6;
+
+    /**
+     * The game is over and the seat won. Value: the winner's score.
+     */
+    public static final int WINNER = 7;
+
+    /**
+     * The game was stopped before it ended.
+     */
+    public static final int ABORTED = 8;
+
+    private GameEvent() {
+    }
+
+    /**
+     * @param type The type of an event.
+     * @return Whether the event is the last of its game.
+     */
+    public static boolean isFinal(int type) {
+        return type == WINNER || type == ABORTED;
+    }
+}
@@ -0,0 +1,10 @@
+package game.exceptions;
+
+/**
+ * Exception thrown when a player gives no input before a read times out.
+ */
+public class InputTimeoutException extends Exception {
+    public InputTimeoutException(String message) {
+        super(message);
+    }
+}
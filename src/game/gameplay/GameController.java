@@ -2,6 +2,7 @@ package game.gameplay;
 
 import game.core.*;
 import game.gameplay.managers.QuitHandler;
+import game.input.PlayerInput;
 import game.renderer.*;
 import game.setup.*;
 import game.utils.*;
@@ -20,27 +21,58 @@ public class GameController {
     private final Deck deck;
     private final Parade parade;
     private final List<Player> players;
-    private final Scanner scanner;
+    private final PlayerInput input;
+    private final long moveTimeoutMillis;
     private final Dice dice;
     private final StartingPlayerDecider startingPlayerdecider;
     private final QuitHandler quitHandler;
 
     // ============================ Constructor ============================
     /**
-     * Constructs a GameController with the given game manager and scanner.
+     * Constructs a GameController with the given game manager and input,
+     * which waits for the human players as long as they take.
      *
      * @param gameManager The game manager that manages the game state.
-     * @param sc          The scanner for user input.
+     * @param input       The input the human players answer on.
+     * @throws IllegalArgumentException if a player is not an
+     *                                  InteractivePlayer.
      */
-    public GameController(GameManager gameManager, Scanner sc) {
+    public GameController(GameManager gameManager, PlayerInput input) {
+        this(gameManager, input, 0);
+    }
+
+    /**
+     * Constructs a GameController that waits at most the given time for
+     * every answer of a human player during the game. A card the player does
+     * not choose in time is chosen for them, a question they do not answer
+     * is taken as declined, and a prompt to press Enter goes on by itself.
+     *
+     * @param gameManager       The game manager that manages the game state.
+     * @param input             The input the human players answer on.
+     * @param moveTimeoutMillis How long a human player may take to answer,
+     *                          or 0 for no limit.
+     * @throws IllegalArgumentException if a player is not an
+     *                                  InteractivePlayer or the timeout is
+     *                                  negative.
+     */
+    public GameController(GameManager gameManager, PlayerInput input, long moveTimeoutMillis) {
+        if (moveTimeoutMillis < 0) {
+            throw new IllegalArgumentException("The move timeout cannot be negative.");
+        }
+        for (Player player : gameManager.getPlayers()) {
+            if (!(player instanceof InteractivePlayer)) {
+                throw new IllegalArgumentException(player.getName() + " cannot take turns from this game's input.");
+            }
+        }
         this.gameManager = gameManager;
         this.deck = gameManager.getDeck();
         this.players = gameManager.getPlayers();
-        this.scanner = sc;
-        this.parade = new Parade(deck);
-        this.dice = new Dice();
+        this.input = input;
+        this.moveTimeoutMillis = moveTimeoutMillis;
+        this.parade = new Parade(deck, gameManager.getCardTracker());
+        this.dice = gameManager.getDice();
         this.startingPlayerdecider = new StartingPlayerDecider(dice);
-        this.quitHandler = new QuitHandler(players, scanner);
+        this.quitHandler = new QuitHandler(players, input, moveTimeoutMillis);
     }
 
     // ============================ Instance Methods ============================
@@ -78,7 +110,7 @@ public class GameController {
 
                 // Check for quit command
                 if (quitHandler.checkForQuit(player, player.isHuman(), iterator)) {
-                    Helper.pressEnterToContinue(scanner);
+                    Helper.pressEnterToContinue(input, moveTimeoutMillis);
                     Helper.flush();
                     continue;
                 }
@@ -94,12 +126,12 @@ public class GameController {
                     int currentIndex = players.indexOf(player);
                     Player nextPlayer = players.get((currentIndex + 1) % players.size());
                     gameManager.rearrangePlayers(nextPlayer);
-                    Helper.pressEnterToContinue(scanner);
+                    Helper.pressEnterToContinue(input, moveTimeoutMillis);
                     Helper.flush();
                     break;
                 }
 
-                Helper.pressEnterToContinue(scanner);
+                Helper.pressEnterToContinue(input, moveTimeoutMillis);
             }
         }
         // If the game ends due to deck running out of cards or a player collecting all colors
@@ -116,13 +148,14 @@ public class GameController {
      * and setting up the parade.
      */
     private void initializeGame() {
-        Helper.pressEnterToContinue(scanner);
+        GameFlowRenderer.showSeed(gameManager.getSeed().getSeed());
+        Helper.pressEnterToContinue(input, moveTimeoutMillis);
         Helper.flush();
 
         Player firstPlayer = startingPlayerdecider.decideStartingPlayer(players);
         gameManager.rearrangePlayers(firstPlayer);
 
-        Helper.pressEnterToContinue(scanner);
+        Helper.pressEnterToContinue(input, moveTimeoutMillis);
         Helper.flush();
 
         GameFlowRenderer.showGameStart(firstPlayer);
@@ -140,7 +173,7 @@ public class GameController {
         ParadeRenderer.showParade(parade);
         Helper.sleep(Constants.NORMAL_DELAY_TIME);
 
-        Helper.pressEnterToContinue(scanner);
+        Helper.pressEnterToContinue(input, moveTimeoutMillis);
     }
 
 // ============================ Turn Processing ============================
@@ -154,7 +187,7 @@ public class GameController {
         if (player.isHuman()) {
             PlayerRenderer.showClosedCards(player);
         }
-        player.playCard(parade, scanner);
+        ((InteractivePlayer) player).playCard(parade, input, moveTimeoutMillis);
         Helper.sleep(Constants.NORMAL_DELAY_TIME);
         List<Card> drawnCards = player.drawCardsFromParade(parade);
         PlayerRenderer.showReceivedCards(player, drawnCards);
@@ -171,7 +204,7 @@ public class GameController {
 
             GameFlowRenderer.showPlayerRound(player, players, parade, deck);
             playTurn(player);
-            Helper.pressEnterToContinue(scanner);
+            Helper.pressEnterToContinue(input, moveTimeoutMillis);
         }
         addFinalTwoCards();
     }
@@ -186,8 +219,8 @@ public class GameController {
             Helper.sleep(Constants.NORMAL_DELAY_TIME);
             GameFlowRenderer.showOpenCards(players);
             GameFlowRenderer.showTurnHeader(player.getName());
-            player.finalPlay(scanner);
-            Helper.pressEnterToContinue(scanner);
+            ((InteractivePlayer) player).finalPlay(input, moveTimeoutMillis);
+            Helper.pressEnterToContinue(input, moveTimeoutMillis);
         }
         concludeGame();
     }
@@ -224,7 +257,7 @@ public class GameController {
         Map<Player, List<Card>> flippedCards = gameManager.flipCards();
         GameFlowRenderer.showFlippedCards(flippedCards, players);
         Helper.typewrite("\n✅ Final Scores Have Been Calculated! ✅\n", Constants.TYPEWRITE_DURATION);
-        Helper.pressEnterToContinue(scanner);
+        Helper.pressEnterToContinue(input, moveTimeoutMillis);
 
         Helper.flush();
         // GameFlowRenderer.showFlippedCards(flippedCards, players);
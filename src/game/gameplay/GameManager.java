@@ -2,6 +2,7 @@ package game.gameplay;
 
 import game.core.*;
 import game.gameplay.managers.*;
+import game.setup.*;
 import java.util.*;
 
 public class GameManager {
@@ -12,20 +13,43 @@ public class GameManager {
     private final PlayerManager playerManager;
     private final ScoreCalculator scoreCalculator;
     private final Deck deck;
+    private final Dice dice;
+    private final GameSeed seed;
+    private final CardTracker cardTracker;
 
     // ============================ Constructor ============================
     /**
-     * Constructs a GameManager with the given players and deck.
+     * Constructs a GameManager with the given players whose deck and dice
+     * are driven by the given seed.
      *
      * @param players The list of players in the game.
-     * @param deck    The deck used in the game.
+     * @param seed    The seed of the game.
      */
-    public GameManager(List<Player> players, Deck deck) {
-        this.deck = deck;
+    public GameManager(List<Player> players, GameSeed seed) {
+        this(players, seed, true);
+    }
+
+    /**
+     * Constructs a GameManager whose managers optionally run without console
+     * output, as needed by the headless simulation.
+     *
+     * @param players The list of players in the game.
+     * @param seed    The seed of the game.
+     * @param verbose Whether the managers print their progress.
+     */
+    public GameManager(List<Player> players, GameSeed seed, boolean verbose) {
+        this.seed = seed;
+        this.deck = new Deck(seed.getDeckRandom());
+        this.dice = new Dice(seed.getDiceRandom());
         this.playerManager = new PlayerManager(players);
-        this.endGameChecker = new EndGameChecker(players, deck);
-        this.cardFlipper = new CardFlipper(players);
-        this.winnerDeterminer = new WinnerDeterminer(players);
+        this.cardTracker = new CardTracker();
+        for (Player player : players) {
+            player.setCardTracker(cardTracker);
+            player.joinTable(players);
+        }
+        this.endGameChecker = new EndGameChecker(players, deck, verbose);
+        this.cardFlipper = new CardFlipper(players, verbose);
+        this.winnerDeterminer = new WinnerDeterminer(players, dice, verbose);
         this.scoreCalculator = new ScoreCalculator();
     }
 
@@ -78,6 +102,25 @@ public class GameManager {
         return deck;
     }
 
+    /**
+     * @return The dice used for the starting roll and the tie-breaker.
+     */
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * @return The tracker of the cards seen in this game, which the parade
+     *         of the game should report to.
+     */
+    public CardTracker getCardTracker() {
+        return cardTracker;
+    }
+
+    public GameSeed getSeed() {
+        return seed;
+    }
+
     public List<Player> getPlayers() {
         return playerManager.getPlayers();
     }
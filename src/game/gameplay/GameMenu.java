@@ -1,7 +1,9 @@
 package game.gameplay;
 
+import game.ai.EndgameTable;
 import game.core.*;
 import game.exceptions.InvalidInputException;
+import game.input.PlayerInput;
 import game.renderer.GamePhaseRenderer;
 import game.setup.*;
 import game.utils.*;
@@ -9,44 +11,113 @@ import java.util.*;
 
 public class GameMenu {
 
-    private final Scanner scanner;
+    private final PlayerInput input;
+    private final long seed;
+    private final EndgameTable endgameTable;
+    private final long moveTimeoutMillis;
 
     // ============================ Constructor ============================
 
     /**
-     * Constructs the GameMenu with a Scanner for user input.
+     * Constructs the GameMenu with the input the user answers on. The game
+     * gets a new random seed.
      *
-     * @param scanner the Scanner to use
+     * @param input the input to read from
      */
-    public GameMenu(Scanner scanner) {
-        this.scanner = scanner;
+    public GameMenu(PlayerInput input) {
+        this(input, GameSeed.randomSeed());
+    }
+
+    /**
+     * Constructs the GameMenu for a game replayed from the given seed.
+     *
+     * @param input the input to read from
+     * @param seed  the seed of the game
+     */
+    public GameMenu(PlayerInput input, long seed) {
+        this(input, seed, null, 0);
+    }
+
+    /**
+     * Constructs the GameMenu for a game replayed from the given seed, whose
+     * expert computer players use the given endgame table and whose human
+     * players have a time limit on their answers during the game.
+     *
+     * @param input             the input to read from
+     * @param seed              the seed of the game
+     * @param endgameTable      the table of solved endgames, or null
+     * @param moveTimeoutMillis how long a human player may take to answer
+     *                          during the game, or 0 for no limit
+     */
+    public GameMenu(PlayerInput input, long seed, EndgameTable endgameTable, long moveTimeoutMillis) {
+        this.input = input;
+        this.seed = seed;
+        this.endgameTable = endgameTable;
+        this.moveTimeoutMillis = moveTimeoutMillis;
+    }
+    // ============================ Session ============================
+
+    /**
+     * Welcomes the user and runs the menu until they quit or decline
+     * another game. Used by the console and by every session of the game
+     * server.
+     *
+     * @param input     The input the user answers on.
+     * @param firstSeed The seed of the first game, or null for a random one.
+     */
+    public static void playSession(PlayerInput input, Long firstSeed) {
+        playSession(input, firstSeed, null, 0);
+    }
+
+    /**
+     * Runs a session whose expert computer players look two-player endgames
+     * up in a table, and whose human players have a time limit on every
+     * answer during a game; the menus still wait as long as it takes. The
+     * table is only read, so sessions may share it.
+     *
+     * @param input             The input the user answers on.
+     * @param firstSeed         The seed of the first game, or null for a random one.
+     * @param endgameTable      The table of solved endgames, or null.
+     * @param moveTimeoutMillis How long a human player may take to answer
+     *                          during a game, or 0 for no limit.
+     */
+    public static void playSession(PlayerInput input, Long firstSeed, EndgameTable endgameTable,
+            long moveTimeoutMillis) {
+        GamePhaseRenderer.showWelcomeMessage(input);
+        Long seed = firstSeed;
+        boolean playAnotherGame;
+        do {
+            long gameSeed = seed != null ? seed : GameSeed.randomSeed();
+            GameMenu menu = new GameMenu(input, gameSeed, endgameTable, moveTimeoutMillis);
+            seed = null; // Later games get new seeds
+            playAnotherGame = menu.launch() && menu.askForAnotherGame();
+        } while (playAnotherGame);
     }
-    // ============================ Instance Methods =========================
 
-    
     // ============================ Menu Launcher ============================
 
     /**
      * Launches the main menu and handles user selection.
+     *
+     * @return true if a game was played, false if the user chose to quit.
      */
-    public void launch() {
-        boolean loop = true;
-        while (loop) {
+    public boolean launch() {
+        while (true) {
             showMenuOptions();
 
             try {
-                String choice = scanner.next().trim();
+                String choice = input.readLine().trim();
                 int userChoice = Integer.parseInt(choice);
 
                 switch (userChoice) {
                     case 1 -> {
                         startNewGame();
-                        loop = false;
+                        return true;
                     }
                     case 2 -> showInstructions(); // Loop continues
                     case 3 -> {
                         GamePhaseRenderer.showGoodByeMessage();
-                        System.exit(0);
+                        return false;
                     }
                     default -> throw new InvalidInputException();
                 }
@@ -66,13 +137,13 @@ public class GameMenu {
         Helper.loading();
         Helper.flush();
 
-        PlayerSetup setup = new PlayerSetup(scanner);
+        GameSeed gameSeed = new GameSeed(seed);
+        PlayerSetup setup = new PlayerSetup(input, gameSeed, endgameTable);
         int playerCount = setup.askForNumberOfPlayers();
         List<Player> players = setup.createPlayers(playerCount);
-        Deck deck = new Deck();
 
-        GameManager gameManager = new GameManager(players, deck);
-        GameController game = new GameController(gameManager, scanner);
+        GameManager gameManager = new GameManager(players, gameSeed);
+        GameController game = new GameController(gameManager, input, moveTimeoutMillis);
         game.startGame();
     }
 
@@ -85,15 +156,15 @@ public class GameMenu {
      */
     public boolean askForAnotherGame() {
         System.out.print("\n✨ Do you want to play another game? (y/n): ");
-        String input = scanner.nextLine().trim().toLowerCase();
+        String answer = input.readLine().trim().toLowerCase();
 
-        while (!input.matches("yes|no|y|n")) {
+        while (!answer.matches("yes|no|y|n")) {
             System.out.print("❌ Invalid input. Please enter 'yes' or 'no'.\n");
             System.out.print("\nDo you want to play another game? (yes/no): ");
-            input = scanner.nextLine().trim().toLowerCase();
+            answer = input.readLine().trim().toLowerCase();
         }
 
-        if (input.equals("yes") || input.equals("y")) {
+        if (answer.equals("yes") || answer.equals("y")) {
             Helper.flush();
             return true;
         } else {
@@ -8,7 +8,8 @@ import java.util.Comparator;
  * The comparison is done in the following order:
  * 1. Score (lower score wins)
  * 2. Total open cards (lower card count wins)
- * 3. Open cards list size (lower colors wins)
+ * 3. Number of colors collected (lower colors wins)
+ * Every criterion is kept up to date by the player, so each comparison is O(1).
  */
 public class PlayerComparator implements Comparator<Player> {
 
@@ -23,6 +24,6 @@ public class PlayerComparator implements Comparator<Player> {
         if (result != 0) return result;
 
         
-        return Integer.compare(p1.getOpenCards().size(), p2.getOpenCards().size());
+        return Integer.compare(p1.getColorCount(), p2.getColorCount());
     }
 }
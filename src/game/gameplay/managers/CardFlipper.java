@@ -17,6 +17,11 @@ public class CardFlipper {
      */
     private final List<Player> players;
 
+    /**
+     * Whether the flipping phase is printed to the console.
+     */
+    private final boolean verbose;
+
     // ============================ Constructor ============================
 
     /**
@@ -25,37 +30,76 @@ public class CardFlipper {
      * @param players The list of players in the game.
      */
     public CardFlipper(List<Player> players) {
+        this(players, true);
+    }
+
+    /**
+     * Constructs a CardFlipper that optionally runs without console output.
+     *
+     * @param players The list of players in the game.
+     * @param verbose Whether the flipping phase is printed.
+     */
+    public CardFlipper(List<Player> players, boolean verbose) {
         this.players = players;
+        this.verbose = verbose;
     }
 
     // ======================== Instance Methods (Flipping) ========================
 
+    /**
+     * Flips the open cards of every color for the players holding the most
+     * cards of that color. Cards are shared between games, so flipping is
+     * recorded on the player rather than on the cards.
+     *
+     * @return A map of players to the cards they flipped.
+     */
     public Map<Player, List<Card>> flipCards() {
         Map<Player, List<Card>> flippedCards = new HashMap<>();
 
-        for (String color : Constants.COLORS) {
+        for (Color color : Color.values()) {
             List<Player> maxPlayers = findPlayersWithMaxCards(color);
-            GameFlowRenderer.showMaxPlayersForColor(color, maxPlayers);
+            if (verbose) {
+                GameFlowRenderer.showMaxPlayersForColor(color, maxPlayers);
+            }
 
             for (Player player : maxPlayers) {
                 List<Card> cardsToFlip = player.getOpenCards().get(color);
-                flippedCards.putIfAbsent(player, new ArrayList<>());
-                for (Card card : cardsToFlip) {
-                    card.setValue(Constants.FLIPPED_CARD_VALUE);
-                    flippedCards.get(player).add(card);
-                }
+                player.flipColor(color);
+                flippedCards.computeIfAbsent(player, key -> new ArrayList<>()).addAll(cardsToFlip);
             }
         }
         return flippedCards;
     }
 
+    // ========================== Static Methods (Rules) ===========================
+
+    /**
+     * Tells whether a player flips a color under the rules of flipCards: the
+     * players with the most cards of the color flip them, unless every player
+     * holds as many, and with two players the lead must be at least
+     * MIN_DIFFERENCE_FOR_TWO_PLAYERS. Lets simulations and bots apply the
+     * rules to card counts alone.
+     *
+     * @param count       The player's number of open cards of the color.
+     * @param max         The most open cards of the color any player holds.
+     * @param min         The fewest open cards of the color any player holds.
+     * @param playerCount The number of players.
+     * @return true if the player's cards of the color are flipped.
+     */
+    public static boolean flips(int count, int max, int min, int playerCount) {
+        if (count < max || min == max) {
+            return false;
+        }
+        return playerCount != 2 || max - min >= Constants.MIN_DIFFERENCE_FOR_TWO_PLAYERS;
+    }
+
     // ========================== Helper Methods (Private Instance Methods) ===========================
 
     /**
      * @return A list of players with the maximum number of cards of the
      * specified color
      */
-    private List<Player> findPlayersWithMaxCards(String color) {
+    private List<Player> findPlayersWithMaxCards(Color color) {
         int max = 0;
         List<Player> maxPlayers = new ArrayList<>();
         boolean allPlayersTied = true;
@@ -74,9 +118,13 @@ public class CardFlipper {
             }
         }
 
-        GameFlowRenderer.showMaxCardsForColor(color,max);
+        if (verbose) {
+            GameFlowRenderer.showMaxCardsForColor(color,max);
+        }
         if (allPlayersTied) {
-            GameFlowRenderer.showNoFlippingDueToTie(color);
+            if (verbose) {
+                GameFlowRenderer.showNoFlippingDueToTie(color);
+            }
             return Collections.emptyList();
         }
 
@@ -95,8 +143,8 @@ public class CardFlipper {
      * @param color  The color of the cards being counted.
      * @return The number of cards of the specified color in the player's hand.
      */
-    private int getCardCountForColor(Player player, String color) {
-        return player.getOpenCards().getOrDefault(color, Collections.emptyList()).size();
+    private int getCardCountForColor(Player player, Color color) {
+        return player.getOpenCardCount(color);
     }
 
     /**
@@ -109,7 +157,7 @@ public class CardFlipper {
      * @param maxPlayers The list of players with the max number of cards of the specified
      *                   color.
      */
-    private void applyTwoPlayerRule(String color, List<Player> maxPlayers) {
+    private void applyTwoPlayerRule(Color color, List<Player> maxPlayers) {
         Player p1 = players.get(0);
         Player p2 = players.get(1);
         int difference = Math.abs(
@@ -117,7 +165,9 @@ public class CardFlipper {
         );
 
         if (difference < Constants.MIN_DIFFERENCE_FOR_TWO_PLAYERS && difference != 0) {
-            GameFlowRenderer.show2PlayerRules();
+            if (verbose) {
+                GameFlowRenderer.show2PlayerRules();
+            }
             maxPlayers.clear();
         }
     }
@@ -9,6 +9,7 @@ import java.util.*;
  */
 public class DiceTieBreaker {
     private final Dice dice;
+    private final boolean verbose;
 
     // ============================ Constructor ============================
 
@@ -16,7 +17,27 @@ public class DiceTieBreaker {
      * Constructs a DiceTieBreaker with a new Dice instance.
      */
     public DiceTieBreaker() {
-        this.dice = new Dice();
+        this(true);
+    }
+
+    /**
+     * Constructs a DiceTieBreaker that optionally rolls without animations.
+     *
+     * @param verbose Whether the dice rolls and results are printed.
+     */
+    public DiceTieBreaker(boolean verbose) {
+        this(new Dice(), verbose);
+    }
+
+    /**
+     * Constructs a DiceTieBreaker that rolls the given dice.
+     *
+     * @param dice    The dice to roll, usually the dice of the game.
+     * @param verbose Whether the dice rolls and results are printed.
+     */
+    public DiceTieBreaker(Dice dice, boolean verbose) {
+        this.dice = dice;
+        this.verbose = verbose;
     }
 
     // ============================ Instance Method ============================
@@ -31,7 +52,9 @@ public class DiceTieBreaker {
     public Player resolveTie(List<Player> tiedPlayers) {
         Map<Player, Integer> rolls = rollDice(tiedPlayers);
         sortPlayersByRolls(tiedPlayers, rolls);
-        showResults(tiedPlayers, rolls);
+        if (verbose) {
+            showResults(tiedPlayers, rolls);
+        }
         return tiedPlayers.get(0);
     }
 
@@ -46,10 +69,14 @@ public class DiceTieBreaker {
     private Map<Player, Integer> rollDice(List<Player> players) {
         Map<Player, Integer> results = new HashMap<>();
 
-        System.out.println("\n🎲 Breaking tie with dice rolls...");
+        if (verbose) {
+            System.out.println("\n🎲 Breaking tie with dice rolls...");
+        }
         for (Player p : players) {
             int roll = dice.roll();
-            dice.animateRoll(p.getName(), roll);
+            if (verbose) {
+                dice.animateRoll(p.getName(), roll);
+            }
             results.put(p, roll);
         }
         return results;
@@ -2,7 +2,6 @@ package game.gameplay.managers;
 
 import game.core.*;
 import game.renderer.GameFlowRenderer;
-import game.utils.Constants;
 import java.util.*;
 
 /**
@@ -20,6 +19,11 @@ public class EndGameChecker {
      */
     private final Deck deck;
 
+    /**
+     * Whether end game announcements are printed to the console.
+     */
+    private final boolean verbose;
+
     // ============================ Constructor ============================
 
     /**
@@ -29,8 +33,20 @@ public class EndGameChecker {
      * @param deck    The deck used in the game.
      */
     public EndGameChecker(List<Player> players, Deck deck) {
+        this(players, deck, true);
+    }
+
+    /**
+     * Constructs an EndGameChecker that optionally runs without console output.
+     *
+     * @param players The list of players in the game.
+     * @param deck    The deck used in the game.
+     * @param verbose Whether end game announcements are printed.
+     */
+    public EndGameChecker(List<Player> players, Deck deck, boolean verbose) {
         this.players = players;
         this.deck = deck;
+        this.verbose = verbose;
     }
 
     // ============================ Instance Method ============================
@@ -43,7 +59,9 @@ public class EndGameChecker {
      */
     public boolean checkEndGame() {
         if (isDeckEmpty()) {
-            GameFlowRenderer.showDeckEmpty();
+            if (verbose) {
+                GameFlowRenderer.showDeckEmpty();
+            }
             return true;
         }
         return checkAllColorsCollected();
@@ -67,31 +85,13 @@ public class EndGameChecker {
      */
     private boolean checkAllColorsCollected() {
         for (Player p : players) {
-            if (hasAllColors(p)) {
-                GameFlowRenderer.showAllColorsCollected(p);
+            if (p.hasAllColors()) {
+                if (verbose) {
+                    GameFlowRenderer.showAllColorsCollected(p);
+                }
                 return true;
             }
         }
         return false;
     }
-
-    /**
-     * Determines if a specific player has at least one card of every color.
-     *
-     * @param player The player to check.
-     * @return true if the player has all card colors, false otherwise.
-     */
-    private boolean hasAllColors(Player player) {
-        Map<String, List<Card>> openCards = player.getOpenCards();
-        if (openCards.size() != Constants.TOTAL_COLORS) {
-            return false;
-        }
-
-        for (List<Card> cards : openCards.values()) {
-            if (cards.isEmpty()) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
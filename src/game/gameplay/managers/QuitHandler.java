@@ -1,6 +1,8 @@
 package game.gameplay.managers;
 
 import game.core.*;
+import game.exceptions.InputTimeoutException;
+import game.input.PlayerInput;
 import game.renderer.*;
 import game.utils.*;
 import java.util.*;
@@ -18,21 +20,40 @@ public class QuitHandler {
     private final List<Player> players;
 
     /**
-     * The scanner for user input.
+     * The input the players answer on.
      */
-    private final Scanner scanner;
+    private final PlayerInput input;
+
+    /**
+     * How long a player may take to answer, or 0 for no limit.
+     */
+    private final long timeoutMillis;
 
     // ============================ Constructor ============================
 
     /**
-     * Constructs a QuitHandler with the list of players and a scanner.
+     * Constructs a QuitHandler with the list of players and their input.
      *
      * @param players The list of players in the game.
-     * @param scanner The scanner for user input.
+     * @param input   The input the players answer on.
      */
-    public QuitHandler(List<Player> players, Scanner scanner) {
+    public QuitHandler(List<Player> players, PlayerInput input) {
+        this(players, input, 0);
+    }
+
+    /**
+     * Constructs a QuitHandler that takes a question a player does not
+     * answer in time as declined.
+     *
+     * @param players       The list of players in the game.
+     * @param input         The input the players answer on.
+     * @param timeoutMillis How long a player may take to answer, or 0 for no
+     *                      limit.
+     */
+    public QuitHandler(List<Player> players, PlayerInput input, long timeoutMillis) {
         this.players = players;
-        this.scanner = scanner;
+        this.input = input;
+        this.timeoutMillis = timeoutMillis;
     }
 
     // ============================ Instance Methods ============================
@@ -48,17 +69,17 @@ public class QuitHandler {
         if (isHuman) {
             // Show quit option
             GameFlowRenderer.showQuitOption();
-            String input = scanner.nextLine().trim();
+            String answer = readAnswer("");
 
             // Check if the input is "quit" (case insensitive)
-            if (input.equalsIgnoreCase("quit")) {
+            if (answer.equalsIgnoreCase("quit")) {
 
                 // Confirm quit
                 GameFlowRenderer.confirmQuit();
-                String confirm = scanner.nextLine().trim().toLowerCase();
+                String confirm = readAnswer("n").toLowerCase();
                 while (!confirm.matches("y|n|yes|no")) {
                     System.out.print("Invalid input. Please enter 'y' or 'n': ");
-                    confirm = scanner.nextLine().trim().toLowerCase();
+                    confirm = readAnswer("n").toLowerCase();
                 }
 
                 // If the player confirms, remove them from the game, else the game will continue as normal
@@ -82,6 +103,19 @@ public class QuitHandler {
         return false;
     }
 
+    /**
+     * Reads a player's answer, or gives the default answer if they do not
+     * answer in time.
+     */
+    private String readAnswer(String unanswered) {
+        try {
+            return Helper.readLine(input, timeoutMillis).trim();
+        } catch (InputTimeoutException e) {
+            System.out.println();
+            return unanswered;
+        }
+    }
+
     /**
      * Counts how many human players remain.
      */
@@ -3,6 +3,7 @@ package game.gameplay.managers;
 import game.core.Player;
 import game.gameplay.PlayerComparator;
 import game.renderer.GameFlowRenderer;
+import game.setup.Dice;
 import java.util.*;
 
 /**
@@ -22,6 +23,11 @@ public class WinnerDeterminer {
      */
     private final DiceTieBreaker diceTieBreaker;
 
+    /**
+     * Whether the tie-breaker is printed to the console.
+     */
+    private final boolean verbose;
+
     // ============================ Constructor ============================
 
     /**
@@ -30,8 +36,30 @@ public class WinnerDeterminer {
      * @param players The list of players in the game.
      */
     public WinnerDeterminer(List<Player> players) {
+        this(players, true);
+    }
+
+    /**
+     * Constructs a WinnerDeterminer that optionally runs without console output.
+     *
+     * @param players The list of players in the game.
+     * @param verbose Whether the tie-breaker is printed.
+     */
+    public WinnerDeterminer(List<Player> players, boolean verbose) {
+        this(players, new Dice(), verbose);
+    }
+
+    /**
+     * Constructs a WinnerDeterminer that breaks ties with the given dice.
+     *
+     * @param players The list of players in the game.
+     * @param dice    The dice used for the tie-breaker.
+     * @param verbose Whether the tie-breaker is printed.
+     */
+    public WinnerDeterminer(List<Player> players, Dice dice, boolean verbose) {
         this.players = players;
-        this.diceTieBreaker = new DiceTieBreaker();
+        this.diceTieBreaker = new DiceTieBreaker(dice, verbose);
+        this.verbose = verbose;
     }
     // ============================ Public Instance Methods ============================
 
@@ -46,7 +74,7 @@ public class WinnerDeterminer {
         // Get all the players with same score
         List<Player> playersWithSameScore = getPotentialWinners();
 
-        if (playersWithSameScore.size() > 1) {
+        if (playersWithSameScore.size() > 1 && verbose) {
             GameFlowRenderer.showTieBreaker(playersWithSameScore);
         }
 
@@ -0,0 +1,116 @@
+package game.input;
+
+import game.exceptions.InputTimeoutException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+
+/**
+ * Input whose lines are handed over by other threads, such as a network
+ * event loop or a user interface, and read by the thread running the game.
+ *
+ * Submitting a line never blocks. At most MAX_PENDING_LINES lines wait to be
+ * read, so a client sending faster than the game reads cannot make the
+ * queue grow without bound; further lines are refused until the game catches
+ * up. The game thread waits on the queue, so on a virtual thread a game
+ * waiting for its player holds no platform thread.
+ */
+public class AsyncInput implements PlayerInput {
+
+    /**
+     * Most lines waiting to be read.
+     */
+    public static final int MAX_PENDING_LINES = 64;
+
+    /**
+     * Marks the end of the input in the queue. Compared by identity.
+     */
+    private static final String END = new String("");
+
+    // ============================ Instance Variables ============================
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    private volatile boolean closed;
+
+    // ============================ Submitting ============================
+    /**
+     * Hands a line over to the game.
+     *
+     * @param line The line, without its line terminator.
+     * @return true if the line was queued, false if the input is closed or
+     * too many lines are already waiting.
+     */
+    public boolean submit(String line) {
+        if (closed || lines.size() >= MAX_PENDING_LINES) {
+            return false;
+        }
+        return deliver(line);
+    }
+
+    /**
+     * Queues a line whatever the number of lines waiting, for sources that
+     * are read at the player's own pace, such as the console.
+     */
+    protected boolean deliver(String line) {
+        if (closed) {
+            return false;
+        }
+        lines.add(line);
+        return true;
+    }
+
+    // ============================ PlayerInput Methods ============================
+    @Override
+    public String readLine() {
+        try {
+            return unwrap(lines.take());
+        } catch (InterruptedException e) {
+            throw interrupted();
+        }
+    }
+
+    @Override
+    public String readLine(long timeout, TimeUnit unit) throws InputTimeoutException {
+        try {
+            String line = lines.poll(timeout, unit);
+            if (line == null) {
+                throw new InputTimeoutException("No input within " + unit.toMillis(timeout) + " ms.");
+            }
+            return unwrap(line);
+        } catch (InterruptedException e) {
+            throw interrupted();
+        }
+    }
+
+    /**
+     * Ends the input. Lines already queued are still read, then every read
+     * ends with a NoSuchElementException.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            lines.add(END);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    // ============================ Helpers ============================
+    /**
+     * Returns the line, or puts the end marker back for the next reader and
+     * reports the end of the input.
+     */
+    private String unwrap(String line) {
+        if (line == END) {
+            lines.add(END);
+            throw new NoSuchElementException("The input has ended.");
+        }
+        return line;
+    }
+
+    private static NoSuchElementException interrupted() {
+        Thread.currentThread().interrupt();
+        return new NoSuchElementException("Interrupted while waiting for input.");
+    }
+}
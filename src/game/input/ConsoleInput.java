@@ -0,0 +1,49 @@
+package game.input;
+
+import java.io.*;
+
+/**
+ * Input typed on the console.
+ *
+ * Reading System.in cannot time out, so a single daemon thread reads the
+ * console line by line and hands each line over as an AsyncInput, which the
+ * game then reads with or without a timeout. When the console reaches the
+ * end of its input, so does this input.
+ */
+public class ConsoleInput extends AsyncInput {
+
+    /**
+     * Constructs a ConsoleInput reading System.in.
+     */
+    public ConsoleInput() {
+        this(System.in);
+    }
+
+    /**
+     * Constructs a ConsoleInput reading the given stream, such as a pipe.
+     *
+     * @param in The stream typed lines arrive on.
+     */
+    public ConsoleInput(InputStream in) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+        Thread pump = new Thread(() -> pump(reader), "console-input");
+        pump.setDaemon(true);
+        pump.start();
+    }
+
+    /**
+     * Hands every line of the console over until it ends or this input is
+     * closed.
+     */
+    private void pump(BufferedReader reader) {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null && deliver(line)) {
+                // Keep reading
+            }
+        } catch (IOException e) {
+            // The console is gone, which ends the input like end of file
+        }
+        close();
+    }
+}
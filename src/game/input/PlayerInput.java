@@ -0,0 +1,49 @@
+package game.input;
+
+import game.exceptions.InputTimeoutException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Source of the lines a game reads from its players: menu choices, player
+ * names, card numbers and confirmations.
+ *
+ * The game only ever asks for the next line, so where the lines come from is
+ * up to the implementation: the console (ConsoleInput), a fixed script
+ * (ScriptedInput), a network connection (SocketInput) or lines handed over
+ * by another thread (AsyncInput). Every read can be given a timeout, so a
+ * server can give up on a player that stopped answering instead of keeping
+ * a thread blocked forever.
+ */
+public interface PlayerInput extends AutoCloseable {
+
+    /**
+     * Waits for the next line, as long as it takes.
+     *
+     * @return The line, without its line terminator.
+     * @throws NoSuchElementException if the input has ended, was closed, or
+     *                                the thread was interrupted while waiting.
+     */
+    String readLine();
+
+    /**
+     * Waits for the next line, at most for the given time.
+     *
+     * @param timeout How long to wait.
+     * @param unit    The unit of the timeout.
+     * @return The line, without its line terminator.
+     * @throws InputTimeoutException  if no line arrived in time; a line
+     *                                that arrives later is returned by the
+     *                                next read.
+     * @throws NoSuchElementException if the input has ended, was closed, or
+     *                                the thread was interrupted while waiting.
+     */
+    String readLine(long timeout, TimeUnit unit) throws InputTimeoutException;
+
+    /**
+     * Releases the input. Reads waiting for a line end with a
+     * NoSuchElementException.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,57 @@
+package game.input;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input that answers with a fixed list of lines, for replaying a game or
+ * driving one from a test or a script. Reads never wait, so timeouts have
+ * no effect.
+ */
+public class ScriptedInput implements PlayerInput {
+
+    // ============================ Instance Variables ============================
+    private final List<String> lines;
+    private int next;
+    private boolean closed;
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs a ScriptedInput that answers with the given lines in order.
+     *
+     * @param lines The lines to answer with.
+     */
+    public ScriptedInput(List<String> lines) {
+        this.lines = List.copyOf(lines);
+    }
+
+    public ScriptedInput(String... lines) {
+        this(Arrays.asList(lines));
+    }
+
+    // ============================ PlayerInput Methods ============================
+    @Override
+    public synchronized String readLine() {
+        if (closed || next == lines.size()) {
+            throw new NoSuchElementException("The script has no more lines.");
+        }
+        return lines.get(next++);
+    }
+
+    @Override
+    public String readLine(long timeout, TimeUnit unit) {
+        return readLine();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+    }
+
+    /**
+     * @return The number of lines not read yet.
+     */
+    public synchronized int getRemainingLines() {
+        return closed ? 0 : lines.size() - next;
+    }
+}
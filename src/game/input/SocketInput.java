@@ -0,0 +1,172 @@
+package game.input;
+
+import game.exceptions.InputTimeoutException;
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Input read from a TCP connection, one UTF-8 line at a time.
+ *
+ * Reads block the calling thread on the socket itself, with the socket's
+ * read timeout set to what is left of the read's timeout, so no other thread
+ * is needed; on a virtual thread, a game waiting for its player parks
+ * instead of holding a platform thread. Reads are serialized with a
+ * ReentrantLock rather than a monitor, since a virtual thread that blocks
+ * inside synchronized stays pinned to its carrier thread. Bytes of a line
+ * that has not been completed when a read times out are kept for the next
+ * read. Lines longer than MAX_LINE_BYTES are cut, so a client cannot make
+ * the buffer grow without bound.
+ *
+ * A server can also give reads without a timeout an idle timeout, after
+ * which the player is taken to have left.
+ */
+public class SocketInput implements PlayerInput {
+
+    /**
+     * Longest line kept, in bytes. The rest of a longer line is dropped.
+     */
+    public static final int MAX_LINE_BYTES = 1024;
+
+    // ============================ Instance Variables ============================
+    private final Socket socket;
+    private final InputStream in;
+    private final long idleTimeoutNanos;
+    private final ReentrantLock readLock = new ReentrantLock();
+    private final byte[] buffer = new byte[512];
+    private int bufferStart;
+    private int bufferEnd;
+
+    /**
+     * Bytes of the line being read that were already taken from the buffer.
+     */
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+    // ============================ Constructor ============================
+    /**
+     * Constructs a SocketInput reading the given connection, which it closes
+     * when it is closed.
+     *
+     * @param socket The connected socket.
+     * @throws IOException if the socket's stream cannot be opened.
+     */
+    public SocketInput(Socket socket) throws IOException {
+        this(socket, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Constructs a SocketInput whose reads without a timeout give up after
+     * the given idle time.
+     *
+     * @param socket      The connected socket.
+     * @param idleTimeout How long readLine waits before the player is taken
+     *                    to have left, or 0 to wait forever.
+     * @param unit        The unit of the idle timeout.
+     * @throws IOException if the socket's stream cannot be opened.
+     */
+    public SocketInput(Socket socket, long idleTimeout, TimeUnit unit) throws IOException {
+        this.socket = socket;
+        this.in = socket.getInputStream();
+        this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+    }
+
+    // ============================ PlayerInput Methods ============================
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NoSuchElementException also if the idle timeout runs out.
+     */
+    @Override
+    public String readLine() {
+        readLock.lock();
+        try {
+            return read(idleTimeoutNanos);
+        } catch (InputTimeoutException e) {
+            throw new NoSuchElementException("The player stopped answering.");
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public String readLine(long timeout, TimeUnit unit) throws InputTimeoutException {
+        readLock.lock();
+        try {
+            return read(Math.max(unit.toNanos(timeout), 1));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+
+    // ============================ Helpers ============================
+    /**
+     * Reads the next line, waiting at most timeoutNanos, or forever if it is 0.
+     */
+    private String read(long timeoutNanos) throws InputTimeoutException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (true) {
+            for (int i = bufferStart; i < bufferEnd; i++) {
+                if (buffer[i] == '\n') {
+                    append(bufferStart, i);
+                    bufferStart = i + 1;
+                    return takeLine();
+                }
+            }
+            append(bufferStart, bufferEnd);
+            bufferStart = 0;
+            bufferEnd = 0;
+
+            int read;
+            try {
+                if (timeoutNanos > 0) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) {
+                        throw new InputTimeoutException("No input within the time limit.");
+                    }
+                    socket.setSoTimeout((int) Math.max(Math.min(TimeUnit.NANOSECONDS.toMillis(left), Integer.MAX_VALUE), 1));
+                } else {
+                    socket.setSoTimeout(0);
+                }
+                read = in.read(buffer);
+            } catch (SocketTimeoutException e) {
+                throw new InputTimeoutException("No input within the time limit.");
+            } catch (IOException e) {
+                throw new NoSuchElementException("The connection was lost.", e);
+            }
+            if (read < 0) {
+                if (pending.size() > 0) {
+                    return takeLine(); // The last line had no terminator
+                }
+                throw new NoSuchElementException("The connection was closed.");
+            }
+            bufferEnd = read;
+        }
+    }
+
+    /**
+     * Adds the buffer bytes from start to end, exclusive, to the line being
+     * read, up to MAX_LINE_BYTES.
+     */
+    private void append(int start, int end) {
+        int room = MAX_LINE_BYTES - pending.size();
+        pending.write(buffer, start, Math.max(Math.min(end - start, room), 0));
+    }
+
+    private String takeLine() {
+        String line = pending.toString(StandardCharsets.UTF_8);
+        pending.reset();
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+}
@@ -0,0 +1,410 @@
+package game.net;
+
+import game.core.*;
+import game.gameplay.GameManager;
+import game.setup.*;
+import game.utils.Constants;
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * A game between remote and computer players that advances one move at a
+ * time instead of blocking for input, so a single event loop thread can run
+ * many games at once. It follows the same rules and turn order as
+ * HeadlessGame: computer players move as soon as it is their turn, and the
+ * game then waits until submitMove brings the move of the remote player to
+ * act.
+ *
+ * Computer players can instead search their moves on other threads: the
+ * game then waits as it does for a remote player, and the chosen move is
+ * made on the game's own thread once the search is done. The game is only
+ * ever changed on that thread, and a search only reads it.
+ *
+ * The listener is told of every change to the table as it happens: each
+ * turn, each card played, drawn or opened, and the end of the game, so it
+ * can pass on just what changed. It is called on the thread that started
+ * the game or submitted the move.
+ */
+public class NetworkGame {
+
+    /**
+     * The stages a game goes through, in order.
+     */
+    public enum Phase {
+        /**
+         * Players play a card and draw a new one.
+         */
+        TURNS,
+        /**
+         * Every player plays one more card without drawing.
+         */
+        LAST_ROUND,
+        /**
+         * Every player opens FINAL_PLAY_MOVES cards of their hand.
+         */
+        FINAL_PLAY,
+        /**
+         * The scores are counted and the winner is known.
+         */
+        OVER
+    }
+
+    /**
+     * Receives the progress of a game.
+     */
+    public interface Listener {
+
+        /**
+         * Called before each move is made: a card played into the parade,
+         * or a card opened in the final play. Computer players open all of
+         * their cards in a single move.
+         *
+         * @param game The game, with getCurrentPlayer about to move.
+         */
+        void onTurnStart(NetworkGame game);
+
+        /**
+         * Called after a card is played into the parade and the cards it
+         * removes are added to the player's open cards.
+         *
+         * @param game        The game.
+         * @param player      The player who played the card.
+         * @param card        The card played.
+         * @param removalMask The positions of the cards removed, in the
+         *                    parade as it was with the card at its end.
+         */
+        void onCardPlayed(NetworkGame game, Player player, Card card, long removalMask);
+
+        /**
+         * Called after a player draws a card from the deck.
+         *
+         * @param game   The game.
+         * @param player The player who drew.
+         * @param card   The card drawn.
+         */
+        void onCardDrawn(NetworkGame game, Player player, Card card);
+
+        /**
+         * Called after a player opens a card of their hand in the final play.
+         *
+         * @param game   The game.
+         * @param player The player who opened the card.
+         * @param card   The card opened.
+         */
+        void onCardOpened(NetworkGame game, Player player, Card card);
+
+        /**
+         * Called once the scores are counted and the winner is known.
+         *
+         * @param game The finished game.
+         */
+        void onGameOver(NetworkGame game);
+    }
+
+    // ============================ Instance Variables ============================
+    private final GameManager gameManager;
+    private final Deck deck;
+    private final Parade parade;
+    private final List<Player> seats;
+    private final List<Player> players;
+    private final Listener listener;
+    private final Executor searchExecutor;
+    private final Executor gameExecutor;
+
+    private Phase phase;
+    private int turnIndex;
+    private int openingsLeft;
+    private Player winner;
+    private boolean abandoned;
+
+    // ============================ Constructor ============================
+    /**
+     * Constructs a NetworkGame. Each player keeps the seat number of their
+     * position in the list, whatever the turn order turns out to be.
+     *
+     * The computer players move on the thread that starts the game or
+     * submits the move before theirs.
+     *
+     * @param seats    The players, remote or computer.
+     * @param seed     The seed of the game.
+     * @param listener Receives the progress of the game.
+     * @throws IllegalArgumentException if a player is neither remote nor a
+     * computer.
+     */
+    public NetworkGame(List<Player> seats, GameSeed seed, Listener listener) {
+        this(seats, seed, listener, null, null);
+    }
+
+    /**
+     * Constructs a NetworkGame whose computer players search their moves on
+     * the searchExecutor, handing each move back to the gameExecutor, which
+     * must run it on the thread that plays the game.
+     *
+     * @param seats          The players, remote or computer.
+     * @param seed           The seed of the game.
+     * @param listener       Receives the progress of the game.
+     * @param searchExecutor Runs the computer players' searches, or null to
+     *                       search on the game's thread.
+     * @param gameExecutor   Runs the searched moves on the game's thread.
+     * @throws IllegalArgumentException if a player is neither remote nor a
+     * computer, or only one of the executors is given.
+     */
+    public NetworkGame(List<Player> seats, GameSeed seed, Listener listener, Executor searchExecutor,
+            Executor gameExecutor) {
+        if ((searchExecutor == null) != (gameExecutor == null)) {
+            throw new IllegalArgumentException("A search executor needs an executor to hand its moves back to!");
+        }
+        for (Player player : seats) {
+            if (!(player instanceof RemotePlayer) && !(player instanceof Computer)) {
+                throw new IllegalArgumentException(player.getName() + " is neither a remote nor a computer player!");
+            }
+        }
+        this.seats = List.copyOf(seats);
+        this.gameManager = new GameManager(new ArrayList<>(seats), seed, false);
+        this.players = gameManager.getPlayers();
+        this.deck = gameManager.getDeck();
+        this.parade = new Parade(deck, gameManager.getCardTracker());
+        this.listener = listener;
+        this.searchExecutor = searchExecutor;
+        this.gameExecutor = gameExecutor;
+    }
+
+    // ============================ Game Flow ============================
+    /**
+     * Decides the starting player, deals the cards, sets up the parade and
+     * plays until a remote player has to move.
+     *
+     * @throws IllegalStateException if the game has already started.
+     */
+    public void start() {
+        if (phase != null) {
+            throw new IllegalStateException("The game has already started!");
+        }
+        StartingPlayerDecider startingPlayerDecider = new StartingPlayerDecider(gameManager.getDice(), false);
+        gameManager.rearrangePlayers(startingPlayerDecider.decideStartingPlayer(players));
+
+        deck.shuffle();
+        for (Player player : players) {
+            for (int i = 0; i < Constants.CARDS_TO_DEAL; i++) {
+                player.drawCardFromDeck(deck);
+            }
+        }
+        parade.initializeParade();
+
+        phase = Phase.TURNS;
+        turnIndex = 0;
+        advance();
+    }
+
+    /**
+     * Makes the move of a remote player: the card at the given index of
+     * their hand is played into the parade, or opened in the final play.
+     * The game then plays until a remote player has to move again.
+     *
+     * @param player    The player making the move.
+     * @param handIndex The index of the card in the player's hand.
+     * @return false, leaving the game as it was, if it is not the player's
+     * turn or there is no card at that index.
+     */
+    public boolean submitMove(RemotePlayer player, int handIndex) {
+        if (abandoned || !isWaitingFor(player) || handIndex < 0 || handIndex >= player.getClosedCards().size()) {
+            return false;
+        }
+        if (phase == Phase.FINAL_PLAY) {
+            listener.onCardOpened(this, player, player.openCard(handIndex));
+            openingsLeft--;
+        } else {
+            takeCards(player, player.playCard(handIndex, parade));
+        }
+        endMove();
+        advance();
+        return true;
+    }
+
+    /**
+     * Stops the game where it is, for example because a player left. A
+     * search still running is ignored when it ends, and no more moves are
+     * taken.
+     */
+    public void abandon() {
+        abandoned = true;
+    }
+
+    /**
+     * Plays the computer players' moves until a remote player has to move,
+     * a computer player's move is being searched, or the game is over.
+     */
+    private void advance() {
+        while (phase != Phase.OVER && !abandoned) {
+            listener.onTurnStart(this);
+            Player player = players.get(turnIndex);
+            if (!(player instanceof Computer)) {
+                return;
+            }
+            Computer computer = (Computer) player;
+            if (searchExecutor != null) {
+                search(computer);
+                return;
+            }
+            boolean moved;
+            do {
+                int handIndex = phase == Phase.FINAL_PLAY ? computer.chooseCardToOpen() : computer.chooseCardToPlay(parade);
+                moved = moveComputer(computer, handIndex);
+            } while (!moved);
+            endMove();
+        }
+    }
+
+    /**
+     * Searches the computer player's next card on the searchExecutor, then
+     * makes the move on the gameExecutor.
+     */
+    private void search(Computer computer) {
+        boolean opening = phase == Phase.FINAL_PLAY;
+        searchExecutor.execute(() -> {
+            int handIndex;
+            try {
+                handIndex = opening ? computer.chooseCardToOpen() : computer.chooseCardToPlay(parade);
+            } catch (RuntimeException e) {
+                handIndex = 0; // A failed search must not stall the table
+            }
+            int chosen = handIndex;
+            gameExecutor.execute(() -> finishSearch(computer, chosen));
+        });
+    }
+
+    private void finishSearch(Computer computer, int handIndex) {
+        if (abandoned) {
+            return;
+        }
+        if (!moveComputer(computer, handIndex)) {
+            search(computer);
+            return;
+        }
+        endMove();
+        advance();
+    }
+
+    /**
+     * Plays the computer player's card into the parade, or opens it in the
+     * final play.
+     *
+     * @return true if the player's move is complete, false if it has more
+     * cards to open.
+     */
+    private boolean moveComputer(Computer computer, int handIndex) {
+        if (phase != Phase.FINAL_PLAY) {
+            takeCards(computer, computer.playCard(handIndex, parade));
+            return true;
+        }
+        listener.onCardOpened(this, computer, computer.openCard(handIndex));
+        return --openingsLeft == 0;
+    }
+
+    /**
+     * Moves the cards removed by the card just played into the player's
+     * open cards.
+     */
+    private void takeCards(Player player, Card played) {
+        long removalMask = parade.getRemovalMask();
+        player.takeCardsFromParade(parade);
+        listener.onCardPlayed(this, player, played, removalMask);
+    }
+
+    /**
+     * Draws for the player who just moved and passes the turn on, moving to
+     * the next phase when the current one is over.
+     */
+    private void endMove() {
+        switch (phase) {
+            case TURNS -> {
+                Player player = players.get(turnIndex);
+                player.drawCardFromDeck(deck);
+                List<Card> hand = player.getClosedCards();
+                listener.onCardDrawn(this, player, hand.get(hand.size() - 1));
+                if (gameManager.checkEndGame()) {
+                    gameManager.rearrangePlayers(players.get((turnIndex + 1) % players.size()));
+                    phase = Phase.LAST_ROUND;
+                    turnIndex = 0;
+                } else {
+                    turnIndex = (turnIndex + 1) % players.size();
+                }
+            }
+            case LAST_ROUND -> {
+                if (++turnIndex == players.size()) {
+                    phase = Phase.FINAL_PLAY;
+                    turnIndex = 0;
+                    openingsLeft = Constants.FINAL_PLAY_MOVES;
+                }
+            }
+            case FINAL_PLAY -> {
+                if (openingsLeft == 0 && ++turnIndex == players.size()) {
+                    finishGame();
+                } else if (openingsLeft == 0) {
+                    openingsLeft = Constants.FINAL_PLAY_MOVES;
+                }
+            }
+            default -> throw new IllegalStateException("The game is over!");
+        }
+    }
+
+    /**
+     * Flips the majorities, counts the scores and determines the winner.
+     */
+    private void finishGame() {
+        gameManager.flipCards();
+        gameManager.calculateScores();
+        winner = gameManager.determineWinner();
+        phase = Phase.OVER;
+        listener.onGameOver(this);
+    }
+
+    // ============================ Getters ============================
+    /**
+     * @param player A player of the game.
+     * @return true if the game is waiting for the player's move.
+     */
+    public boolean isWaitingFor(Player player) {
+        return phase != null && phase != Phase.OVER && players.get(turnIndex) == player;
+    }
+
+    /**
+     * @return The players in seat order.
+     */
+    public List<Player> getSeats() {
+        return seats;
+    }
+
+    /**
+     * @return The player about to move, or null if the game is over.
+     */
+    public Player getCurrentPlayer() {
+        return phase == Phase.OVER ? null : players.get(turnIndex);
+    }
+
+    /**
+     * @return The phase of the game, or null before it starts.
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public Parade getParade() {
+        return parade;
+    }
+
+    public int getDeckSize() {
+        return deck.size();
+    }
+
+    /**
+     * @return The winner, or null until the game is over.
+     */
+    public Player getWinner() {
+        return winner;
+    }
+
+    public long getSeed() {
+        return gameManager.getSeed().getSeed();
+    }
+}
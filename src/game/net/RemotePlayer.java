@@ -0,0 +1,44 @@
+package game.net;
+
+import game.core.*;
+
+/**
+ * A human player seated at a NetworkGame, whose moves arrive as bytes on
+ * the WireServer's event loop instead of being read from a PlayerInput.
+ * It is not an InteractivePlayer, so it cannot be seated in a
+ * GameController game.
+ */
+public class RemotePlayer extends Player {
+
+    // ============================ Constructor ============================
+    public RemotePlayer(String name) {
+        super(name);
+    }
+
+    // ============================ Gameplay Methods ============================
+    /**
+     * Plays the closed card at the given index into the parade.
+     *
+     * @param index  The index of the card in the hand.
+     * @param parade The parade the card is played into.
+     * @return The card that was played.
+     */
+    public Card playCard(int index, Parade parade) {
+        return playClosedCard(index, parade);
+    }
+
+    /**
+     * Opens the closed card at the given index, as done in the final play.
+     *
+     * @param index The index of the card in the hand.
+     * @return The card added to the open cards.
+     */
+    public Card openCard(int index) {
+        return openClosedCard(index);
+    }
+
+    @Override
+    public boolean isHuman() {
+        return true;
+    }
+}
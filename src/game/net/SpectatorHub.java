@@ -0,0 +1,249 @@
+package game.net;
+
+import game.events.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams the events of watched tables to spectators, on a thread of its
+ * own so the players' event loop never waits on them.
+ *
+ * Each spectator reads its table's EventRing through its own subscriber and
+ * owns one fixed output buffer. Events are only taken from the ring when
+ * there is room in the buffer, so a spectator that reads slowly stays
+ * behind in the ring rather than growing a queue, and once lapped it is
+ * dropped or skipped ahead, as set by the hub's overflow policy. A spectator
+ * is disconnected after the last event of its game is written.
+ *
+ * The hub sleeps in a Selector of its own until it has work: the table's
+ * thread wakes it after publishing, and a spectator whose socket was full
+ * is only watched for write readiness, so an idle hub costs nothing however
+ * many spectators it holds. Wakeups from a burst of events are merged into
+ * one pass over the spectators.
+ */
+public class SpectatorHub implements Runnable, AutoCloseable {
+
+    /**
+     * Size of each spectator's output buffer.
+     */
+    public static final int OUTPUT_BUFFER_BYTES = 4096;
+
+    // ============================ Instance Variables ============================
+    private final EventRing.Overflow overflow;
+    private final Queue<Spectator> joining = new ConcurrentLinkedQueue<>();
+    private final List<Spectator> spectators = new ArrayList<>();
+    private final Selector selector;
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private volatile boolean running = true;
+    private volatile int spectatorCount;
+    private Thread thread;
+
+    // ============================ Constructor ============================
+    /**
+     * @param overflow What happens to a spectator that falls a ring behind.
+     * @throws IOException if the selector cannot be opened.
+     */
+    public SpectatorHub(EventRing.Overflow overflow) throws IOException {
+        this.overflow = overflow;
+        this.selector = Selector.open();
+    }
+
+    // ============================ Lifecycle ============================
+    /**
+     * Starts the hub's thread.
+     */
+    public synchronized void start() {
+        if (thread == null) {
+            thread = new Thread(this, "spectator-hub");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Adds a spectator, who is first sent the greeting and then every event
+     * published into the ring from now on. Called on the thread publishing
+     * into the ring, so that the greeting and the events line up.
+     *
+     * @param channel  The spectator's non-blocking channel.
+     * @param greeting The frames describing the table as it is now.
+     * @param ring     The events of the table.
+     */
+    public void add(SocketChannel channel, ByteBuffer greeting, EventRing ring) {
+        joining.add(new Spectator(channel, ring.subscribe(overflow), greeting));
+        wake();
+    }
+
+    /**
+     * Tells the hub there are new events to stream. Called by the thread
+     * publishing into a ring after each event; only the first call since
+     * the hub's last pass wakes its thread.
+     */
+    public void wake() {
+        if (!wakeupPending.getAndSet(true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Stops the hub, which then disconnects every spectator.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (thread != null) {
+            selector.wakeup();
+            return;
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+
+    /**
+     * @return The number of spectators being served.
+     */
+    public int getSpectatorCount() {
+        return spectatorCount;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                // Events published from here on wake the next select
+                wakeupPending.set(false);
+                for (Spectator spectator = joining.poll(); spectator != null; spectator = joining.poll()) {
+                    spectators.add(spectator);
+                    try {
+                        spectator.key = spectator.channel.register(selector, 0, spectator);
+                    } catch (ClosedChannelException e) {
+                        spectator.done = true; // The spectator went away before joining
+                    }
+                }
+                boolean busy = false;
+                Iterator<Spectator> iterator = spectators.iterator();
+                while (iterator.hasNext()) {
+                    Spectator spectator = iterator.next();
+                    try {
+                        busy |= spectator.serve();
+                    } catch (IOException e) {
+                        spectator.done = true; // The spectator went away
+                    }
+                    if (spectator.done) {
+                        spectator.close();
+                        iterator.remove();
+                    } else {
+                        // Only a spectator with frames left over waits on its socket
+                        spectator.key.interestOps(spectator.out.position() > 0 ? SelectionKey.OP_WRITE : 0);
+                    }
+                }
+                spectatorCount = spectators.size();
+                if (!busy) {
+                    selector.select();
+                    selector.selectedKeys().clear();
+                }
+            }
+        } catch (IOException e) {
+            // The selector failed; every spectator is disconnected below
+        } finally {
+            for (Spectator spectator : spectators) {
+                spectator.close();
+            }
+            for (Spectator spectator : joining) {
+                spectator.close();
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // Nothing left to release
+            }
+        }
+    }
+
+    // ============================ Spectator ============================
+    /**
+     * A spectator's channel, position in the ring and output buffer.
+     */
+    private static class Spectator implements EventHandler {
+        private final SocketChannel channel;
+        private final EventRing.Subscriber subscriber;
+        private final ByteBuffer out;
+        private SelectionKey key;
+        private long missed;
+        private boolean lastEventTaken;
+        private boolean done;
+
+        Spectator(SocketChannel channel, EventRing.Subscriber subscriber, ByteBuffer greeting) {
+            this.channel = channel;
+            this.subscriber = subscriber;
+            this.out = ByteBuffer.allocate(Math.max(OUTPUT_BUFFER_BYTES, greeting.remaining()));
+            out.put(greeting);
+        }
+
+        /**
+         * Writes what the buffer holds and refills it from the ring.
+         *
+         * @return true if anything was written or taken from the ring.
+         * @throws IOException if the spectator's connection failed.
+         */
+        boolean serve() throws IOException {
+            boolean busy = write();
+            if (missed > 0 && out.remaining() >= WireFormat.EVENT_FRAME_BYTES) {
+                WireFormat.putMissed(out, missed);
+                missed = 0;
+            }
+            int room = out.remaining() / WireFormat.EVENT_FRAME_BYTES;
+            if (!lastEventTaken && missed == 0 && room > 0) {
+                int taken = subscriber.poll(this, room);
+                if (taken < 0) {
+                    done = true; // Dropped for falling behind
+                    return true;
+                }
+                if (taken > 0 || missed > 0) {
+                    write();
+                    busy = true;
+                }
+            }
+            if (lastEventTaken && out.position() == 0) {
+                done = true;
+            }
+            return busy;
+        }
+
+        private boolean write() throws IOException {
+            if (out.position() == 0) {
+                return false;
+            }
+            out.flip();
+            int written = channel.write(out);
+            out.compact();
+            return written > 0;
+        }
+
+        @Override
+        public void onEvent(long sequence, int type, int seat, int card, long value) {
+            WireFormat.putEvent(out, sequence, type, seat, card, value);
+            lastEventTaken = GameEvent.isFinal(type);
+        }
+
+        @Override
+        public void onMissed(long count) {
+            missed += count;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Nothing left to release
+            }
+        }
+    }
+}
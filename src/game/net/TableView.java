@@ -0,0 +1,262 @@
+package game.net;
+
+import game.core.Parade;
+import game.utils.Constants;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A client's picture of its table, kept up to date from the frames of a
+ * WireServer: set from each SNAPSHOT and then changed by every TURN,
+ * PLAYED, DRAWN and OPENED frame in turn.
+ *
+ * Each change must be numbered one past the last. When one is missed the
+ * view stops following the changes until the next SNAPSHOT, which the
+ * client asks for by sending RESYNC. Cards are held as their IDs.
+ */
+public class TableView {
+
+    // ============================ Instance Variables ============================
+    private int seat = -1;
+    private int playerCount;
+    private long seed;
+
+    private boolean synced;
+    private int sequence;
+    private int turnSequence;
+
+    private int currentSeat;
+    private NetworkGame.Phase phase;
+    private int deckSize;
+    private final int[] parade = new int[Parade.MAX_LENGTH + 1];
+    private int paradeSize;
+    private final int[] hand = new int[Constants.INITIAL_HAND_SIZE];
+    private int handSize;
+    private int[] handSizes;
+    private int[][] openCards;
+    private int[] openCounts;
+
+    private int winner = -1;
+    private int[] scores;
+
+    // ============================ Frames ============================
+    /**
+     * Applies a frame from the server. Frames other than those describing
+     * the table are ignored.
+     *
+     * @param frame The frame.
+     * @return false if the frame shows a change was missed, in which case
+     * the client should send RESYNC; true otherwise, including while the view
+     * waits for its SNAPSHOT.
+     */
+    public boolean apply(WireClient.Frame frame) {
+        ByteBuffer payload = frame.getPayload().duplicate();
+        switch (frame.getType()) {
+            case WireFormat.SEATED -> seat(payload);
+            case WireFormat.SNAPSHOT -> snapshot(payload);
+            case WireFormat.GAME_OVER -> gameOver(payload);
+            case WireFormat.TURN, WireFormat.PLAYED, WireFormat.DRAWN, WireFormat.OPENED -> {
+                if (!synced) {
+                    return true;
+                }
+                int number = payload.getInt();
+                if (number != sequence + 1) {
+                    synced = false;
+                    return false;
+                }
+                sequence = number;
+                change(frame.getType(), payload);
+            }
+            default -> {
+                // Not about the table
+            }
+        }
+        return true;
+    }
+
+    private void seat(ByteBuffer payload) {
+        seat = payload.get();
+        playerCount = payload.get();
+        seed = payload.getLong();
+        handSizes = new int[playerCount];
+        openCards = new int[playerCount][Constants.TOTAL_CARDS];
+        openCounts = new int[playerCount];
+        scores = new int[playerCount];
+        synced = false;
+    }
+
+    private void snapshot(ByteBuffer payload) {
+        sequence = payload.getInt();
+        turnSequence = payload.getInt();
+        currentSeat = payload.get();
+        phase = NetworkGame.Phase.values()[payload.get()];
+        deckSize = payload.get() & 0xFF;
+        paradeSize = payload.get() & 0xFF;
+        for (int i = 0; i < paradeSize; i++) {
+            parade[i] = payload.get();
+        }
+        for (int player = 0; player < playerCount; player++) {
+            handSizes[player] = payload.get();
+            openCounts[player] = payload.get() & 0xFF;
+            for (int i = 0; i < openCounts[player]; i++) {
+                openCards[player][i] = payload.get();
+            }
+        }
+        handSize = payload.get();
+        for (int i = 0; i < handSize; i++) {
+            hand[i] = payload.get();
+        }
+        synced = true;
+    }
+
+    private void change(byte type, ByteBuffer payload) {
+        int player = payload.get();
+        switch (type) {
+            case WireFormat.TURN -> {
+                turnSequence = sequence;
+                currentSeat = player;
+                phase = NetworkGame.Phase.values()[payload.get()];
+            }
+            case WireFormat.PLAYED -> {
+                int cardId = payload.get();
+                long removalMask = payload.getLong();
+                parade[paradeSize++] = cardId;
+                int kept = 0;
+                for (int position = 0; position < paradeSize; position++) {
+                    if ((removalMask & (1L << position)) != 0) {
+                        openCards[player][openCounts[player]++] = parade[position];
+                    } else {
+                        parade[kept++] = parade[position];
+                    }
+                }
+                paradeSize = kept;
+                leaveHand(player, cardId);
+            }
+            case WireFormat.DRAWN -> {
+                deckSize--;
+                handSizes[player]++;
+                if (player == seat) {
+                    hand[handSize++] = payload.get();
+                }
+            }
+            case WireFormat.OPENED -> {
+                int cardId = payload.get();
+                openCards[player][openCounts[player]++] = cardId;
+                leaveHand(player, cardId);
+            }
+            default -> throw new IllegalArgumentException("Not a change: " + type);
+        }
+    }
+
+    private void leaveHand(int player, int cardId) {
+        handSizes[player]--;
+        if (player != seat) {
+            return;
+        }
+        for (int i = 0; i < handSize; i++) {
+            if (hand[i] == cardId) {
+                System.arraycopy(hand, i + 1, hand, i, handSize - i - 1);
+                handSize--;
+                return;
+            }
+        }
+    }
+
+    private void gameOver(ByteBuffer payload) {
+        winner = payload.get();
+        for (int player = 0; player < playerCount; player++) {
+            scores[player] = payload.getShort();
+        }
+    }
+
+    // ============================ Getters ============================
+    public int getSeat() {
+        return seat;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return true if the view follows the table, false while it waits for
+     * a SNAPSHOT.
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * @return true if the view is synced and shows the receiver's seat to
+     * move. The client moves once per turn sequence at which this holds.
+     */
+    public boolean isOwnTurn() {
+        return synced && phase != NetworkGame.Phase.OVER && currentSeat == seat;
+    }
+
+    /**
+     * @return The number of the last change applied.
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return The number of the TURN that started the current move.
+     */
+    public int getTurnSequence() {
+        return turnSequence;
+    }
+
+    /**
+     * @return The seat to move, or -1 once the game is over.
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public NetworkGame.Phase getPhase() {
+        return phase;
+    }
+
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    public int[] getParade() {
+        return Arrays.copyOf(parade, paradeSize);
+    }
+
+    /**
+     * @return The receiver's own closed cards, in the order moves refer to.
+     */
+    public int[] getHand() {
+        return Arrays.copyOf(hand, handSize);
+    }
+
+    public int getHandSize(int player) {
+        return handSizes[player];
+    }
+
+    /**
+     * @return The open cards of a seat, in the order they were taken.
+     */
+    public int[] getOpenCards(int player) {
+        return Arrays.copyOf(openCards[player], openCounts[player]);
+    }
+
+    /**
+     * @return The winning seat, or -1 until the game is over.
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    public int getScore(int player) {
+        return scores[player];
+    }
+}
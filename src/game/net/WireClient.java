@@ -0,0 +1,114 @@
+package game.net;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * A blocking client for the WireServer, reading whole frames and sending
+ * move bytes; a TableView turns the frames into the state of the table.
+ * Used to play against a server from a program, such as a bot or a check
+ * run over the loopback interface.
+ */
+public class WireClient implements Closeable {
+
+    /**
+     * A frame received from the server.
+     */
+    public static class Frame {
+        private final byte type;
+        private final ByteBuffer payload;
+
+        Frame(byte type, ByteBuffer payload) {
+            this.type = type;
+            this.payload = payload;
+        }
+
+        /**
+         * @return One of the frame types of WireFormat.
+         */
+        public byte getType() {
+            return type;
+        }
+
+        /**
+         * @return The payload, laid out as described in WireFormat.
+         */
+        public ByteBuffer getPayload() {
+            return payload;
+        }
+    }
+
+    // ============================ Instance Variables ============================
+    private final SocketChannel channel;
+    private final ByteBuffer header = ByteBuffer.allocate(WireFormat.HEADER_BYTES);
+    private final ByteBuffer move = ByteBuffer.allocate(1);
+
+    // ============================ Constructor ============================
+    /**
+     * Connects to a WireServer.
+     *
+     * @param host The server's host name.
+     * @param port The server's port.
+     * @throws IOException if the connection fails.
+     */
+    public WireClient(String host, int port) throws IOException {
+        this.channel = SocketChannel.open(new InetSocketAddress(host, port));
+        channel.socket().setTcpNoDelay(true);
+    }
+
+    // ============================ Protocol ============================
+    /**
+     * Waits for the next frame.
+     *
+     * @return The frame.
+     * @throws EOFException if the server closed the connection.
+     * @throws IOException if the connection fails.
+     */
+    public Frame readFrame() throws IOException {
+        header.clear();
+        readFully(header);
+        byte type = header.get(0);
+        ByteBuffer payload = ByteBuffer.allocate(header.getShort(1) & 0xFFFF);
+        readFully(payload);
+        return new Frame(type, payload.asReadOnlyBuffer());
+    }
+
+    /**
+     * Sends a move: the index, from 0, of the card in hand to play or open.
+     *
+     * @param handIndex The index of the card.
+     * @throws IOException if the connection fails.
+     */
+    public void sendMove(int handIndex) throws IOException {
+        move.clear();
+        move.put((byte) handIndex).flip();
+        while (move.hasRemaining()) {
+            channel.write(move);
+        }
+    }
+
+    /**
+     * Asks the server for a SNAPSHOT of the table.
+     *
+     * @throws IOException if the connection fails.
+     */
+    public void requestResync() throws IOException {
+        sendMove(WireFormat.RESYNC);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("The server closed the connection.");
+            }
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,273 @@
+package game.net;
+
+import game.core.*;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * The binary protocol spoken between the WireServer and its clients.
+ *
+ * A client sends one byte per move: the index, from 0, of the card in its
+ * hand to play into the parade, or to open in the final play, or RESYNC to
+ * ask for a new snapshot. The server sends frames made of a type byte, a
+ * two-byte payload length and the payload. Cards are sent as their one-byte
+ * ID (see Card.fromId), seats as their one-byte number, counts as one
+ * unsigned byte and sequence numbers as four bytes:
+ *
+ * SEATED    seat, player count, seed (8 bytes)
+ * SNAPSHOT  sequence, turn sequence, seat to move, phase, deck size,
+ *           parade (count, IDs),
+ *           for every seat its hand size and open cards (count, IDs), then
+ *           the receiver's own hand (count, IDs)
+ * TURN      sequence, seat to move, phase
+ * PLAYED    sequence, seat, card, removal mask (8 bytes)
+ * DRAWN     sequence, seat, card, or HIDDEN_CARD for another player's draw
+ * OPENED    sequence, seat, card
+ * REJECTED  the move byte that was refused
+ * GAME_OVER winning seat, then every seat's score (2 bytes)
+ * ABORTED   empty: another player left and the game was stopped
+ * FULL      empty: the server has no room for another player
+ * EVENT     sequence, event type (see GameEvent), seat, card, value (8 bytes)
+ * MISSED    the number of events skipped (4 bytes)
+ *
+ * A client is sent a SNAPSHOT of the first turn and then only what
+ * changes: TURN, PLAYED, DRAWN and OPENED frames of a fixed size, each
+ * numbered one past the last, so a turn costs the same few dozen bytes
+ * however long the parade and the open cards grow. A SNAPSHOT carries the
+ * number of the last change it includes and the number of the TURN that
+ * started the current move, the first snapshot counting as the first TURN.
+ * A client moves once per TURN naming its seat. A PLAYED card goes to
+ * the end of the parade, after which the positions in the removal mask
+ * leave it for the player's open cards, in order. A client that sees a
+ * number out of sequence drops its view and sends RESYNC; the server also
+ * replaces the frames queued for a client that falls behind with a
+ * SNAPSHOT (see TableView).
+ *
+ * A spectator, connected to the server's spectator port, is sent SEATED
+ * with seat 255, a SNAPSHOT without a hand and
+ * then an EVENT for everything that happens at the table, numbered in the
+ * table's EventRing from one past the snapshot's sequence. A spectator that
+ * falls too far behind is sent MISSED and carries on from the newest event.
+ */
+public final class WireFormat {
+
+    // ============================ Frame Types ============================
+    public static final byte SEATED = 1;
+    public static final byte SNAPSHOT = 2;
+    public static final byte REJECTED = 3;
+    public static final byte GAME_OVER = 4;
+    public static final byte ABORTED = 5;
+    public static final byte FULL = 6;
+    public static final byte TURN = 7;
+    public static final byte PLAYED = 8;
+    public static final byte DRAWN = 9;
+    public static final byte OPENED = 10;
+    public static final byte EVENT = 11;
+    public static final byte MISSED = 12;
+
+    /**
+     * Byte a client sends to ask for a SNAPSHOT.
+     */
+    public static final int RESYNC = 0xFF;
+
+    /**
+     * Card ID sent in the DRAWN frames of another player's draw.
+     */
+    public static final int HIDDEN_CARD = 0xFF;
+
+    /**
+     * Size of the type and length that start every frame.
+     */
+    public static final int HEADER_BYTES = 3;
+
+    /**
+     * Largest frame the server sends.
+     */
+    public static final int MAX_FRAME_BYTES = 512;
+
+    /**
+     * Size of an EVENT frame, the largest a spectator is sent after its
+     * snapshot.
+     */
+    public static final int EVENT_FRAME_BYTES = HEADER_BYTES + 15;
+
+    /**
+     * Room for any frame but a SNAPSHOT.
+     */
+    private static final int DELTA_FRAME_BYTES = 32;
+
+    private WireFormat() {
+    }
+
+    // ============================ Frames ============================
+    /**
+     * Tells a player which seat they have at a new game.
+     */
+    public static ByteBuffer seated(NetworkGame game, int seat) {
+        ByteBuffer frame = begin(SEATED);
+        frame.put((byte) seat);
+        frame.put((byte) game.getSeats().size());
+        frame.putLong(game.getSeed());
+        return end(frame);
+    }
+
+    /**
+     * Describes the whole table as the player in the given seat sees it, or
+     * without any hand for a seat of -1.
+     *
+     * @param sequence     The number of the last change the table includes.
+     * @param turnSequence The number of the TURN that started the current
+     *                     move.
+     */
+    public static ByteBuffer snapshot(NetworkGame game, int seat, int sequence, int turnSequence) {
+        List<Player> seats = game.getSeats();
+        Player current = game.getCurrentPlayer();
+        ByteBuffer frame = begin(SNAPSHOT);
+        frame.putInt(sequence);
+        frame.putInt(turnSequence);
+        frame.put((byte) (current == null ? -1 : seats.indexOf(current)));
+        frame.put((byte) game.getPhase().ordinal());
+        frame.put((byte) game.getDeckSize());
+
+        Parade parade = game.getParade();
+        frame.put((byte) parade.size());
+        for (int position = 0; position < parade.size(); position++) {
+            frame.put((byte) parade.getCardId(position));
+        }
+
+        for (Player player : seats) {
+            frame.put((byte) player.getClosedCards().size());
+            frame.put((byte) player.getTotalOpenCards());
+            for (List<Card> cards : player.getOpenCards().values()) {
+                putCards(frame, cards, false);
+            }
+        }
+        putCards(frame, seat < 0 ? List.of() : seats.get(seat).getClosedCards(), true);
+        return end(frame);
+    }
+
+    /**
+     * Announces whose move it is.
+     */
+    public static ByteBuffer turn(int sequence, int seat, NetworkGame.Phase phase) {
+        ByteBuffer frame = begin(TURN);
+        frame.putInt(sequence);
+        frame.put((byte) seat);
+        frame.put((byte) phase.ordinal());
+        return end(frame);
+    }
+
+    /**
+     * Announces a card played into the parade and the cards it removed.
+     */
+    public static ByteBuffer played(int sequence, int seat, Card card, long removalMask) {
+        ByteBuffer frame = begin(PLAYED);
+        frame.putInt(sequence);
+        frame.put((byte) seat);
+        frame.put((byte) card.getId());
+        frame.putLong(removalMask);
+        return end(frame);
+    }
+
+    /**
+     * Announces a card drawn from the deck.
+     *
+     * @param cardId The card, or HIDDEN_CARD if the receiver is not the
+     *               player drawing.
+     */
+    public static ByteBuffer drawn(int sequence, int seat, int cardId) {
+        ByteBuffer frame = begin(DRAWN);
+        frame.putInt(sequence);
+        frame.put((byte) seat);
+        frame.put((byte) cardId);
+        return end(frame);
+    }
+
+    /**
+     * Announces a card opened in the final play.
+     */
+    public static ByteBuffer opened(int sequence, int seat, Card card) {
+        ByteBuffer frame = begin(OPENED);
+        frame.putInt(sequence);
+        frame.put((byte) seat);
+        frame.put((byte) card.getId());
+        return end(frame);
+    }
+
+    /**
+     * Tells a player their move was refused, because it was not their turn
+     * or they have no card at that index.
+     */
+    public static ByteBuffer rejected(int move) {
+        ByteBuffer frame = begin(REJECTED);
+        frame.put((byte) move);
+        return end(frame);
+    }
+
+    /**
+     * Announces the winner and the final scores.
+     */
+    public static ByteBuffer gameOver(NetworkGame game) {
+        List<Player> seats = game.getSeats();
+        ByteBuffer frame = begin(GAME_OVER);
+        frame.put((byte) seats.indexOf(game.getWinner()));
+        for (Player player : seats) {
+            frame.putShort((short) player.getScore());
+        }
+        return end(frame);
+    }
+
+    /**
+     * Writes an EVENT frame into a spectator's buffer, which must have
+     * EVENT_FRAME_BYTES to spare.
+     */
+    public static void putEvent(ByteBuffer out, long sequence, int type, int seat, int card, long value) {
+        out.put(EVENT);
+        out.putShort((short) (EVENT_FRAME_BYTES - HEADER_BYTES));
+        out.putInt((int) sequence);
+        out.put((byte) type);
+        out.put((byte) seat);
+        out.put((byte) card);
+        out.putLong(value);
+    }
+
+    /**
+     * Writes a MISSED frame into a spectator's buffer, which must have
+     * EVENT_FRAME_BYTES to spare.
+     */
+    public static void putMissed(ByteBuffer out, long count) {
+        out.put(MISSED);
+        out.putShort((short) Integer.BYTES);
+        out.putInt((int) Math.min(count, Integer.MAX_VALUE));
+    }
+
+    /**
+     * A frame with no payload, such as ABORTED or FULL.
+     */
+    public static ByteBuffer empty(byte type) {
+        return end(begin(type));
+    }
+
+    // ============================ Helpers ============================
+    private static ByteBuffer begin(byte type) {
+        ByteBuffer frame = ByteBuffer.allocate(type == SNAPSHOT ? MAX_FRAME_BYTES : DELTA_FRAME_BYTES);
+        frame.put(type);
+        frame.putShort((short) 0); // Filled in by end
+        return frame;
+    }
+
+    private static ByteBuffer end(ByteBuffer frame) {
+        frame.putShort(1, (short) (frame.position() - HEADER_BYTES));
+        frame.flip();
+        return frame;
+    }
+
+    private static void putCards(ByteBuffer frame, List<Card> cards, boolean withCount) {
+        if (withCount) {
+            frame.put((byte) cards.size());
+        }
+        for (Card card : cards) {
+            frame.put((byte) card.getId());
+        }
+    }
+}
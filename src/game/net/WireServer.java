@@ -0,0 +1,661 @@
+package game.net;
+
+import game.ai.StrategyFactory;
+import game.core.*;
+import game.events.*;
+import game.setup.GameSeed;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Hosts games for clients speaking the WireFormat protocol, on a single
+ * thread running a Selector over non-blocking channels.
+ *
+ * Connections wait in a lobby until there are enough remote players for a
+ * table; the remaining seats go to computer players. Each move byte is
+ * handed to the table's NetworkGame on the event loop. The computer players
+ * search their moves on a pool of bot threads, so a slow strategy holds up
+ * only its own table; each chosen move is queued back to the event loop,
+ * which wakes up to make it. Every remote player is sent a SNAPSHOT of the
+ * first turn and then a numbered frame for each change, built once per
+ * table and shared between its connections. Nothing blocks on a player, so
+ * the thread serves every table at once.
+ *
+ * Frames that cannot be written right away are queued per connection. A
+ * client whose queue grows past the pending limit has its changes replaced
+ * with a single SNAPSHOT, so a slow client costs bounded memory and catches
+ * up at once; a client not yet seated is dropped instead. Frames a snapshot
+ * cannot stand for survive the conflation: SEATED, the latest REJECTED, and
+ * the GAME_OVER or ABORTED that ends the game. When a player leaves,
+ * the others at the table are sent ABORTED; when the game ends, every player
+ * is sent GAME_OVER, and each connection is closed once its frames are
+ * written.
+ *
+ * Once openSpectatorPort is called, clients connecting to that port watch
+ * the latest table. The table then publishes its events into an EventRing,
+ * and the spectator's channel goes to a SpectatorHub, whose thread streams
+ * the events to every spectator. Publishing an event costs the event loop
+ * the same whether one spectator watches or thousands: the event goes into
+ * the ring, and the hub is woken to stream it.
+ */
+public class WireServer implements AutoCloseable {
+
+    /**
+     * Most bytes queued for a client that is not reading its frames.
+     */
+    public static final int DEFAULT_MAX_PENDING_BYTES = 64 * 1024;
+
+    /**
+     * Default most connections served at once.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS = 10_000;
+
+    /**
+     * Number of events a watched table keeps for its spectators, more than
+     * a whole game publishes.
+     */
+    public static final int SPECTATOR_RING_CAPACITY = 1024;
+
+    // ============================ Instance Variables ============================
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private ServerSocketChannel spectatorChannel;
+    private final int playerCount;
+    private final int remotePlayers;
+    private final StrategyFactory botFactory;
+    private final int maxConnections;
+    private final int maxPendingBytes;
+
+    private final List<Connection> lobby = new ArrayList<>();
+    private final List<Connection> toClose = new ArrayList<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(256);
+
+    /**
+     * Threads searching the computer players' moves, and the moves they
+     * hand back to the event loop.
+     */
+    private final ExecutorService botSearches;
+    private final Queue<Runnable> loopTasks = new ConcurrentLinkedQueue<>();
+    private int connectionCount;
+    private volatile boolean running = true;
+
+    private final SpectatorHub spectatorHub;
+
+    /**
+     * The table last started, which new spectators watch.
+     */
+    private Table latestTable;
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs a WireServer seating remote players at tables of the given
+     * size, filling the remaining seats with computer players.
+     *
+     * @param port           The port to listen on, or 0 for any free port.
+     * @param playerCount    The number of players at each table.
+     * @param remotePlayers  The number of remote players at each table.
+     * @param botFactory     Creates the strategies of the computer players.
+     * @param maxConnections The most connections served at once.
+     * @throws IOException if the port cannot be bound.
+     * @throws IllegalArgumentException if the table sizes are invalid.
+     */
+    public WireServer(int port, int playerCount, int remotePlayers, StrategyFactory botFactory,
+            int maxConnections) throws IOException {
+        this(port, playerCount, remotePlayers, botFactory, maxConnections, DEFAULT_MAX_PENDING_BYTES);
+    }
+
+    /**
+     * Constructs a WireServer with the given limit on the bytes queued for
+     * a client.
+     *
+     * @param port            The port to listen on, or 0 for any free port.
+     * @param playerCount     The number of players at each table.
+     * @param remotePlayers   The number of remote players at each table.
+     * @param botFactory      Creates the strategies of the computer players.
+     * @param maxConnections  The most connections served at once.
+     * @param maxPendingBytes The most bytes queued for a client before its
+     *                        changes are replaced with a snapshot.
+     * @throws IOException if the port cannot be bound.
+     * @throws IllegalArgumentException if the table sizes or limits are
+     *                                  invalid.
+     */
+    public WireServer(int port, int playerCount, int remotePlayers, StrategyFactory botFactory,
+            int maxConnections, int maxPendingBytes) throws IOException {
+        if (playerCount < 2 || playerCount > 6 || remotePlayers < 1 || remotePlayers > playerCount
+                || maxConnections < 1 || maxPendingBytes < 1) {
+            throw new IllegalArgumentException("Invalid table size or connection limit.");
+        }
+        this.playerCount = playerCount;
+        this.remotePlayers = remotePlayers;
+        this.botFactory = botFactory;
+        this.maxConnections = maxConnections;
+        this.maxPendingBytes = maxPendingBytes;
+        this.botSearches = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "wire-bot");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.selector = Selector.open();
+        this.spectatorHub = new SpectatorHub(EventRing.Overflow.CONFLATE);
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), Math.min(maxConnections, 4096));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    // ============================ Event Loop ============================
+    /**
+     * Runs the event loop until the server is closed.
+     *
+     * @throws IOException if the selector fails.
+     */
+    public void serve() throws IOException {
+        spectatorHub.start();
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable() && key.channel() == spectatorChannel) {
+                        acceptSpectator();
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    if (key.isReadable()) {
+                        read(connection);
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        flush(connection);
+                    }
+                }
+                runLoopTasks();
+                closePending();
+            }
+        } finally {
+            botSearches.shutdownNow();
+            spectatorHub.close();
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+        }
+    }
+
+    /**
+     * Stops the event loop, which then closes every connection.
+     */
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Runs a task on the event loop, waking it up if it is waiting for
+     * connections. Safe to call from any thread.
+     */
+    private void runOnLoop(Runnable task) {
+        loopTasks.add(task);
+        selector.wakeup();
+    }
+
+    private void runLoopTasks() {
+        Runnable task;
+        while ((task = loopTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    // ============================ Connections ============================
+    /**
+     * Takes a new client into the lobby, or turns it away if the server is
+     * full. A connection that fails while being set up is closed on its own,
+     * without stopping the event loop.
+     */
+    private void accept() {
+        SocketChannel channel = acceptFrom(serverChannel);
+        if (channel == null) {
+            return;
+        }
+        SelectionKey key;
+        try {
+            key = channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            return;
+        }
+        Connection connection = new Connection(channel, key);
+        connection.key.attach(connection);
+        connectionCount++;
+        if (connectionCount > maxConnections) {
+            connection.closeWhenFlushed = true;
+            send(connection, WireFormat.empty(WireFormat.FULL));
+            return;
+        }
+        lobby.add(connection);
+        if (lobby.size() == remotePlayers) {
+            List<Connection> seated = new ArrayList<>(lobby);
+            lobby.clear();
+            new Table(seated).start();
+        }
+    }
+
+    /**
+     * Reads the connection's move bytes and hands each to its game.
+     */
+    private void read(Connection connection) {
+        readBuffer.clear();
+        int read;
+        try {
+            read = connection.channel.read(readBuffer);
+        } catch (IOException e) {
+            read = -1;
+        }
+        if (read < 0) {
+            dropLater(connection);
+            return;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining() && !connection.closeWhenFlushed) {
+            int move = readBuffer.get() & 0xFF;
+            Table table = connection.table;
+            if (table != null && move == WireFormat.RESYNC) {
+                table.resync(connection);
+            } else if (table == null || !table.game.submitMove(connection.player, move)) {
+                send(connection, WireFormat.rejected(move));
+            }
+        }
+    }
+
+    /**
+     * Hands a spectator's connection to the SpectatorHub, to watch the
+     * latest table from a snapshot of it onwards. Without a game to watch,
+     * the spectator is sent ABORTED and disconnected.
+     */
+    private void acceptSpectator() {
+        SocketChannel channel = acceptFrom(spectatorChannel);
+        if (channel == null) {
+            return;
+        }
+        Table table = latestTable;
+        if (table == null || table.game.getPhase() == NetworkGame.Phase.OVER || table.aborted) {
+            try {
+                channel.write(WireFormat.empty(WireFormat.ABORTED));
+            } catch (IOException e) {
+                // The spectator is disconnected either way
+            }
+            closeQuietly(channel);
+            return;
+        }
+        ByteBuffer seated = WireFormat.seated(table.game, -1);
+        ByteBuffer snapshot = WireFormat.snapshot(table.game, -1, (int) table.events().getCursor(),
+                table.turnSequence);
+        ByteBuffer greeting = ByteBuffer.allocate(seated.remaining() + snapshot.remaining());
+        greeting.put(seated).put(snapshot).flip();
+        spectatorHub.add(channel, greeting, table.events());
+    }
+
+    /**
+     * Accepts a pending connection and makes it non-blocking.
+     *
+     * @return The connection, or null if none was pending or it failed
+     * before it could be used; a failed connection is closed.
+     */
+    private static SocketChannel acceptFrom(ServerSocketChannel server) {
+        SocketChannel channel;
+        try {
+            channel = server.accept();
+        } catch (IOException e) {
+            return null; // Out of file descriptors or a failed handshake, tried again on the next event
+        }
+        if (channel == null) {
+            return null;
+        }
+        try {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            return null;
+        }
+        return channel;
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+
+    /**
+     * Listens for spectators on a second port, served by the same event
+     * loop. Must be called before serve.
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @return The port bound.
+     * @throws IOException if the port cannot be bound.
+     */
+    public int openSpectatorPort(int port) throws IOException {
+        spectatorChannel = ServerSocketChannel.open();
+        spectatorChannel.bind(new InetSocketAddress(port), 4096);
+        spectatorChannel.configureBlocking(false);
+        spectatorChannel.register(selector, SelectionKey.OP_ACCEPT);
+        return spectatorChannel.socket().getLocalPort();
+    }
+
+    /**
+     * @return The number of spectators watching a table.
+     */
+    public int getSpectatorCount() {
+        return spectatorHub.getSpectatorCount();
+    }
+
+    /**
+     * Queues a frame for the connection and writes as much as the socket
+     * takes now, watching for writability if some is left.
+     */
+    private void send(Connection connection, ByteBuffer frame) {
+        if (connection.dropped) {
+            return;
+        }
+        connection.pending.add(frame);
+        connection.pendingBytes += frame.remaining();
+        if (connection.pendingBytes > maxPendingBytes) {
+            if (connection.table == null) {
+                dropLater(connection);
+                return;
+            }
+            // Until the game starts only SEATED is queued, and a snapshot follows it
+            if (connection.table.game.getPhase() != null) {
+                conflate(connection);
+            }
+        }
+        flush(connection);
+    }
+
+    /**
+     * Replaces the changes queued for a client that fell behind with a
+     * snapshot of the table. The frame being written is kept so the stream
+     * stays whole, and so are the frames a snapshot does not stand for:
+     * SEATED, the latest REJECTED, and GAME_OVER or ABORTED, which stay
+     * after the snapshot.
+     */
+    private void conflate(Connection connection) {
+        ArrayDeque<ByteBuffer> queued = new ArrayDeque<>(connection.pending);
+        connection.pending.clear();
+        connection.pendingBytes = 0;
+        ByteBuffer current = queued.peek();
+        if (current != null && current.position() > 0) {
+            enqueue(connection, queued.poll());
+        }
+        ByteBuffer rejected = null;
+        ByteBuffer ending = null;
+        for (ByteBuffer frame : queued) {
+            switch (frame.get(0)) {
+                case WireFormat.SEATED -> enqueue(connection, frame);
+                case WireFormat.REJECTED -> rejected = frame;
+                case WireFormat.GAME_OVER, WireFormat.ABORTED -> ending = frame;
+                default -> {
+                    // A change or an older snapshot, which the new snapshot stands for
+                }
+            }
+        }
+        if (rejected != null) {
+            enqueue(connection, rejected);
+        }
+        enqueue(connection, connection.table.snapshot(connection));
+        if (ending != null) {
+            enqueue(connection, ending);
+        }
+    }
+
+    private static void enqueue(Connection connection, ByteBuffer frame) {
+        connection.pending.add(frame);
+        connection.pendingBytes += frame.remaining();
+    }
+
+    private void flush(Connection connection) {
+        try {
+            while (!connection.pending.isEmpty()) {
+                ByteBuffer frame = connection.pending.peek();
+                connection.pendingBytes -= connection.channel.write(frame);
+                if (frame.hasRemaining()) {
+                    connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+                connection.pending.poll();
+            }
+        } catch (IOException e) {
+            dropLater(connection);
+            return;
+        }
+        connection.key.interestOps(SelectionKey.OP_READ);
+        if (connection.closeWhenFlushed) {
+            dropLater(connection);
+        }
+    }
+
+    /**
+     * Marks the connection to be closed once the current event is handled,
+     * since it may be in the middle of a game's callbacks.
+     */
+    private void dropLater(Connection connection) {
+        if (!connection.dropped) {
+            connection.dropped = true;
+            toClose.add(connection);
+        }
+    }
+
+    private void closePending() {
+        for (int i = 0; i < toClose.size(); i++) {
+            Connection connection = toClose.get(i);
+            connection.key.cancel();
+            closeQuietly(connection.channel);
+            connectionCount--;
+            lobby.remove(connection);
+            if (connection.table != null) {
+                connection.table.leave(connection);
+            }
+        }
+        toClose.clear();
+    }
+
+    // ============================ Connection & Table ============================
+    /**
+     * A client's channel, its queued frames and its seat.
+     */
+    private static class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ArrayDeque<ByteBuffer> pending = new ArrayDeque<>();
+        private int pendingBytes;
+        private boolean closeWhenFlushed;
+        private boolean dropped;
+        private Table table;
+        private RemotePlayer player;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+    }
+
+    /**
+     * A game and the connections of its remote players, sending each of
+     * them the frames of the game's progress.
+     */
+    private class Table implements NetworkGame.Listener {
+        private final List<Connection> connections;
+        private final NetworkGame game;
+
+        /**
+         * The number of the last change sent, 0 until the first turn, and
+         * of the last TURN.
+         */
+        private int sequence;
+        private int turnSequence;
+
+        /**
+         * The events spectators read, created when the first one arrives.
+         */
+        private EventRing events;
+        private boolean aborted;
+
+        Table(List<Connection> connections) {
+            this.connections = connections;
+            GameSeed seed = new GameSeed(GameSeed.randomSeed());
+            List<Player> seats = new ArrayList<>();
+            for (Connection connection : connections) {
+                connection.table = this;
+                connection.player = new RemotePlayer("Player " + (seats.size() + 1));
+                seats.add(connection.player);
+            }
+            for (int bot = 1; seats.size() < playerCount; bot++) {
+                seats.add(new Computer("Bot " + bot, botFactory.create(seed.getPlayerRandom(seats.size()))));
+            }
+            this.game = new NetworkGame(seats, seed, this, botSearches, WireServer.this::runOnLoop);
+        }
+
+        void start() {
+            latestTable = this;
+            for (Connection connection : connections) {
+                send(connection, WireFormat.seated(game, seatOf(connection.player)));
+            }
+            game.start();
+        }
+
+        EventRing events() {
+            if (events == null) {
+                events = new EventRing(SPECTATOR_RING_CAPACITY);
+            }
+            return events;
+        }
+
+        private void publish(int type, Player player, int card, long value) {
+            if (events != null) {
+                events.publish(type, seatOf(player), card, value);
+                spectatorHub.wake();
+            }
+        }
+
+        /**
+         * Starts every player off with a snapshot of the first turn, then
+         * announces each turn after it.
+         */
+        @Override
+        public void onTurnStart(NetworkGame game) {
+            turnSequence = ++sequence;
+            publish(GameEvent.TURN_START, game.getCurrentPlayer(), 0, game.getPhase().ordinal());
+            if (sequence == 1) {
+                for (Connection connection : connections) {
+                    send(connection, snapshot(connection));
+                }
+                return;
+            }
+            Player player = game.getCurrentPlayer();
+            broadcast(WireFormat.turn(sequence, seatOf(player), game.getPhase()));
+        }
+
+        @Override
+        public void onCardPlayed(NetworkGame game, Player player, Card card, long removalMask) {
+            broadcast(WireFormat.played(++sequence, seatOf(player), card, removalMask));
+            publish(GameEvent.CARD_PLAYED, player, card.getId(), 0);
+            publish(GameEvent.INTAKE, player, 0, removalMask);
+        }
+
+        @Override
+        public void onCardDrawn(NetworkGame game, Player player, Card card) {
+            int seat = seatOf(player);
+            ByteBuffer hidden = WireFormat.drawn(++sequence, seat, WireFormat.HIDDEN_CARD);
+            for (Connection connection : connections) {
+                send(connection, connection.player == player
+                        ? WireFormat.drawn(sequence, seat, card.getId())
+                        : hidden.duplicate());
+            }
+            publish(GameEvent.CARD_DRAWN, player, 0, 0); // Spectators never see hands
+        }
+
+        @Override
+        public void onCardOpened(NetworkGame game, Player player, Card card) {
+            broadcast(WireFormat.opened(++sequence, seatOf(player), card));
+            publish(GameEvent.CARD_OPENED, player, card.getId(), 0);
+        }
+
+        @Override
+        public void onGameOver(NetworkGame game) {
+            ByteBuffer frame = WireFormat.gameOver(game);
+            for (Connection connection : connections) {
+                connection.closeWhenFlushed = true;
+                send(connection, frame.duplicate());
+            }
+            for (Player player : game.getSeats()) {
+                for (Color color : Color.values()) {
+                    if (player.isColorFlipped(color)) {
+                        publish(GameEvent.FLIP, player, 0, color.ordinal());
+                    }
+                }
+            }
+            publish(GameEvent.WINNER, game.getWinner(), 0, game.getWinner().getScore());
+        }
+
+        /**
+         * Sends the connection a snapshot of the table, after which it
+         * follows the changes again.
+         */
+        void resync(Connection connection) {
+            send(connection, snapshot(connection));
+        }
+
+        ByteBuffer snapshot(Connection connection) {
+            return WireFormat.snapshot(game, seatOf(connection.player), sequence, turnSequence);
+        }
+
+        private int seatOf(Player player) {
+            return game.getSeats().indexOf(player);
+        }
+
+        private void broadcast(ByteBuffer frame) {
+            for (Connection connection : connections) {
+                send(connection, frame.duplicate());
+            }
+        }
+
+        /**
+         * Stops the game when a player leaves before it is over.
+         */
+        void leave(Connection leaving) {
+            if (game.getPhase() == NetworkGame.Phase.OVER || aborted) {
+                return;
+            }
+            aborted = true;
+            game.abandon();
+            publish(GameEvent.ABORTED, leaving.player, 0, 0);
+            for (Connection connection : connections) {
+                if (connection != leaving && !connection.closeWhenFlushed) {
+                    connection.closeWhenFlushed = true;
+                    send(connection, WireFormat.empty(WireFormat.ABORTED));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package game.renderer;
+
+import game.ai.PositionAnalyzer;
+import game.simulation.GameResult;
+import game.utils.Helper;
+
+/**
+ * AnalysisRenderer is responsible for printing the review of a game: the
+ * rating of every card a player could play at each of their turns, and how
+ * their choices compared with the best cards overall.
+ */
+public class AnalysisRenderer {
+
+    public static void showHeader(long seed, String player, int rollouts, int threads) {
+        Helper.printBox("🔎 Game Review");
+        System.out.println("Seed: " + seed);
+        System.out.printf("Reviewing %s with up to %d rollouts per card on %d thread(s)%n", player, rollouts, threads);
+        System.out.println("* marks the best card; dropped cards were clearly worse and stopped early");
+    }
+
+    /**
+     * Prints the rating of each card of one turn, marking the card played,
+     * the best card and the cards dropped as clearly worse.
+     *
+     * @param turn        The number of the reviewed player's turn, from 1.
+     * @param analysis    The rating of the cards.
+     * @param playedIndex The hand index of the card played.
+     */
+    public static void showTurn(int turn, PositionAnalyzer.Analysis analysis, int playedIndex) {
+        PositionAnalyzer.MoveAnalysis best = analysis.getBestMove();
+        System.out.printf("%nTurn %d (%d rollouts%s):%n", turn, analysis.getTotalRollouts(),
+                analysis.isStoppedEarly() ? ", stopped early" : "");
+        System.out.printf("  %-7s %8s %16s %8s %15s  %s%n", "", "rollouts", "win % (95%)", "score", "(95%)", "card");
+        for (PositionAnalyzer.MoveAnalysis move : analysis.getMoves()) {
+            String mark = move.getHandIndex() == playedIndex ? "played" : move.isDropped() ? "dropped" : "";
+            System.out.printf("%s %-7s %8d %6.1f [%3.0f-%3.0f] %8.2f [%6.2f-%6.2f]  %s%n",
+                    move == best ? "*" : " ",
+                    mark,
+                    move.getRollouts(),
+                    move.getWinProbability() * 100,
+                    move.getWinLow() * 100,
+                    move.getWinHigh() * 100,
+                    move.getMeanScore(),
+                    move.getScoreLow(),
+                    move.getScoreHigh(),
+                    move.getCard());
+        }
+    }
+
+    /**
+     * Prints how often the best card was played and the win probability the
+     * other choices gave up, followed by the result of the game.
+     *
+     * @param turns      The number of turns reviewed.
+     * @param bestPlayed The number of turns the best card was played.
+     * @param winLost    The win probability given up over all turns.
+     * @param result     The result of the game.
+     * @param seat       The seat of the reviewed player in turn order.
+     */
+    public static void showSummary(int turns, int bestPlayed, double winLost, GameResult result, int seat) {
+        Helper.printBox("📋 Summary");
+        System.out.printf("Best card played on %d of %d turns, %.1f%% win probability given up in total%n",
+                bestPlayed, turns, winLost * 100);
+        System.out.printf("Final score %d, place %d of %d, %s%n", result.getScore(seat), result.getPlace(seat),
+                result.getSeats().size(), result.getWinnerSeat() == seat ? "won" : "lost");
+    }
+}
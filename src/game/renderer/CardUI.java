@@ -1,36 +1,25 @@
 package game.renderer;
 
 import game.core.Card;
+import game.core.Color;
 import game.utils.Constants;
 import game.utils.Helper;
 
 /**
  * Console-based card renderer that displays cards either as ASCII art or a one-line string.
+ * The caller picks the format explicitly, so rendering keeps no shared state between games.
  */
 public class CardUI {
     // ============================ Static Variables ============================
     private static final String RESET = Constants.RESET;
-    private static boolean simpleDisplayMode = false;
-
-    public static void setSimpleDisplayMode(boolean simpleMode) {
-        simpleDisplayMode = simpleMode;
-    }
 
     /**
-     * Returns a string representation of the given card,
-     * based on the current display mode.
+     * Renders a one-line string with color and value info.
      *
      * @param card the card to render
      * @return the rendered card string
      */
-    public static String renderToString(Card card) {
-        return simpleDisplayMode
-                ? renderSimple(card)
-                : renderAsciiArt(card);
-    }
-
-    // Renders a one-line string with color and value info.
-    private static String renderSimple(Card card) {
+    public static String renderSimple(Card card) {
         return String.format("%s [%s%s %d%s]",
                 colorToEmoji(card.getColor()),
                 Helper.getColorCode(card.getColor()),
@@ -39,9 +28,14 @@ public class CardUI {
                 RESET);
     }
 
-    // Renders the card as a multi-line ASCII art block.
-    private static String renderAsciiArt(Card card) {
-        String color = card.getColor();
+    /**
+     * Renders the card as a multi-line ASCII art block.
+     *
+     * @param card the card to render
+     * @return the rendered card string
+     */
+    public static String renderAsciiArt(Card card) {
+        Color color = card.getColor();
         int value = card.getValue();
         String colorCode = Helper.getColorCode(color);
 
@@ -62,30 +56,28 @@ public class CardUI {
         );
     }
 
-    // Maps color names to corresponding emojis.
-    private static String colorToEmoji(String color) {
-        return switch (color.toLowerCase()) {
-            case "red" -> "🔴";
-            case "green" -> "🟢";
-            case "purple" -> "🟣";
-            case "grey" -> "🔘";
-            case "orange" -> "🟠";
-            case "blue" -> "🔵";
-            default -> "🃏";
+    // Maps colors to corresponding emojis.
+    private static String colorToEmoji(Color color) {
+        return switch (color) {
+            case RED -> "🔴";
+            case GREEN -> "🟢";
+            case PURPLE -> "🟣";
+            case GREY -> "🔘";
+            case ORANGE -> "🟠";
+            case BLUE -> "🔵";
         };
     }
 
     // Returns the animal art line for a given card color.
-    private static String getAnimalArt(String color) {
+    private static String getAnimalArt(Color color) {
         String colorCode = Helper.getColorCode(color);
-        return switch (color.toLowerCase()) {
-            case "red" -> colorCode + "│   🦊    │" + RESET;
-            case "blue" -> colorCode + "│   🐳    │" + RESET;
-            case "green" -> colorCode + "│   🐢    │" + RESET;
-            case "orange" -> colorCode + "│   🦁    │" + RESET;
-            case "purple" -> colorCode + "│   🦄    │" + RESET;
-            case "grey" -> colorCode + "│   🐺    │" + RESET;
-            default -> colorCode + "│   ❓    │" + RESET;
+        return switch (color) {
+            case RED -> colorCode + "│   🦊    │" + RESET;
+            case BLUE -> colorCode + "│   🐳    │" + RESET;
+            case GREEN -> colorCode + "│   🐢    │" + RESET;
+            case ORANGE -> colorCode + "│   🦁    │" + RESET;
+            case PURPLE -> colorCode + "│   🦄    │" + RESET;
+            case GREY -> colorCode + "│   🐺    │" + RESET;
         };
     }
 }
@@ -14,6 +14,11 @@ import java.util.*;
 public class GameFlowRenderer {
 
     // ============================ Game Start & Initialization ============================
+    public static void showSeed(long seed) {
+        System.out.println("\n🌱 Game seed: " + seed
+                + " (replay with: java -cp classes app.Main --seed " + seed + ")");
+    }
+
     public static void showGameStart(Player firstPlayer) {
         System.out.print("\n🎮 " + firstPlayer.getName() + " is shuffling the deck");
         Helper.loading();
@@ -96,7 +101,7 @@ public class GameFlowRenderer {
     public static void showFlippedCards(Map<Player, List<Card>> flippedCards, List<Player> players) {
         for (Player p : players) {
             System.out.println("\n" + p.getName() + " open cards after flipping:");
-            for (String color : Constants.COLORS) {
+            for (Color color : Color.values()) {
                 List<Card> openCards = p.getOpenCards().getOrDefault(color, new ArrayList<>());
                 System.out.print(color + " cards: ");
                 if (openCards.isEmpty()) {
@@ -104,7 +109,7 @@ public class GameFlowRenderer {
                 }
                 for (Card card : openCards) {
                     boolean contains = flippedCards.getOrDefault(p, new ArrayList<>()).contains(card);
-                    if (card.getValue() == 1 && contains) {
+                    if (contains) {
                         System.out.print("[" + color + "] ");
                     } else {
                         System.out.print(card + " ");
@@ -121,7 +126,7 @@ public class GameFlowRenderer {
      * @param player The player whose flipped cards are to be displayed.
      * @param flippedCards The list of flipped cards for the player.
      */
-    public static void showMaxPlayersForColor(String color, List<Player> maxPlayers) {
+    public static void showMaxPlayersForColor(Color color, List<Player> maxPlayers) {
         String colorCode = Helper.getColorCode(color);
         if (maxPlayers.isEmpty()) {
             showNoMaxPlayersForColor(color);
@@ -130,13 +135,13 @@ public class GameFlowRenderer {
         showMaxPlayersForColorList(color, maxPlayers, colorCode);
     }
 
-    public static void showNoMaxPlayersForColor(String color) {
+    public static void showNoMaxPlayersForColor(Color color) {
         System.out.println("🎭 Player(s) with most " + Helper.getColorCode(color)
                 + color + Constants.RESET + " cards: "
                 + Constants.BOLD + "None" + Constants.RESET + "\n");
     }
 
-    public static void showMaxPlayersForColorList(String color, List<Player> maxPlayers, String colorCode) {
+    public static void showMaxPlayersForColorList(Color color, List<Player> maxPlayers, String colorCode) {
         System.out.print("🎉 Player(s) that will flip " + colorCode
                 + color + Constants.RESET + " cards: ");
         for (int i = 0; i < maxPlayers.size(); i++) {
@@ -149,11 +154,11 @@ public class GameFlowRenderer {
         Helper.sleep(1200);
     }
 
-    public static void showMaxCardsForColor(String color, int max) {
+    public static void showMaxCardsForColor(Color color, int max) {
         System.out.println("Max cards for " + color + " is " + max);
     }
 
-    public static void showNoFlippingDueToTie(String color) {
+    public static void showNoFlippingDueToTie(Color color) {
         System.out.println("All players have the same number of cards. No cards flipped for " + color);
     }
 
@@ -1,7 +1,7 @@
 package game.renderer;
 
+import game.input.PlayerInput;
 import game.utils.*;
-import java.util.Scanner;
 
 /**
  * Renders messages and phases throughout the Parade Card Game. This class
@@ -10,7 +10,7 @@ import java.util.Scanner;
  */
 public class GamePhaseRenderer {
 
-    public static void showWelcomeMessage(Scanner scanner) {
+    public static void showWelcomeMessage(PlayerInput input) {
         Helper.flush();
         Helper.progressBar();
         Helper.flush();
@@ -27,7 +27,7 @@ public class GamePhaseRenderer {
 
         System.out.println(border + "\n");
 
-        Helper.pressEnterToContinue(scanner);
+        Helper.pressEnterToContinue(input);
         Helper.flush();
     }
 
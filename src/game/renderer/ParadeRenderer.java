@@ -16,7 +16,6 @@ public class ParadeRenderer {
      */
     public static void showParade(Parade parade) {
         List<Card> cards = parade.getCards();
-        CardUI.setSimpleDisplayMode(false);
         System.out.println("Parade (Starts from left):");
 
         int totalCards = cards.size();
@@ -45,7 +44,7 @@ public class ParadeRenderer {
 
         // Build each line for the chunk
         for (Card card : chunk) {
-            String[] parts = card.toString().split("\n");
+            String[] parts = CardUI.renderAsciiArt(card).split("\n");
             for (int i = 0; i < parts.length; i++) {
                 cardLines[i].append(parts[i]).append("   "); // Add spacing
             }
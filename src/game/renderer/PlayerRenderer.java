@@ -1,5 +1,6 @@
 package game.renderer;
 
+import game.ai.IntakePreview;
 import game.core.*;
 import game.utils.Constants;
 import game.utils.Helper;
@@ -34,29 +35,27 @@ public class PlayerRenderer {
      */
     public static void showPlayedCard(Card card, String name) {
         System.out.println(name + " played: ");
-        CardUI.setSimpleDisplayMode(false);
-        System.out.println(card);
+        System.out.println(CardUI.renderAsciiArt(card));
     }
 
     /**
      * Displays a player's open cards grouped by color.
      */
     public static void showOpenCards(Player player) {
-        Map<String, List<Card>> openCards = player.getOpenCards();
+        Map<Color, List<Card>> openCards = player.getOpenCards();
 
         if (openCards.isEmpty()) {
             System.out.printf("%s has no open cards.%n%n", player.getName());
             return;
         }
 
-        CardUI.setSimpleDisplayMode(true);
         System.out.printf("🎴 %s's Open Cards:%n", player.getName());
 
         openCards.forEach((color, cards)
                 -> System.out.printf("%s cards: %s%n",
                         color,
                         cards.stream()
-                                .map(Card::toString)
+                                .map(CardUI::renderSimple)
                                 .collect(Collectors.joining(", ")))
         );
 
@@ -67,7 +66,6 @@ public class PlayerRenderer {
      * Shared helper for rendering a group of cards.
      */
     private static void showCardGroup(List<Card> cards) {
-        CardUI.setSimpleDisplayMode(false);
         StringBuilder[] lines = new StringBuilder[7];
 
         // Initialize lines
@@ -77,7 +75,7 @@ public class PlayerRenderer {
 
         // Build card display
         for (Card card : cards) {
-            String[] parts = card.toString().split("\n");
+            String[] parts = CardUI.renderAsciiArt(card).split("\n");
             for (int i = 0; i < parts.length; i++) {
                 lines[i].append(parts[i]).append("   ");
             }
@@ -106,8 +104,7 @@ public class PlayerRenderer {
      * @param card The card that was added.
      */
     public static void showCardAddedToOpenCards(String name, Card card) {
-        CardUI.setSimpleDisplayMode(true);
-        System.out.println(card + " is added to " + name + "'s Open Cards!\n");
+        System.out.println(CardUI.renderSimple(card) + " is added to " + name + "'s Open Cards!\n");
     }
 
     /**
@@ -121,6 +118,63 @@ public class PlayerRenderer {
         Helper.loading();
     }
 
+    /**
+     * Tells the players that a player ran out of time for a move, which is
+     * made for them.
+     *
+     * @param name The name of the player.
+     */
+    public static void showMoveTimedOut(String name) {
+        System.out.println("\n⏰ " + name + " ran out of time, a card is chosen for them.");
+    }
+
+    /**
+     * Displays the cards the endgame solver suggests opening during the final
+     * play, the cards that stay closed, and how the player is expected to do.
+     *
+     * @param closedCards    The player's closed cards.
+     * @param openMask       A mask with bit i set for each index of a card to open.
+     * @param expectedReward The expected fraction of opponents beaten.
+     */
+    public static void showFinalPlayHint(List<Card> closedCards, int openMask, double expectedReward) {
+        StringBuilder open = new StringBuilder();
+        StringBuilder kept = new StringBuilder();
+        for (int i = 0; i < closedCards.size(); i++) {
+            StringBuilder target = (openMask & (1 << i)) != 0 ? open : kept;
+            target.append(" [").append(i + 1).append("] ").append(CardUI.renderSimple(closedCards.get(i)));
+        }
+        System.out.println("\n💡 Hint: open" + open + " and keep" + kept + " closed.");
+        System.out.printf("   You should finish ahead of about %.0f%% of your opponents.%n%n", expectedReward * 100);
+    }
+
+    /**
+     * Displays, for each card in the player's hand, the parade cards playing
+     * it would take and how much that would raise the player's score.
+     *
+     * @param closedCards The player's closed cards.
+     * @param parade      The parade as it is now.
+     * @param preview     The preview of the closed cards in the parade.
+     */
+    public static void showIntakePreview(List<Card> closedCards, Parade parade, IntakePreview preview) {
+        System.out.println("🔎 If you play:");
+        for (int i = 0; i < closedCards.size(); i++) {
+            List<Card> taken = parade.getCards(preview.getRemovalMask(i));
+            String takenText = taken.isEmpty()
+                    ? "nothing"
+                    : taken.stream().map(CardUI::renderSimple).collect(Collectors.joining(", "));
+            System.out.printf("   [%d] %s takes %s (%+d points)%n",
+                    i + 1, CardUI.renderSimple(closedCards.get(i)), takenText, preview.getScoreDelta(i));
+        }
+        System.out.println();
+    }
+
+    /**
+     * Tells the player that no hint can be given outside a game.
+     */
+    public static void showNoHint() {
+        System.out.println("\n💡 No hint is available right now.\n");
+    }
+
     
     /**
      * Displays the player's closed cards (hand) in a horizontal layout, with
@@ -135,7 +189,6 @@ public class PlayerRenderer {
             return;
         }
 
-        CardUI.setSimpleDisplayMode(false);
         System.out.println("🎴 Your hand:");
 
         for (int i = 0; i < closedCards.size(); i++) {
@@ -159,7 +212,7 @@ public class PlayerRenderer {
         }
 
         for (Card card : cards) {
-            String[] cardParts = card.toString().split("\n");
+            String[] cardParts = CardUI.renderAsciiArt(card).split("\n");
             for (int i = 0; i < cardParts.length; i++) {
                 cardLines[i].append(cardParts[i]).append("   ");
             }
@@ -0,0 +1,54 @@
+package game.renderer;
+
+import game.simulation.*;
+import game.utils.Helper;
+import java.util.Map;
+
+/**
+ * TournamentRenderer is responsible for printing the aggregated results of a
+ * batch of simulated games: win rates and score distributions per seat and
+ * per strategy, game lengths and throughput.
+ */
+public class TournamentRenderer {
+
+    public static void showReport(TournamentStats stats, long elapsedNanos, int threads, long seed) {
+        double seconds = elapsedNanos / 1e9;
+        Helper.printBox("📊 Simulation Results");
+        System.out.println("Seed: " + seed);
+        System.out.printf("Games played: %d on %d thread(s) in %.2fs (%.0f games/s)%n",
+                stats.getGames(), threads, seconds, stats.getGames() / Math.max(seconds, 1e-9));
+        System.out.printf("Game length: mean %.1f turns, median %d, 90th percentile %d%n",
+                stats.getMeanTurns(), stats.getTurnsPercentile(0.5), stats.getTurnsPercentile(0.9));
+        for (GameResult.EndReason reason : GameResult.EndReason.values()) {
+            System.out.printf("Ended by %s: %d%n", reason, stats.getEndReasonCount(reason));
+        }
+
+        System.out.println("\nPer seat (turn order):");
+        showHeader();
+        for (int seat = 0; seat < stats.getSeatCount(); seat++) {
+            showTally("Seat " + (seat + 1), stats.getSeatTally(seat));
+        }
+
+        System.out.println("\nPer strategy:");
+        showHeader();
+        for (Map.Entry<String, TournamentStats.Tally> entry : stats.getStrategyTallies().entrySet()) {
+            showTally(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void showHeader() {
+        System.out.printf("%-12s %10s %8s %8s %7s %7s %7s%n",
+                "", "games", "win %", "mean", "sd", "median", "p90");
+    }
+
+    private static void showTally(String label, TournamentStats.Tally tally) {
+        System.out.printf("%-12s %10d %7.2f%% %8.2f %7.2f %7d %7d%n",
+                label,
+                tally.getGames(),
+                tally.getWinRate() * 100,
+                tally.getMeanScore(),
+                tally.getScoreStandardDeviation(),
+                tally.getScorePercentile(0.5),
+                tally.getScorePercentile(0.9));
+    }
+}
@@ -0,0 +1,217 @@
+package game.server;
+
+import game.utils.ConsoleRouter;
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Hosts games for players connecting over TCP, for example with telnet or
+ * nc. Each connection gets its own session, the same as on the console: the
+ * welcome screen, the menu and the games, with the human players typing
+ * their moves on the connection.
+ *
+ * Every session runs on its own thread and simply blocks while it waits for
+ * its player. On Java 21 and later, sessions run on virtual threads, so a
+ * waiting session parks instead of holding a platform thread and a single
+ * JVM can hold tens of thousands of them. The code targets an older release,
+ * so the virtual thread executor is looked up by reflection; on older
+ * runtimes every session gets a platform thread with a small stack instead.
+ *
+ * Sessions share no mutable state: each game has its own seed, deck, dice
+ * and bots, and ConsoleRouter sends what a session's thread prints to its
+ * own connection. Input lines are cut at SocketInput.MAX_LINE_BYTES and
+ * output goes through a fixed buffer, so a session with greedy bots needs
+ * little more than its deck of cards. Expert bots cost more: each one's MCTS
+ * tree adds a node with an array of 66 children per iteration and is kept
+ * for the length of a move, around a megabyte within the default time
+ * budget, and its endgame solver's memo grows as the endgame needs it, up
+ * to 1.5 MB with two players and 3.5 MB with six. The session limit is what
+ * bounds the server's memory, so it should be set with the expert bots in
+ * mind. Connections beyond it are turned away. During a game, a player
+ * that does not answer within the move timeout has their card chosen for
+ * them, so the game goes on; a player that stays silent for the idle
+ * timeout is disconnected.
+ */
+public class GameServer implements AutoCloseable {
+
+    /**
+     * Default most sessions hosted at once.
+     */
+    public static final int DEFAULT_MAX_SESSIONS = 10_000;
+
+    /**
+     * Default time a player may take to answer before being disconnected.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 10 * 60_000L;
+
+    /**
+     * Default time a player may take to answer during a game before the
+     * game answers for them.
+     */
+    public static final long DEFAULT_MOVE_TIMEOUT_MILLIS = 2 * 60_000L;
+
+    /**
+     * Stack size of the session threads when virtual threads are not
+     * available.
+     */
+    private static final long PLATFORM_STACK_BYTES = 512 * 1024;
+
+    private static final String SERVER_FULL = "The server is full, please try again later.\n";
+
+    // ============================ Instance Variables ============================
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final boolean virtualThreads;
+    private final int maxSessions;
+    private final long idleTimeoutMillis;
+    private final long moveTimeoutMillis;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs a GameServer with the default limits.
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public GameServer(int port) throws IOException {
+        this(port, DEFAULT_MAX_SESSIONS, DEFAULT_IDLE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a GameServer listening on the given port, with the default
+     * move timeout.
+     *
+     * @param port              The port to listen on, or 0 for any free port.
+     * @param maxSessions       The most sessions hosted at once.
+     * @param idleTimeoutMillis How long a player may take to answer, or 0 for no limit.
+     * @throws IOException if the port cannot be bound.
+     * @throws IllegalArgumentException if a limit is invalid.
+     */
+    public GameServer(int port, int maxSessions, long idleTimeoutMillis) throws IOException {
+        this(port, maxSessions, idleTimeoutMillis, DEFAULT_MOVE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a GameServer listening on the given port.
+     *
+     * @param port              The port to listen on, or 0 for any free port.
+     * @param maxSessions       The most sessions hosted at once.
+     * @param idleTimeoutMillis How long a player may take to answer, or 0 for no limit.
+     * @param moveTimeoutMillis How long a player may take to answer during a game
+     *                          before the game answers for them, or 0 for no limit.
+     * @throws IOException if the port cannot be bound.
+     * @throws IllegalArgumentException if a limit is invalid.
+     */
+    public GameServer(int port, int maxSessions, long idleTimeoutMillis, long moveTimeoutMillis) throws IOException {
+        if (maxSessions < 1 || idleTimeoutMillis < 0 || moveTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Invalid server limits.");
+        }
+        this.maxSessions = maxSessions;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.moveTimeoutMillis = moveTimeoutMillis;
+        this.serverSocket = new ServerSocket(port, Math.min(maxSessions, 4096));
+
+        ExecutorService executor = newVirtualThreadExecutor();
+        this.virtualThreads = executor != null;
+        this.sessions = executor != null ? executor : Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(null, runnable, "game-session", PLATFORM_STACK_BYTES);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ConsoleRouter.install();
+    }
+
+    // ============================ Serving ============================
+    /**
+     * Accepts connections and starts a session for each, until the server
+     * is closed.
+     */
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                continue; // Closed, which ends the loop, or a failed handshake
+            }
+            if (connections.size() >= maxSessions) {
+                turnAway(socket);
+                continue;
+            }
+            connections.add(socket);
+            try {
+                socket.setTcpNoDelay(true);
+                sessions.execute(new GameSession(socket, idleTimeoutMillis, moveTimeoutMillis,
+                        () -> connections.remove(socket)));
+            } catch (IOException | RejectedExecutionException e) {
+                connections.remove(socket);
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting connections and disconnects every session.
+     */
+    @Override
+    public void close() {
+        closeQuietly(serverSocket);
+        for (Socket socket : connections) {
+            closeQuietly(socket);
+        }
+        sessions.shutdownNow();
+    }
+
+    // ============================ Getters ============================
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return The number of sessions being played.
+     */
+    public int getActiveSessions() {
+        return connections.size();
+    }
+
+    /**
+     * @return true if sessions run on virtual threads.
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    // ============================ Helpers ============================
+    /**
+     * Returns an executor starting a virtual thread per task, or null if the
+     * runtime has no virtual threads.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null; // Before Java 21, or a preview that is not enabled
+        }
+    }
+
+    private static void turnAway(Socket socket) {
+        try {
+            socket.getOutputStream().write(SERVER_FULL.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // The player is turned away anyway
+        }
+        closeQuietly(socket);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+}
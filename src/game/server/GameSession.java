@@ -0,0 +1,105 @@
+package game.server;
+
+import game.gameplay.GameMenu;
+import game.input.*;
+import game.exceptions.InputTimeoutException;
+import game.utils.ConsoleRouter;
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One player's connection to the GameServer, running the same session as
+ * the console on the thread it is given.
+ *
+ * What the session's thread prints is buffered and sent when the session
+ * waits, for its player or for an animation, so a turn goes out in a few
+ * packets rather than one per line. The session ends when the player quits,
+ * disconnects or stays silent for the idle timeout.
+ */
+class GameSession implements Runnable {
+
+    /**
+     * Size of the output buffer of a session.
+     */
+    private static final int OUTPUT_BUFFER_BYTES = 8 * 1024;
+
+    // ============================ Instance Variables ============================
+    private final Socket socket;
+    private final long idleTimeoutMillis;
+    private final long moveTimeoutMillis;
+    private final Runnable onClose;
+
+    // ============================ Constructor ============================
+    /**
+     * @param socket            The player's connection.
+     * @param idleTimeoutMillis How long the player may take to answer, or 0 for no limit.
+     * @param moveTimeoutMillis How long the player may take to answer during a game
+     *                          before the game answers for them, or 0 for no limit.
+     * @param onClose           Called once the session is over.
+     */
+    GameSession(Socket socket, long idleTimeoutMillis, long moveTimeoutMillis, Runnable onClose) {
+        this.socket = socket;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.moveTimeoutMillis = moveTimeoutMillis;
+        this.onClose = onClose;
+    }
+
+    // ============================ Session ============================
+    @Override
+    public void run() {
+        PrintStream out = null;
+        try (SocketInput input = new SocketInput(socket, idleTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            out = new PrintStream(new BufferedOutputStream(socket.getOutputStream(), OUTPUT_BUFFER_BYTES),
+                    false, StandardCharsets.UTF_8);
+            ConsoleRouter.bind(out);
+            GameMenu.playSession(new FlushingInput(input, out), null, null, moveTimeoutMillis);
+        } catch (IOException | NoSuchElementException e) {
+            // The player left, stopped answering or lost the connection
+        } finally {
+            if (out != null) {
+                out.flush();
+            }
+            ConsoleRouter.unbind();
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Nothing left to release
+            }
+            onClose.run();
+        }
+    }
+
+    /**
+     * Sends the buffered output before each read, so the player sees the
+     * prompt they are asked to answer.
+     */
+    private static class FlushingInput implements PlayerInput {
+        private final PlayerInput input;
+        private final PrintStream out;
+
+        FlushingInput(PlayerInput input, PrintStream out) {
+            this.input = input;
+            this.out = out;
+        }
+
+        @Override
+        public String readLine() {
+            out.flush();
+            return input.readLine();
+        }
+
+        @Override
+        public String readLine(long timeout, TimeUnit unit) throws InputTimeoutException {
+            out.flush();
+            return input.readLine(timeout, unit);
+        }
+
+        @Override
+        public void close() {
+            input.close();
+        }
+    }
+}
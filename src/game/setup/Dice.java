@@ -2,7 +2,7 @@ package game.setup;
 
 import game.utils.AsciiArt;
 import game.utils.Helper;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * The Dice class represents a six-sided dice and provides methods for rolling
@@ -10,7 +10,17 @@ import java.util.Random;
  */
 public class Dice {
 
-    private static final Random rand = new Random();
+    private final SplittableRandom rand;
+
+    // creates a dice with its own random number generator
+    public Dice() {
+        this(new SplittableRandom());
+    }
+
+    // creates a dice that rolls using the given random number generator
+    public Dice(SplittableRandom rand) {
+        this.rand = rand;
+    }
 
     // rolls the dice and returns a random value between 1 and 6
     public int roll() {
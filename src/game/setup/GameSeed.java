@@ -0,0 +1,100 @@
+package game.setup;
+
+import game.utils.Constants;
+import java.util.SplittableRandom;
+
+/**
+ * The seed of a single game and the independent random streams derived from
+ * it: one for shuffling the deck, one for the dice and one per seat for the
+ * computer players. Two games created with the same seed deal the same cards,
+ * roll the same dice and, as long as no human is playing, make the same
+ * moves.
+ */
+public class GameSeed {
+
+    /**
+     * Odd constant used to spread consecutive game indices over the seed
+     * space, as in SplittableRandom.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // ============================ Instance Variables ============================
+    private final long seed;
+    private final SplittableRandom deckRandom;
+    private final SplittableRandom diceRandom;
+    private final SplittableRandom[] playerRandoms;
+
+    // ============================ Constructors ============================
+    /**
+     * Derives the random streams for a game from the given seed. The streams
+     * are split off in a fixed order, so they never depend on how far another
+     * stream has been used.
+     *
+     * @param seed The seed of the game.
+     */
+    public GameSeed(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.deckRandom = root.split();
+        this.diceRandom = root.split();
+        this.playerRandoms = new SplittableRandom[Constants.MAX_PLAYERS];
+        for (int i = 0; i < playerRandoms.length; i++) {
+            playerRandoms[i] = root.split();
+        }
+    }
+
+    /**
+     * @return A seed for a new game, different on every call.
+     */
+    public static long randomSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Returns the seed of one game in a batch, so a whole batch of games can
+     * be replayed from one base seed in any order and on any number of
+     * threads.
+     *
+     * @param baseSeed  The seed of the batch.
+     * @param gameIndex The index of the game in the batch.
+     * @return The seed of that game.
+     */
+    public static GameSeed forGame(long baseSeed, long gameIndex) {
+        return new GameSeed(mix64(baseSeed + gameIndex * GOLDEN_GAMMA));
+    }
+
+    /**
+     * The 64-bit finalizer used by SplittableRandom, so that nearby inputs
+     * give unrelated seeds.
+     *
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // ============================ Getters ============================
+    public long getSeed() {
+        return seed;
+    }
+
+    public SplittableRandom getDeckRandom() {
+        return deckRandom;
+    }
+
+    public SplittableRandom getDiceRandom() {
+        return diceRandom;
+    }
+
+    /**
+     * @param seat The index of the player in setup order, from 0 to
+     *             MAX_PLAYERS - 1.
+     * @return The random stream for the player in that seat.
+     */
+    public SplittableRandom getPlayerRandom(int seat) {
+        return playerRandoms[seat];
+    }
+}
@@ -1,7 +1,9 @@
 package game.setup;
 
+import game.ai.*;
 import game.core.*;
 import game.exceptions.*;
+import game.input.PlayerInput;
 import game.renderer.GamePhaseRenderer;
 import java.util.*;
 
@@ -11,16 +13,35 @@ import java.util.*;
 public class PlayerSetup {
     // ============================ Instance Variables ============================
 
-    private final Scanner scanner;
+    private final PlayerInput input;
+    private final GameSeed seed;
+    private final EndgameTable endgameTable;
 
     // ============================ Constructor ============================
     /**
-     * Constructs a PlayerSetup with the given scanner.
+     * Constructs a PlayerSetup with the given input.
      *
-     * @param scanner The scanner for user input.
+     * @param input   The input the user answers on.
+     * @param seed    The seed of the game, which gives each computer player
+     *                its own random stream.
      */
-    public PlayerSetup(Scanner scanner) {
-        this.scanner = scanner;
+    public PlayerSetup(PlayerInput input, GameSeed seed) {
+        this(input, seed, null);
+    }
+
+    /**
+     * Constructs a PlayerSetup whose expert computer players look two-player
+     * endgames up in a table.
+     *
+     * @param input        The input the user answers on.
+     * @param seed         The seed of the game, which gives each computer
+     *                     player its own random stream.
+     * @param endgameTable The table of solved endgames, or null.
+     */
+    public PlayerSetup(PlayerInput input, GameSeed seed, EndgameTable endgameTable) {
+        this.input = input;
+        this.seed = seed;
+        this.endgameTable = endgameTable;
     }
     // ============================ Instance Methods ============================
 
@@ -31,8 +52,7 @@ public class PlayerSetup {
         while (true) {
             try {
                 System.out.print("👥 Enter the number of players (2-6): ");
-                playerCount = scanner.nextInt();
-                scanner.nextLine(); // Clear the buffer
+                playerCount = Integer.parseInt(input.readLine().trim());
 
                 if (playerCount < 2 || playerCount > 6) {
                     throw new InvalidInputException(
@@ -46,9 +66,8 @@ public class PlayerSetup {
             } catch (InvalidInputException e) {
                 System.out.println(e.getMessage());
 
-            } catch (InputMismatchException e) {
+            } catch (NumberFormatException e) {
                 System.out.println("❌ Invalid input! Please enter a valid number.\n");
-                scanner.next();
             }
         }
 
@@ -81,7 +100,8 @@ public class PlayerSetup {
                     System.out.println("❌ There must be at least one human player!\n");
                     i--;
                 } else {
-                    handleComputerPlayer(players, names, botIndex);
+                    boolean isExpert = type.equals("E") || type.equals("EXPERT");
+                    handleComputerPlayer(players, names, botIndex, i - 1, isExpert);
                     botIndex++;
                 }
             }
@@ -93,21 +113,22 @@ public class PlayerSetup {
     }
 
     /**
-     * Prompts the user to enter the type of a player (human/computer).
+     * Prompts the user to enter the type of a player (human/computer/expert
+     * computer).
      *
      * @param playerNumber The number of the player.
-     * @return The type of the player as a string ("HUMAN" or "COMPUTER").
+     * @return The type of the player as a string ("HUMAN", "COMPUTER" or "EXPERT").
      */
     private String getPlayerType(int playerNumber) {
         while (true) {
             try {
-                System.out.print("🎮 Is Player " + playerNumber + " (H)uman or (C)omputer? ");
-                String input = scanner.nextLine().trim().toUpperCase();
+                System.out.print("🎮 Is Player " + playerNumber + " (H)uman, (C)omputer or (E)xpert computer? ");
+                String answer = input.readLine().trim().toUpperCase();
 
-                if (input.matches("H|C|HUMAN|COMPUTER")) {
-                    return input;
+                if (answer.matches("H|C|E|HUMAN|COMPUTER|EXPERT")) {
+                    return answer;
                 } else {
-                    throw new InvalidInputException("Invalid choice! Please enter ['H' or 'HUMAN'] or ['C' or 'COMPUTER'].");
+                    throw new InvalidInputException("Invalid choice! Please enter ['H' or 'HUMAN'], ['C' or 'COMPUTER'] or ['E' or 'EXPERT'].");
                 }
             } catch (InvalidInputException e) {
                 System.out.println("❌ " + e.getMessage() + "\n");
@@ -120,7 +141,7 @@ public class PlayerSetup {
         while (true) {
             try {
                 System.out.print("📝 Enter player name: ");
-                name = scanner.nextLine().trim();
+                name = input.readLine().trim();
 
                 validateName(name, names); // Validate the name (throws InvalidNameException if invalid)
 
@@ -135,10 +156,20 @@ public class PlayerSetup {
         System.out.println("✅ " + name + " has joined the game!\n");
     }
 
-    private void handleComputerPlayer(List<Player> players, Set<String> names, int botIndex) {
+    /**
+     * Adds a computer player. Expert computers search ahead with MCTS and
+     * solve the endgame, using the endgame table if one was given; the
+     * others play greedily.
+     */
+    private void handleComputerPlayer(List<Player> players, Set<String> names, int botIndex, int seat, boolean isExpert) {
         String botName = "Bot " + botIndex;
         names.add(botName.toLowerCase());
-        players.add(new Computer(botName));
+        SplittableRandom random = seed.getPlayerRandom(seat);
+        Strategy strategy = isExpert
+                ? new EndgameStrategy(new MctsStrategy(random), random, MctsStrategy.DEFAULT_TIME_BUDGET_NANOS,
+                        EndgameStrategy.DEFAULT_MAX_DEALS, EndgameStrategy.DEFAULT_LEAF_BUDGET, endgameTable)
+                : new GreedyStrategy(random);
+        players.add(new Computer(botName, strategy));
         System.out.println("🤖 " + botName + " has joined the game!\n");
     }
 
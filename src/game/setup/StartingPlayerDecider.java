@@ -12,6 +12,7 @@ public class StartingPlayerDecider {
 
     // ============================ Instance Variables ============================
     private final Dice dice;
+    private final boolean verbose;
 
     // ============================ Constructor ============================
     /**
@@ -20,7 +21,19 @@ public class StartingPlayerDecider {
      * @param dice The dice used for rolling.
      */
     public StartingPlayerDecider(Dice dice) {
+        this(dice, true);
+    }
+
+    /**
+     * Constructs a StartingPlayerDecider that optionally rolls without
+     * animations or messages.
+     *
+     * @param dice    The dice used for rolling.
+     * @param verbose Whether the rolls are animated and announced.
+     */
+    public StartingPlayerDecider(Dice dice, boolean verbose) {
         this.dice = dice;
+        this.verbose = verbose;
     }
 
     // ============================ Instance Methods ============================
@@ -30,7 +43,9 @@ public class StartingPlayerDecider {
      * @return The winning player who goes first
      */
     public Player decideStartingPlayer(List<Player> players) {
-        StartingPlayerRenderer.showInitialMessage();
+        if (verbose) {
+            StartingPlayerRenderer.showInitialMessage();
+        }
         List<Player> contenders = new ArrayList<>(players);
         while (contenders.size() > 1) {
             contenders = runDiceRound(contenders);
@@ -48,7 +63,9 @@ public class StartingPlayerDecider {
      * @return The list of players who rolled the highest number
      */
     private List<Player> runDiceRound(List<Player> contenders) {
-        StartingPlayerRenderer.showRollMessage();
+        if (verbose) {
+            StartingPlayerRenderer.showRollMessage();
+        }
         HashMap<Integer, List<Player>> rollMap = new HashMap<>();
         int maxRoll = 0;
 
@@ -70,8 +87,10 @@ public class StartingPlayerDecider {
      */
     private int processPlayerRoll(Player player) {
         int roll = dice.roll();
-        dice.animateRoll(player.getName(), roll);
-        StartingPlayerRenderer.showRollNumber(player, roll);
+        if (verbose) {
+            dice.animateRoll(player.getName(), roll);
+            StartingPlayerRenderer.showRollNumber(player, roll);
+        }
         return roll;
     }
 
@@ -80,14 +99,16 @@ public class StartingPlayerDecider {
     }
 
     private List<Player> handleTieOfDice(List<Player> tiedPlayers, int maxRoll) {
-        if (tiedPlayers.size() > 1) {
+        if (tiedPlayers.size() > 1 && verbose) {
             StartingPlayerRenderer.showTie(tiedPlayers, maxRoll);
         }
         return tiedPlayers;
     }
 
     private Player announceStartingPlayer(Player winner) {
-        StartingPlayerRenderer.showWinner(winner);
+        if (verbose) {
+            StartingPlayerRenderer.showWinner(winner);
+        }
         return winner;
     }
 }
@@ -0,0 +1,152 @@
+package game.simulation;
+
+import game.setup.GameSeed;
+import game.utils.Constants;
+
+/**
+ * Relabels the colors of a GameState into a canonical order, so that
+ * positions that only differ by which color is which hash to the same key.
+ *
+ * No rule depends on the identity of a color, only on which cards share a
+ * color, so two such positions are worth the same and can share entries in
+ * transposition tables, endgame tables and other caches, which shrinks them
+ * by up to 6! = 720 times.
+ *
+ * Every color gets a signature: a Zobrist hash of its features with the color
+ * left out, namely the positions and values of its cards in the parade, each
+ * player's count and value sum of its open cards, and the values of its
+ * cards in the hands that are hashed. The colors are ordered by signature,
+ * and the canonical key combines the signatures in that order with the
+ * features that belong to no color. Colors with the same signature are
+ * interchangeable, so the order between them does not matter.
+ *
+ * A canonicalizer keeps the permutation of the last state it was given, so
+ * that moves can be translated to canonical card IDs for the cache and back.
+ * It holds scratch arrays and is meant to be used by one thread.
+ */
+public class ColorCanonicalizer {
+
+    // ============================ Instance Variables ============================
+    private final long[] signatures = new long[Constants.TOTAL_COLORS];
+
+    /**
+     * The original color at each canonical position, and the canonical
+     * position of each original color.
+     */
+    private final int[] colorAt = new int[Constants.TOTAL_COLORS];
+    private final int[] canonicalColors = new int[Constants.TOTAL_COLORS];
+
+    // ============================ Canonicalization ============================
+    /**
+     * Computes the canonical key of everything the observer of the state can
+     * see, like GameState.informationSetKey but the same for every
+     * relabeling of the colors, and remembers the permutation used.
+     *
+     * @param state The state to canonicalize.
+     * @return The canonical 64-bit key.
+     */
+    public long canonicalInformationSetKey(GameState state) {
+        return canonicalize(state, state.getObserver());
+    }
+
+    /**
+     * Computes the canonical key of the whole state, including every hand,
+     * like GameState.zobristKey but the same for every relabeling of the
+     * colors, and remembers the permutation used.
+     *
+     * @param state The state to canonicalize.
+     * @return The canonical 64-bit key.
+     */
+    public long canonicalKey(GameState state) {
+        return canonicalize(state, -1);
+    }
+
+    /**
+     * Orders the colors of the state by signature and hashes it.
+     *
+     * @param handOwner The player whose hand is hashed, or -1 for every hand.
+     */
+    private long canonicalize(GameState state, int handOwner) {
+        int playerCount = state.getPlayerCount();
+        long key = Zobrist.toMove(state.getCurrentPlayer())
+                ^ Zobrist.deckSize(state.getDeckSize())
+                ^ Zobrist.lastRound(state.isLastRound(), state.getLastRoundTurnsLeft());
+
+        // The keys of color 0 serve as the color-free keys of each feature
+        for (int color = 0; color < Constants.TOTAL_COLORS; color++) {
+            long signature = 0;
+            for (int p = 0; p < playerCount; p++) {
+                signature ^= Zobrist.openCount(p, 0, state.getOpenCardCount(p, color))
+                        ^ Zobrist.openValueSum(p, 0, state.getOpenCardValueSum(p, color));
+            }
+            signatures[color] = signature;
+        }
+        for (int i = 0; i < state.getParade().size(); i++) {
+            int cardId = state.getParade().getCardId(i);
+            signatures[colorOf(cardId)] ^= Zobrist.parade(i, valueIndexOf(cardId));
+        }
+        for (int p = 0; p < playerCount; p++) {
+            key ^= Zobrist.handSize(p, state.getHandSize(p));
+            if (handOwner < 0 || p == handOwner) {
+                for (int i = 0; i < state.getHandSize(p); i++) {
+                    int cardId = state.getHandCard(p, i);
+                    signatures[colorOf(cardId)] ^= Zobrist.hand(p, valueIndexOf(cardId));
+                }
+            }
+        }
+
+        // Insertion sort of the colors by signature, ties kept in color order
+        for (int color = 0; color < Constants.TOTAL_COLORS; color++) {
+            int position = color;
+            while (position > 0 && signatures[colorAt[position - 1]] > signatures[color]) {
+                colorAt[position] = colorAt[position - 1];
+                position--;
+            }
+            colorAt[position] = color;
+        }
+        for (int position = 0; position < Constants.TOTAL_COLORS; position++) {
+            canonicalColors[colorAt[position]] = position;
+            key = GameSeed.mix64(key + signatures[colorAt[position]]); // Depends on the order
+        }
+        return key;
+    }
+
+    // ============================ Translation ============================
+    /**
+     * Translates a card of the last canonicalized state to the card with the
+     * same value in the canonical color.
+     *
+     * @param cardId The card ID in the state.
+     * @return The canonical card ID.
+     */
+    public int toCanonicalCard(int cardId) {
+        return canonicalColors[colorOf(cardId)] * Constants.CARDS_PER_COLOR + valueIndexOf(cardId);
+    }
+
+    /**
+     * Translates a canonical card back to the card of the last canonicalized
+     * state.
+     *
+     * @param canonicalCardId The canonical card ID.
+     * @return The card ID in the state.
+     */
+    public int fromCanonicalCard(int canonicalCardId) {
+        return colorAt[colorOf(canonicalCardId)] * Constants.CARDS_PER_COLOR + valueIndexOf(canonicalCardId);
+    }
+
+    /**
+     * @return The canonical position of the given color of the last
+     *         canonicalized state.
+     */
+    public int getCanonicalColor(int color) {
+        return canonicalColors[color];
+    }
+
+    private static int colorOf(int cardId) {
+        return cardId / Constants.CARDS_PER_COLOR;
+    }
+
+    private static int valueIndexOf(int cardId) {
+        return cardId % Constants.CARDS_PER_COLOR;
+    }
+}
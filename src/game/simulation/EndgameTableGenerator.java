@@ -0,0 +1,211 @@
+package game.simulation;
+
+import game.ai.*;
+import game.core.*;
+import game.gameplay.GameManager;
+import game.setup.GameSeed;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.LongConsumer;
+
+/**
+ * Fills an EndgameTable with solved two-player positions.
+ *
+ * Every position of a last round cannot be enumerated: the parade alone can
+ * hold any sequence of cards. The generator therefore plays greedy games
+ * dealt from the table's seed and, at each turn of their last round, deals
+ * the cards the player to move cannot see at random and solves the position
+ * with an EndgameSolver, together with the position after each of that
+ * player's moves. Those are the positions an EndgameStrategy searches first.
+ *
+ * Games are processed in chunks, each split across the worker threads, and
+ * the results are stored in game order, so a table holds the same positions
+ * however many threads built it. The table is checkpointed after each
+ * chunk; generating again resumes from the first game of the chunk that was
+ * interrupted.
+ */
+public class EndgameTableGenerator {
+
+    /**
+     * Number of games between two checkpoints.
+     */
+    public static final int GAMES_PER_CHUNK = 1024;
+
+    // ============================ Instance Variables ============================
+    private final EndgameTable table;
+    private final int threads;
+    private final long baseSeed;
+    private long positionsStored;
+    private long positionsDropped;
+
+    // ============================ Constructor ============================
+    /**
+     * Constructs a generator for the given table.
+     *
+     * @param table   The table to fill, open for writing.
+     * @param threads The number of worker threads.
+     * @throws IllegalArgumentException if the thread count is invalid.
+     */
+    public EndgameTableGenerator(EndgameTable table, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required.");
+        }
+        this.table = table;
+        this.threads = threads;
+        this.baseSeed = table.getBaseSeed();
+    }
+
+    // ============================ Generation ============================
+    /**
+     * Processes games from the table's checkpoint until the given number of
+     * games has been reached.
+     *
+     * @param games The number of games the table should cover.
+     * @param onCheckpoint Called with the number of games covered after each
+     *                     checkpoint, for progress reports.
+     * @throws InterruptedException if the thread is interrupted; the table
+     *                              keeps its last checkpoint.
+     */
+    public void generate(long games, LongConsumer onCheckpoint) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "endgame-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (long first = table.getNextGame(); first < games; first += GAMES_PER_CHUNK) {
+                long end = Math.min(first + GAMES_PER_CHUNK, games);
+                List<Future<Positions>> parts = new ArrayList<>();
+                long step = (end - first + threads - 1) / threads;
+                for (long from = first; from < end; from += step) {
+                    long partFrom = from;
+                    long partTo = Math.min(from + step, end);
+                    parts.add(pool.submit(() -> solveGames(partFrom, partTo)));
+                }
+                for (Future<Positions> part : parts) {
+                    storeAll(getResult(part));
+                }
+                table.checkpoint(end);
+                onCheckpoint.accept(end);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // ============================ Getters ============================
+    public long getPositionsStored() {
+        return positionsStored;
+    }
+
+    /**
+     * @return The number of positions that did not fit in the table.
+     */
+    public long getPositionsDropped() {
+        return positionsDropped;
+    }
+
+    // ============================ Helpers ============================
+    /**
+     * Plays and solves the games with indices from first to end, exclusive.
+     */
+    private Positions solveGames(long first, long end) {
+        Positions positions = new Positions();
+        EndgameSolver solver = new EndgameSolver(EndgameTable.PLAYER_COUNT);
+        ColorCanonicalizer canonicalizer = new ColorCanonicalizer();
+        for (long game = first; game < end; game++) {
+            GameSeed seed = GameSeed.forGame(baseSeed, game);
+            SplittableRandom dealRandom = new SplittableRandom(seed.getSeed());
+            List<Player> players = new ArrayList<>();
+            for (int seat = 0; seat < EndgameTable.PLAYER_COUNT; seat++) {
+                Strategy greedy = new GreedyStrategy(seed.getPlayerRandom(seat));
+                Strategy recorder = new Strategy() {
+                    @Override
+                    public int chooseCardToPlay(Player self, Parade parade, List<Player> everyone) {
+                        GameState world = GameState.observe(self, parade, everyone);
+                        if (world.isLastRound() && !world.isTurnPhaseOver()) {
+                            world.determinize(dealRandom);
+                            solveWithChildren(world, solver, canonicalizer, positions);
+                        }
+                        return greedy.chooseCardToPlay(self, parade, everyone);
+                    }
+
+                    @Override
+                    public int chooseCardToOpen(Player self, List<Player> everyone) {
+                        return greedy.chooseCardToOpen(self, everyone);
+                    }
+
+                    @Override
+                    public String getName() {
+                        return greedy.getName();
+                    }
+                };
+                players.add(new Computer("Bot " + (seat + 1), recorder));
+            }
+            new HeadlessGame(new GameManager(players, seed, false)).play();
+        }
+        return positions;
+    }
+
+    /**
+     * Solves a position and the positions after each move of the player to
+     * move, keeping those with turns left, as only those are looked up.
+     */
+    private static void solveWithChildren(GameState world, EndgameSolver solver, ColorCanonicalizer canonicalizer,
+            Positions positions) {
+        double[] values = new double[EndgameTable.PLAYER_COUNT];
+        solver.solve(world, values);
+        positions.add(canonicalizer.canonicalKey(world), values[0]);
+
+        GameState child = new GameState(EndgameTable.PLAYER_COUNT);
+        for (int i = 0; i < world.getHandSize(world.getCurrentPlayer()); i++) {
+            child.copyFrom(world);
+            child.playCard(i);
+            if (!child.isTurnPhaseOver()) {
+                solver.solve(child, values);
+                positions.add(canonicalizer.canonicalKey(child), values[0]);
+            }
+        }
+    }
+
+    private void storeAll(Positions positions) {
+        double[] values = new double[EndgameTable.PLAYER_COUNT];
+        for (int i = 0; i < positions.size; i++) {
+            values[0] = positions.values[i];
+            values[1] = 1 - values[0];
+            if (table.store(positions.keys[i], values)) {
+                positionsStored++;
+            } else {
+                positionsDropped++;
+            }
+        }
+    }
+
+    private static Positions getResult(Future<Positions> part) throws InterruptedException {
+        try {
+            return part.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Endgame table generation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Growable list of solved positions: canonical keys and the first
+     * player's rewards.
+     */
+    private static final class Positions {
+        long[] keys = new long[256];
+        double[] values = new double[256];
+        int size;
+
+        void add(long key, double value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+        }
+    }
+}
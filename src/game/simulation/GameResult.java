@@ -0,0 +1,113 @@
+package game.simulation;
+
+import game.core.Player;
+import java.util.*;
+
+/**
+ * Holds the outcome of a game played by the headless simulation: the final
+ * ranking, the scores per seat, how many turns were played and why the game
+ * ended.
+ */
+public class GameResult {
+
+    /**
+     * The condition that triggered the last round.
+     */
+    public enum EndReason {
+        DECK_EMPTY,
+        ALL_COLORS_COLLECTED
+    }
+
+    // ============================ Attributes ============================
+    /**
+     * The seed the game was played with, which replays it exactly.
+     */
+    private final long seed;
+
+    /**
+     * Players in turn order, starting with the player who won the starting
+     * dice roll.
+     */
+    private final List<Player> seats;
+
+    /**
+     * Players sorted from first place to last place.
+     */
+    private final List<Player> ranking;
+
+    private final Player winner;
+    private final int turns;
+    private final EndReason endReason;
+
+    // ============================ Constructor ============================
+    /**
+     * Creates a result for a finished game.
+     *
+     * @param seed      The seed the game was played with.
+     * @param seats     The players in turn order.
+     * @param ranking   The players sorted from first to last place.
+     * @param winner    The winning player.
+     * @param turns     The number of turns played, including the last round.
+     * @param endReason The condition that triggered the last round.
+     */
+    public GameResult(long seed, List<Player> seats, List<Player> ranking, Player winner, int turns, EndReason endReason) {
+        this.seed = seed;
+        this.seats = List.copyOf(seats);
+        this.ranking = List.copyOf(ranking);
+        this.winner = winner;
+        this.turns = turns;
+        this.endReason = endReason;
+    }
+
+    // ============================ Getters ============================
+    public long getSeed() {
+        return seed;
+    }
+
+    public List<Player> getSeats() {
+        return seats;
+    }
+
+    public List<Player> getRanking() {
+        return ranking;
+    }
+
+    public Player getWinner() {
+        return winner;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public EndReason getEndReason() {
+        return endReason;
+    }
+
+    /**
+     * @return The seat index of the winning player.
+     */
+    public int getWinnerSeat() {
+        return seats.indexOf(winner);
+    }
+
+    /**
+     * Returns the final score of the player in the given seat.
+     *
+     * @param seat The seat index in turn order.
+     * @return The player's final score.
+     */
+    public int getScore(int seat) {
+        return seats.get(seat).getScore();
+    }
+
+    /**
+     * Returns the 1-based finishing place of the player in the given seat.
+     *
+     * @param seat The seat index in turn order.
+     * @return The player's place, where 1 is the winner.
+     */
+    public int getPlace(int seat) {
+        return ranking.indexOf(seats.get(seat)) + 1;
+    }
+}
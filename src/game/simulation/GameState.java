@@ -0,0 +1,806 @@
+package game.simulation;
+
+import game.core.*;
+import game.gameplay.managers.CardFlipper;
+import game.utils.Constants;
+import java.util.*;
+
+/**
+ * A compact, copyable snapshot of a game in progress, used by search
+ * strategies to play many simulated continuations of the real game.
+ *
+ * Cards are stored as IDs: each hand and the deck as byte arrays, the open
+ * cards as per-color counts and value sums, and the parade as a Parade. A
+ * turn follows the same rules as HeadlessGame, and copyFrom resets a scratch
+ * state without allocating, so a simulated game produces no garbage.
+ *
+ * A state built from a real table does not know the opponents' hands or the
+ * order of the deck. Those cards are kept in a pool of hidden cards, and
+ * determinize deals them out at random before each simulation.
+ *
+ * The state keeps Zobrist hashes of its public part (open cards, sizes,
+ * turn), of the parade and of each hand, updated on every change, so both
+ * the full hash and the hash of what the observer can see cost O(1).
+ */
+public class GameState {
+
+    /**
+     * Largest number of cards a hand holds.
+     */
+    public static final int MAX_HAND_SIZE = Constants.INITIAL_HAND_SIZE;
+
+    /**
+     * Number of cards a hand keeps closed after the final play: one card
+     * goes to the parade in the last round and FINAL_PLAY_MOVES are opened.
+     */
+    public static final int FINAL_HAND_SIZE = MAX_HAND_SIZE - 1 - Constants.FINAL_PLAY_MOVES;
+
+    // ============================ Instance Variables ============================
+    private final int playerCount;
+    private final byte[][] hands;
+    private final int[] handSizes;
+    private final int[][] colorCounts;
+    private final int[][] colorValueSums;
+    private final int[] totalOpenCards;
+    private final int[] collectedColorMasks;
+    private final int[] scores;
+    private final Parade parade;
+    private final byte[] deck;
+    private int deckSize;
+
+    /**
+     * Cards whose location the observer does not know: the opponents' hands
+     * and the deck.
+     */
+    private final byte[] hiddenCards;
+    private int hiddenCount;
+
+    /**
+     * The player whose point of view the state was built from.
+     */
+    private int observer;
+
+    private int currentPlayer;
+    private boolean lastRound;
+    private int lastRoundTurnsLeft;
+    private boolean finished;
+
+    /**
+     * Zobrist hashes of the public features, of the parade and of each hand.
+     * The parade is hashed by position, so it is rehashed when cards leave
+     * it and the rest shift forward.
+     */
+    private long publicKey;
+    private long paradeKey;
+    private final long[] handKeys;
+
+    // ============================ Constructors ============================
+    /**
+     * Creates an empty state for the given number of players.
+     *
+     * @param playerCount The number of players.
+     */
+    public GameState(int playerCount) {
+        this.playerCount = playerCount;
+        this.hands = new byte[playerCount][MAX_HAND_SIZE];
+        this.handSizes = new int[playerCount];
+        this.colorCounts = new int[playerCount][Constants.TOTAL_COLORS];
+        this.colorValueSums = new int[playerCount][Constants.TOTAL_COLORS];
+        this.totalOpenCards = new int[playerCount];
+        this.collectedColorMasks = new int[playerCount];
+        this.scores = new int[playerCount];
+        this.parade = new Parade();
+        this.deck = new byte[Constants.TOTAL_CARDS];
+        this.hiddenCards = new byte[Constants.TOTAL_CARDS];
+        this.handKeys = new long[playerCount];
+    }
+
+    /**
+     * Builds the state of a real game as seen by one player: their own hand,
+     * the parade and every player's open cards are known, the other hands and
+     * the deck are hidden. Whether the last round has started is worked out
+     * from the table: it has once the deck is empty or a player holds every
+     * color, and the players still holding a full hand have yet to play it.
+     * The hidden cards come from the game's CardTracker when the player has
+     * one.
+     *
+     * @param self    The player whose turn it is.
+     * @param parade  The current parade.
+     * @param players Every player at the table in turn order.
+     * @return The observed state, with self to move.
+     */
+    public static GameState observe(Player self, Parade parade, List<Player> players) {
+        GameState state = new GameState(players.size());
+        state.observer = players.indexOf(self);
+        state.currentPlayer = state.observer;
+        state.parade.copyFrom(parade);
+
+        int cardsOutsideDeck = parade.size();
+        boolean anyAllColors = false;
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            for (List<Card> cards : player.getOpenCards().values()) {
+                for (Card card : cards) {
+                    state.addOpenCard(p, card.getId());
+                }
+            }
+            anyAllColors |= player.hasAllColors();
+            state.handSizes[p] = player.getClosedCards().size();
+            cardsOutsideDeck += state.totalOpenCards[p] + state.handSizes[p];
+        }
+
+        List<Card> hand = self.getClosedCards();
+        for (int i = 0; i < hand.size(); i++) {
+            state.hands[state.observer][i] = (byte) hand.get(i).getId();
+        }
+        CardTracker tracker = self.getCardTracker();
+        if (tracker != null) {
+            state.addHiddenCards(tracker.getUnseenLow(self), 0);
+            state.addHiddenCards(tracker.getUnseenHigh(self), Long.SIZE);
+        } else {
+            state.findHiddenCards(self, parade, players);
+        }
+
+        state.deckSize = Constants.TOTAL_CARDS - cardsOutsideDeck;
+        state.lastRound = state.deckSize == 0 || anyAllColors;
+        if (state.lastRound) {
+            for (int p = 0; p < players.size(); p++) {
+                if (state.handSizes[p] == MAX_HAND_SIZE) {
+                    state.lastRoundTurnsLeft++;
+                }
+            }
+        }
+        state.recomputeKeys();
+        return state;
+    }
+
+    /**
+     * Builds the state of a real game as seen by one player during the final
+     * play, when only the open cards and the hands matter. The parade and
+     * the deck are left out, and the hidden cards come from the game's
+     * CardTracker. The players that still hold more than FINAL_HAND_SIZE
+     * cards have yet to open theirs.
+     *
+     * @param self    The player whose final play it is.
+     * @param players Every player at the table in turn order.
+     * @return The observed state, with self to move and the turns over.
+     * @throws IllegalStateException if the player has no card tracker.
+     */
+    public static GameState observeFinalPlay(Player self, List<Player> players) {
+        if (self.getCardTracker() == null) {
+            throw new IllegalStateException(self.getName() + " is not playing a game.");
+        }
+        GameState state = observe(self, new Parade(), players);
+        int opponentCards = 0;
+        for (int p = 0; p < state.playerCount; p++) {
+            if (p != state.observer) {
+                opponentCards += state.handSizes[p];
+            }
+        }
+        state.deckSize = state.hiddenCount - opponentCards;
+        state.lastRound = true;
+        state.lastRoundTurnsLeft = 0;
+        state.recomputeKeys();
+        return state;
+    }
+
+    /**
+     * Adds the cards whose bits are set in the mask to the hidden cards.
+     *
+     * @param mask   Bits of card IDs, bit i standing for card ID offset + i.
+     * @param offset The card ID of bit 0.
+     */
+    private void addHiddenCards(long mask, int offset) {
+        for (; mask != 0; mask &= mask - 1) {
+            hiddenCards[hiddenCount++] = (byte) (offset + Long.numberOfTrailingZeros(mask));
+        }
+    }
+
+    /**
+     * Works out the hidden cards from the table when there is no card
+     * tracker: every card is hidden unless it is in the parade, in an open
+     * pile or in the observer's hand.
+     */
+    private void findHiddenCards(Player self, Parade parade, List<Player> players) {
+        boolean[] seen = new boolean[Constants.TOTAL_CARDS];
+        for (int i = 0; i < parade.size(); i++) {
+            seen[parade.getCardId(i)] = true;
+        }
+        for (Player player : players) {
+            for (List<Card> cards : player.getOpenCards().values()) {
+                for (Card card : cards) {
+                    seen[card.getId()] = true;
+                }
+            }
+        }
+        for (Card card : self.getClosedCards()) {
+            seen[card.getId()] = true;
+        }
+        for (int id = 0; id < Constants.TOTAL_CARDS; id++) {
+            if (!seen[id]) {
+                hiddenCards[hiddenCount++] = (byte) id;
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this state with a copy of another state for
+     * the same number of players, without allocating.
+     *
+     * @param other The state to copy.
+     */
+    public void copyFrom(GameState other) {
+        for (int p = 0; p < playerCount; p++) {
+            System.arraycopy(other.hands[p], 0, hands[p], 0, MAX_HAND_SIZE);
+            System.arraycopy(other.colorCounts[p], 0, colorCounts[p], 0, Constants.TOTAL_COLORS);
+            System.arraycopy(other.colorValueSums[p], 0, colorValueSums[p], 0, Constants.TOTAL_COLORS);
+        }
+        System.arraycopy(other.handSizes, 0, handSizes, 0, playerCount);
+        System.arraycopy(other.totalOpenCards, 0, totalOpenCards, 0, playerCount);
+        System.arraycopy(other.collectedColorMasks, 0, collectedColorMasks, 0, playerCount);
+        System.arraycopy(other.scores, 0, scores, 0, playerCount);
+        parade.copyFrom(other.parade);
+        System.arraycopy(other.deck, 0, deck, 0, other.deckSize);
+        deckSize = other.deckSize;
+        System.arraycopy(other.hiddenCards, 0, hiddenCards, 0, other.hiddenCount);
+        hiddenCount = other.hiddenCount;
+        observer = other.observer;
+        currentPlayer = other.currentPlayer;
+        lastRound = other.lastRound;
+        lastRoundTurnsLeft = other.lastRoundTurnsLeft;
+        finished = other.finished;
+        publicKey = other.publicKey;
+        paradeKey = other.paradeKey;
+        System.arraycopy(other.handKeys, 0, handKeys, 0, playerCount);
+    }
+
+    /**
+     * Deals the hidden cards at random into the opponents' hands and the
+     * deck, giving one possible world consistent with what the observer has
+     * seen.
+     *
+     * @param random The random number generator to shuffle with.
+     */
+    public void determinize(SplittableRandom random) {
+        for (int i = hiddenCount; i > 1; i--) {
+            int j = random.nextInt(i);
+            byte card = hiddenCards[i - 1];
+            hiddenCards[i - 1] = hiddenCards[j];
+            hiddenCards[j] = card;
+        }
+
+        int next = 0;
+        for (int p = 0; p < playerCount; p++) {
+            if (p == observer) {
+                continue;
+            }
+            for (int i = 0; i < handSizes[p]; i++) {
+                hands[p][i] = hiddenCards[next++];
+            }
+            handKeys[p] = hashHand(p);
+        }
+        setDeckSize(hiddenCount - next);
+        System.arraycopy(hiddenCards, next, deck, 0, deckSize);
+    }
+
+    // ============================ Turns ============================
+    /**
+     * Plays the card at the given index of the current player's hand: the
+     * card joins the parade, the player takes the cards it removes and, before
+     * the last round, draws a card. Starts the last round when the deck runs
+     * out or the player has collected every color, and moves on to the next
+     * player.
+     *
+     * @param handIndex The index of the card in the current player's hand.
+     */
+    public void playCard(int handIndex) {
+        int player = currentPlayer;
+        placeInParade(player, removeFromHand(player, handIndex));
+        if (!lastRound) {
+            addToHand(player, deck[deckSize - 1]);
+        }
+        endTurn(player);
+    }
+
+    // ============================ Observer Turns ============================
+    /**
+     * Plays a card of the current player's hand like playCard, but leaves
+     * the card drawn for later: the deck shrinks while the hand stays one
+     * card short until drawHiddenCard. Lets searches that do not deal the
+     * hidden cards branch on the draw only when it matters.
+     *
+     * @param handIndex The index of the card in the current player's hand.
+     */
+    public void playCardDrawingLater(int handIndex) {
+        int player = currentPlayer;
+        placeInParade(player, removeFromHand(player, handIndex));
+        endTurn(player);
+    }
+
+    /**
+     * Adds one of the hidden cards to the observer's hand, as the card drawn
+     * after playCardDrawingLater.
+     *
+     * @param cardId The ID of the hidden card.
+     */
+    public void drawHiddenCard(int cardId) {
+        removeHiddenCard(cardId);
+        addToHand(observer, cardId);
+    }
+
+    /**
+     * Lets the current player, an opponent whose hand was not dealt, play
+     * one of the hidden cards. The card they draw stays hidden, so their
+     * hand only shrinks during the last round.
+     *
+     * @param cardId The ID of the hidden card played.
+     */
+    public void playHiddenCard(int cardId) {
+        int player = currentPlayer;
+        removeHiddenCard(cardId);
+        placeInParade(player, cardId);
+        if (lastRound) {
+            publicKey ^= Zobrist.handSize(player, handSizes[player]);
+            handSizes[player]--;
+            publicKey ^= Zobrist.handSize(player, handSizes[player]);
+        }
+        endTurn(player);
+    }
+
+    /**
+     * Finds the given card in the current player's hand.
+     *
+     * @param cardId The ID of the card.
+     * @return The index of the card in the hand, or -1 if it is not there.
+     */
+    public int indexInHand(int cardId) {
+        byte[] hand = hands[currentPlayer];
+        for (int i = 0; i < handSizes[currentPlayer]; i++) {
+            if (hand[i] == cardId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return true once every player has played their last round turn, when
+     * only the final play is left.
+     */
+    public boolean isTurnPhaseOver() {
+        return lastRound && lastRoundTurnsLeft == 0;
+    }
+
+    // ============================ Final Play & Scoring ============================
+    /**
+     * Lets every player open cards from their hand as in the final play, each
+     * time opening the card that adds the least to their score against the
+     * open cards on the table, then flips the colors and scores the game.
+     */
+    public void finishGame() {
+        for (int i = 0; i < playerCount; i++) {
+            int player = (currentPlayer + i) % playerCount;
+            for (int move = 0; move < Constants.FINAL_PLAY_MOVES && handSizes[player] > 0; move++) {
+                openCard(player, cheapestCardToOpen(player));
+            }
+        }
+        score();
+    }
+
+    /**
+     * Moves the card at the given index of a player's hand to their open
+     * cards, as during the final play.
+     *
+     * @param player    The player.
+     * @param handIndex The index of the card in the player's hand.
+     */
+    public void openCard(int player, int handIndex) {
+        addOpenCard(player, removeFromHand(player, handIndex));
+    }
+
+    /**
+     * Undoes openCard, putting the card back at the same index of the hand,
+     * so that solvers can try final plays without copying the state.
+     *
+     * @param player    The player.
+     * @param handIndex The index the card was opened from.
+     * @param cardId    The ID of the card that was opened.
+     */
+    public void undoOpenCard(int player, int handIndex, int cardId) {
+        removeOpenCard(player, cardId);
+        addToHand(player, cardId);
+        byte[] hand = hands[player];
+        int last = handSizes[player] - 1;
+        hand[last] = hand[handIndex];
+        hand[handIndex] = (byte) cardId;
+        finished = false;
+    }
+
+    /**
+     * Flips each color for the players holding the most cards of it, with the
+     * same rules as CardFlipper, and computes every player's score.
+     */
+    public void score() {
+        Arrays.fill(scores, 0);
+        for (int color = 0; color < Constants.TOTAL_COLORS; color++) {
+            int max = 0;
+            int min = Integer.MAX_VALUE;
+            for (int p = 0; p < playerCount; p++) {
+                max = Math.max(max, colorCounts[p][color]);
+                min = Math.min(min, colorCounts[p][color]);
+            }
+            for (int p = 0; p < playerCount; p++) {
+                scores[p] += CardFlipper.flips(colorCounts[p][color], max, min, playerCount)
+                        ? colorCounts[p][color] * Constants.FLIPPED_CARD_VALUE
+                        : colorValueSums[p][color];
+            }
+        }
+        finished = true;
+    }
+
+    /**
+     * Rates each player's result between 0 and 1 by the fraction of opponents
+     * they finish ahead of, ranked like PlayerComparator: lower score, then
+     * fewer open cards, then fewer colors. Players still tied after that
+     * would roll dice, so each counts as half a win.
+     *
+     * @param rewards Receives one reward per player.
+     */
+    public void computeRewards(double[] rewards) {
+        for (int p = 0; p < playerCount; p++) {
+            double beaten = 0;
+            for (int q = 0; q < playerCount; q++) {
+                if (q != p) {
+                    int order = compareResults(p, q);
+                    beaten += order < 0 ? 1 : order == 0 ? 0.5 : 0;
+                }
+            }
+            rewards[p] = playerCount > 1 ? beaten / (playerCount - 1) : 1;
+        }
+    }
+
+    /**
+     * Returns a player's chance of winning the scored game as
+     * WinnerDeterminer decides it: 1 if they alone rank first like
+     * PlayerComparator, 1/k if they tie with k - 1 other players on every
+     * criterion and the dice decide, and 0 otherwise.
+     *
+     * @param player The player.
+     * @return The player's share of the win.
+     */
+    public double winShare(int player) {
+        int tied = 1;
+        for (int q = 0; q < playerCount; q++) {
+            if (q != player) {
+                int order = compareResults(player, q);
+                if (order > 0) {
+                    return 0;
+                }
+                if (order == 0) {
+                    tied++;
+                }
+            }
+        }
+        return 1.0 / tied;
+    }
+
+    private int compareResults(int p, int q) {
+        int result = Integer.compare(scores[p], scores[q]);
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(totalOpenCards[p], totalOpenCards[q]);
+        if (result != 0) {
+            return result;
+        }
+        return Integer.compare(Integer.bitCount(collectedColorMasks[p]), Integer.bitCount(collectedColorMasks[q]));
+    }
+
+    // ============================ Evaluation Helpers ============================
+    /**
+     * Returns how much taking the cards in a removal mask would raise a
+     * player's face value total, which simulations use as a cheap estimate of
+     * a move's cost.
+     *
+     * @param removalMask The cards taken from the parade.
+     * @return The sum of the values of those cards.
+     */
+    public int removalValue(long removalMask) {
+        int value = 0;
+        for (long mask = removalMask; mask != 0; mask &= mask - 1) {
+            value += Card.fromId(parade.getCardId(Long.numberOfTrailingZeros(mask))).getValue();
+        }
+        return value;
+    }
+
+    /**
+     * Picks the card of a player's hand whose opening raises their score the
+     * least, counting a color as flipped if opening the card would give the
+     * player the lead in that color.
+     */
+    private int cheapestCardToOpen(int player) {
+        int requiredLead = playerCount == 2 ? Constants.MIN_DIFFERENCE_FOR_TWO_PLAYERS : 1;
+        int best = 0;
+        int bestCost = Integer.MAX_VALUE;
+        for (int i = 0; i < handSizes[player]; i++) {
+            Card card = Card.fromId(hands[player][i]);
+            int color = card.getColorIndex();
+            boolean leads = true;
+            for (int p = 0; p < playerCount && leads; p++) {
+                leads = p == player || colorCounts[player][color] + 1 - colorCounts[p][color] >= requiredLead;
+            }
+            int cost = leads ? Constants.FLIPPED_CARD_VALUE : card.getValue();
+            if (cost < bestCost) {
+                best = i;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    // ============================ Hashing ============================
+    /**
+     * Returns the Zobrist hash of everything the observer can see: the parade
+     * in order, every player's open cards by color, the observer's own hand,
+     * the hand and deck sizes, the player to move and the last round count.
+     * Two determinizations of the same position get the same key, so search
+     * statistics can be shared between them.
+     *
+     * @return A 64-bit key of the observer's information set.
+     */
+    public long informationSetKey() {
+        return publicKey ^ paradeKey ^ handKeys[observer];
+    }
+
+    /**
+     * Returns the Zobrist hash of the whole state, including every hand but
+     * not the order of the deck.
+     *
+     * @return A 64-bit key of the state.
+     */
+    public long zobristKey() {
+        long key = publicKey ^ paradeKey;
+        for (int p = 0; p < playerCount; p++) {
+            key ^= handKeys[p];
+        }
+        return key;
+    }
+
+    /**
+     * Returns a hash of what the rest of the final play depends on: the open
+     * cards, the hand sizes and the hands of the players that have not
+     * opened their cards yet. The parade and the cards kept closed are left
+     * out, so that positions reached through different turns, or in
+     * different determinizations, share a key once the turns are over.
+     *
+     * @return A 64-bit key of the final play position.
+     */
+    public long finalPlayKey() {
+        long key = publicKey;
+        for (int p = 0; p < playerCount; p++) {
+            if (handSizes[p] > FINAL_HAND_SIZE) {
+                key ^= handKeys[p];
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Hashes the state from scratch, after it has been built without
+     * keeping the hashes up to date.
+     */
+    private void recomputeKeys() {
+        publicKey = Zobrist.toMove(currentPlayer)
+                ^ Zobrist.deckSize(deckSize)
+                ^ Zobrist.lastRound(lastRound, lastRoundTurnsLeft);
+        for (int p = 0; p < playerCount; p++) {
+            publicKey ^= Zobrist.handSize(p, handSizes[p]);
+            for (int color = 0; color < Constants.TOTAL_COLORS; color++) {
+                publicKey ^= Zobrist.openCount(p, color, colorCounts[p][color])
+                        ^ Zobrist.openValueSum(p, color, colorValueSums[p][color]);
+            }
+            handKeys[p] = hashHand(p);
+        }
+        paradeKey = hashParade();
+    }
+
+    private long hashParade() {
+        long key = 0;
+        for (int i = 0; i < parade.size(); i++) {
+            key ^= Zobrist.parade(i, parade.getCardId(i));
+        }
+        return key;
+    }
+
+    private long hashHand(int player) {
+        long key = 0;
+        for (int i = 0; i < handSizes[player]; i++) {
+            key ^= Zobrist.hand(player, hands[player][i]);
+        }
+        return key;
+    }
+
+    // ============================ State Updates ============================
+    /**
+     * Removes the card at the given index of a player's hand, moving the last
+     * card of the hand into its place.
+     *
+     * @return The ID of the removed card.
+     */
+    private int removeFromHand(int player, int handIndex) {
+        byte[] hand = hands[player];
+        int cardId = hand[handIndex];
+        publicKey ^= Zobrist.handSize(player, handSizes[player]);
+        hand[handIndex] = hand[--handSizes[player]];
+        publicKey ^= Zobrist.handSize(player, handSizes[player]);
+        handKeys[player] ^= Zobrist.hand(player, cardId);
+        return cardId;
+    }
+
+    private void addToHand(int player, int cardId) {
+        publicKey ^= Zobrist.handSize(player, handSizes[player]);
+        hands[player][handSizes[player]++] = (byte) cardId;
+        publicKey ^= Zobrist.handSize(player, handSizes[player]);
+        handKeys[player] ^= Zobrist.hand(player, cardId);
+    }
+
+    /**
+     * Adds a card to the end of the parade and gives the player the cards it
+     * removes.
+     */
+    private void placeInParade(int player, int cardId) {
+        parade.addCardId(cardId);
+        paradeKey ^= Zobrist.parade(parade.size() - 1, cardId);
+        long removalMask = parade.getRemovalMask();
+        if (removalMask != 0) {
+            for (long mask = removalMask; mask != 0; mask &= mask - 1) {
+                addOpenCard(player, parade.getCardId(Long.numberOfTrailingZeros(mask)));
+            }
+            parade.removeMask(removalMask);
+            paradeKey = hashParade();
+        }
+    }
+
+    /**
+     * Counts down the last round or, before it, the deck the player drew
+     * from, starts the last round when the deck runs out or the player has
+     * collected every color, and moves on to the next player.
+     */
+    private void endTurn(int player) {
+        if (lastRound) {
+            setLastRound(true, lastRoundTurnsLeft - 1);
+        } else {
+            setDeckSize(deckSize - 1);
+            if (deckSize == 0 || collectedColorMasks[player] == Player.ALL_COLORS_MASK) {
+                setLastRound(true, playerCount);
+            }
+        }
+        setCurrentPlayer((player + 1) % playerCount);
+    }
+
+    private void removeHiddenCard(int cardId) {
+        for (int i = 0; i < hiddenCount; i++) {
+            if (hiddenCards[i] == cardId) {
+                hiddenCards[i] = hiddenCards[--hiddenCount];
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Card " + cardId + " is not hidden.");
+    }
+
+    private void setDeckSize(int size) {
+        publicKey ^= Zobrist.deckSize(deckSize) ^ Zobrist.deckSize(size);
+        deckSize = size;
+    }
+
+    private void setLastRound(boolean lastRound, int turnsLeft) {
+        publicKey ^= Zobrist.lastRound(this.lastRound, lastRoundTurnsLeft) ^ Zobrist.lastRound(lastRound, turnsLeft);
+        this.lastRound = lastRound;
+        this.lastRoundTurnsLeft = turnsLeft;
+    }
+
+    private void setCurrentPlayer(int player) {
+        publicKey ^= Zobrist.toMove(currentPlayer) ^ Zobrist.toMove(player);
+        currentPlayer = player;
+    }
+
+    private void addOpenCard(int player, int cardId) {
+        Card card = Card.fromId(cardId);
+        int color = card.getColorIndex();
+        publicKey ^= Zobrist.openCount(player, color, colorCounts[player][color])
+                ^ Zobrist.openValueSum(player, color, colorValueSums[player][color]);
+        colorCounts[player][color]++;
+        colorValueSums[player][color] += card.getValue();
+        publicKey ^= Zobrist.openCount(player, color, colorCounts[player][color])
+                ^ Zobrist.openValueSum(player, color, colorValueSums[player][color]);
+        totalOpenCards[player]++;
+        collectedColorMasks[player] |= 1 << color;
+    }
+
+    private void removeOpenCard(int player, int cardId) {
+        Card card = Card.fromId(cardId);
+        int color = card.getColorIndex();
+        publicKey ^= Zobrist.openCount(player, color, colorCounts[player][color])
+                ^ Zobrist.openValueSum(player, color, colorValueSums[player][color]);
+        colorCounts[player][color]--;
+        colorValueSums[player][color] -= card.getValue();
+        publicKey ^= Zobrist.openCount(player, color, colorCounts[player][color])
+                ^ Zobrist.openValueSum(player, color, colorValueSums[player][color]);
+        totalOpenCards[player]--;
+        if (colorCounts[player][color] == 0) {
+            collectedColorMasks[player] &= ~(1 << color);
+        }
+    }
+
+    // ============================ Getters ============================
+    /**
+     * @return The number of cards whose location the observer does not know.
+     */
+    public int getHiddenCount() {
+        return hiddenCount;
+    }
+
+    /**
+     * @param index An index between 0 and getHiddenCount() - 1.
+     * @return The ID of the hidden card at that index.
+     */
+    public int getHiddenCard(int index) {
+        return hiddenCards[index];
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public int getObserver() {
+        return observer;
+    }
+
+    public int getHandSize(int player) {
+        return handSizes[player];
+    }
+
+    public int getHandCard(int player, int handIndex) {
+        return hands[player][handIndex];
+    }
+
+    public Parade getParade() {
+        return parade;
+    }
+
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    public boolean isLastRound() {
+        return lastRound;
+    }
+
+    /**
+     * @return The number of players yet to play their last round turn, or 0
+     *         before the last round.
+     */
+    public int getLastRoundTurnsLeft() {
+        return lastRound ? lastRoundTurnsLeft : 0;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public int getScore(int player) {
+        return scores[player];
+    }
+
+    public int getOpenCardCount(int player, int color) {
+        return colorCounts[player][color];
+    }
+
+    public int getOpenCardValueSum(int player, int color) {
+        return colorValueSums[player][color];
+    }
+}
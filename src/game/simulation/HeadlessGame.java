@@ -0,0 +1,128 @@
+package game.simulation;
+
+import game.core.*;
+import game.gameplay.GameManager;
+import game.setup.*;
+import game.utils.Constants;
+import java.util.*;
+
+/**
+ * Plays a complete game between computer players without any console output,
+ * delays or user input. It follows the same rules and turn order as
+ * GameController, but returns a GameResult instead of rendering the game, so
+ * that many games can be simulated quickly for analysis.
+ */
+public class HeadlessGame {
+
+    // ============================ Instance Variables ============================
+
+    private final GameManager gameManager;
+    private final Deck deck;
+    private final Parade parade;
+    private final List<Player> players;
+    private final StartingPlayerDecider startingPlayerDecider;
+    private int turns;
+
+    // ============================ Constructor ============================
+    /**
+     * Constructs a HeadlessGame for the players and deck of the given game
+     * manager. The game manager should be created with verbose set to false,
+     * otherwise the managers will still print their progress.
+     *
+     * @param gameManager The game manager that manages the game state.
+     * @throws IllegalArgumentException if any of the players is not a computer.
+     */
+    public HeadlessGame(GameManager gameManager) {
+        this.gameManager = gameManager;
+        this.deck = gameManager.getDeck();
+        this.players = gameManager.getPlayers();
+        this.parade = new Parade(deck, gameManager.getCardTracker());
+        this.startingPlayerDecider = new StartingPlayerDecider(gameManager.getDice(), false);
+
+        for (Player player : players) {
+            if (!(player instanceof Computer)) {
+                throw new IllegalArgumentException(player.getName() + " is not a computer player!");
+            }
+        }
+    }
+
+    // ============================ Instance Methods ============================
+
+    /**
+     * Plays the game from the starting dice roll until a winner is determined.
+     *
+     * @return The result of the game.
+     */
+    public GameResult play() {
+        initializeGame();
+        List<Player> seats = new ArrayList<>(players);
+
+        GameResult.EndReason endReason = null;
+        while (endReason == null) {
+            for (Player player : players) {
+                playTurn(player);
+                player.drawCardFromDeck(deck);
+
+                if (gameManager.checkEndGame()) {
+                    endReason = deck.isEmpty()
+                            ? GameResult.EndReason.DECK_EMPTY
+                            : GameResult.EndReason.ALL_COLORS_COLLECTED;
+                    int currentIndex = players.indexOf(player);
+                    Player nextPlayer = players.get((currentIndex + 1) % players.size());
+                    gameManager.rearrangePlayers(nextPlayer);
+                    break;
+                }
+            }
+        }
+
+        handleEndGame();
+        gameManager.flipCards();
+        gameManager.calculateScores();
+        Player winner = gameManager.determineWinner();
+        return new GameResult(gameManager.getSeed().getSeed(), seats, players, winner, turns, endReason);
+    }
+
+    // ============================ Game Flow ============================
+
+    /**
+     * Decides the starting player, shuffles the deck, deals the cards and sets
+     * up the parade.
+     */
+    private void initializeGame() {
+        Player firstPlayer = startingPlayerDecider.decideStartingPlayer(players);
+        gameManager.rearrangePlayers(firstPlayer);
+
+        deck.shuffle();
+        for (Player player : players) {
+            for (int i = 0; i < Constants.CARDS_TO_DEAL; i++) {
+                player.drawCardFromDeck(deck);
+            }
+        }
+        parade.initializeParade();
+    }
+
+    /**
+     * Plays a card for the given player and lets them take their cards from
+     * the parade.
+     *
+     * @param player The player whose turn it is.
+     */
+    private void playTurn(Player player) {
+        ((Computer) player).playCard(parade);
+        player.takeCardsFromParade(parade);
+        turns++;
+    }
+
+    /**
+     * Plays the last round without drawing and lets every player add their
+     * final two cards to their open cards.
+     */
+    private void handleEndGame() {
+        for (Player player : players) {
+            playTurn(player);
+        }
+        for (Player player : players) {
+            ((Computer) player).finalPlay();
+        }
+    }
+}
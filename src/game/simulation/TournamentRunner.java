@@ -0,0 +1,144 @@
+package game.simulation;
+
+import game.ai.StrategyFactory;
+import game.core.*;
+import game.gameplay.GameManager;
+import game.setup.GameSeed;
+import game.utils.Constants;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Plays a batch of headless games in parallel on a fork/join pool and
+ * aggregates their results. Every game gets its own players, strategies, deck
+ * and dice, so games share no mutable state and throughput scales with the
+ * number of threads. Game i of a batch is seeded from the batch seed and i
+ * alone, so a batch gives the same results on any number of threads.
+ */
+public class TournamentRunner {
+
+    /**
+     * Number of games below which a task plays its games instead of splitting.
+     */
+    private static final int GAMES_PER_TASK = 256;
+
+    // ============================ Instance Variables ============================
+    private final List<StrategyFactory> strategies;
+    private final int parallelism;
+
+    // ============================ Constructors ============================
+    /**
+     * Constructs a TournamentRunner that uses every available processor.
+     *
+     * @param strategies One strategy factory per player in each game.
+     */
+    public TournamentRunner(List<StrategyFactory> strategies) {
+        this(strategies, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a TournamentRunner with a fixed number of worker threads.
+     *
+     * @param strategies  One strategy factory per player in each game.
+     * @param parallelism The number of worker threads.
+     * @throws IllegalArgumentException if the player count or thread count is invalid.
+     */
+    public TournamentRunner(List<StrategyFactory> strategies, int parallelism) {
+        if (strategies.size() < Constants.MIN_PLAYERS
+                || strategies.size() > Constants.MAX_PLAYERS) {
+            throw new IllegalArgumentException("A game requires 2 to 6 players.");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("At least one thread is required.");
+        }
+        this.strategies = List.copyOf(strategies);
+        this.parallelism = parallelism;
+    }
+
+    // ============================ Instance Methods ============================
+    /**
+     * Plays the given number of games with a random batch seed.
+     *
+     * @param games The number of games to play.
+     * @return The aggregated statistics.
+     */
+    public TournamentStats run(int games) {
+        return run(games, GameSeed.randomSeed());
+    }
+
+    /**
+     * Plays the given number of games and returns their aggregated results.
+     * The strategies rotate between seats from one game to the next, so each
+     * strategy plays every seat equally often.
+     *
+     * @param games The number of games to play.
+     * @param seed  The batch seed every game seed is derived from.
+     * @return The aggregated statistics.
+     */
+    public TournamentStats run(int games, long seed) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new GamesTask(seed, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single headless game.
+     *
+     * @param seed      The batch seed.
+     * @param gameIndex The index of the game in the batch, used to rotate
+     *                  seats and derive the game seed.
+     * @return The result of the game.
+     */
+    private GameResult playGame(long seed, int gameIndex) {
+        GameSeed gameSeed = GameSeed.forGame(seed, gameIndex);
+        int playerCount = strategies.size();
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int seat = 0; seat < playerCount; seat++) {
+            StrategyFactory factory = strategies.get((seat + gameIndex) % playerCount);
+            players.add(new Computer("Bot " + (seat + 1), factory.create(gameSeed.getPlayerRandom(seat))));
+        }
+
+        GameManager gameManager = new GameManager(players, gameSeed, false);
+        return new HeadlessGame(gameManager).play();
+    }
+
+    // ============================ Fork/Join Task ============================
+    /**
+     * Plays the games in the range [from, to), splitting the range in half
+     * until it is small enough to play directly.
+     */
+    private class GamesTask extends RecursiveTask<TournamentStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        GamesTask(long seed, int from, int to) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentStats compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                TournamentStats stats = new TournamentStats(strategies.size());
+                for (int i = from; i < to; i++) {
+                    stats.record(playGame(seed, i));
+                }
+                return stats;
+            }
+
+            int middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(seed, from, middle);
+            left.fork();
+            TournamentStats stats = new GamesTask(seed, middle, to).compute();
+            stats.merge(left.join());
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package game.simulation;
+
+import game.core.*;
+import game.utils.Constants;
+import java.util.*;
+
+/**
+ * Aggregates the results of many headless games: win rates and score
+ * distributions per seat and per strategy, game lengths and end game
+ * conditions. Each worker of the TournamentRunner fills its own instance,
+ * which are merged once the workers finish, so no locking is needed.
+ */
+public class TournamentStats {
+
+    /**
+     * Highest score a single player can reach: every card in the deck.
+     */
+    public static final int MAX_SCORE = Constants.TOTAL_COLORS
+            * (Constants.MAXVALUEOFCARD * (Constants.MAXVALUEOFCARD + 1) / 2);
+
+    /**
+     * Highest number of turns a game can last: one turn per card in the deck.
+     */
+    public static final int MAX_TURNS = Constants.TOTAL_CARDS;
+
+    // ============================ Instance Variables ============================
+    private final Tally[] seatTallies;
+    private final Map<String, Tally> strategyTallies;
+    private final long[] turnHistogram;
+    private final long[] endReasonCounts;
+    private long games;
+
+    // ============================ Constructor ============================
+    /**
+     * Constructs empty statistics for games with the given number of players.
+     *
+     * @param seats The number of players in each game.
+     */
+    public TournamentStats(int seats) {
+        this.seatTallies = new Tally[seats];
+        for (int i = 0; i < seats; i++) {
+            seatTallies[i] = new Tally();
+        }
+        this.strategyTallies = new TreeMap<>();
+        this.turnHistogram = new long[MAX_TURNS + 1];
+        this.endReasonCounts = new long[GameResult.EndReason.values().length];
+    }
+
+    // ============================ Recording ============================
+    /**
+     * Records the outcome of a single game.
+     *
+     * @param result The result of a finished game.
+     */
+    public void record(GameResult result) {
+        games++;
+        turnHistogram[Math.min(result.getTurns(), MAX_TURNS)]++;
+        endReasonCounts[result.getEndReason().ordinal()]++;
+
+        List<Player> seats = result.getSeats();
+        for (int seat = 0; seat < seats.size(); seat++) {
+            Player player = seats.get(seat);
+            boolean won = player == result.getWinner();
+            seatTallies[seat].record(player.getScore(), won);
+            strategyTallies.computeIfAbsent(getStrategyName(player), key -> new Tally())
+                    .record(player.getScore(), won);
+        }
+    }
+
+    /**
+     * Adds all games recorded in another instance to this one.
+     *
+     * @param other The statistics to merge in.
+     */
+    public void merge(TournamentStats other) {
+        games += other.games;
+        for (int seat = 0; seat < seatTallies.length; seat++) {
+            seatTallies[seat].merge(other.seatTallies[seat]);
+        }
+        other.strategyTallies.forEach((name, tally)
+                -> strategyTallies.computeIfAbsent(name, key -> new Tally()).merge(tally));
+        for (int i = 0; i < turnHistogram.length; i++) {
+            turnHistogram[i] += other.turnHistogram[i];
+        }
+        for (int i = 0; i < endReasonCounts.length; i++) {
+            endReasonCounts[i] += other.endReasonCounts[i];
+        }
+    }
+
+    // ============================ Getters ============================
+    public long getGames() {
+        return games;
+    }
+
+    public int getSeatCount() {
+        return seatTallies.length;
+    }
+
+    public Tally getSeatTally(int seat) {
+        return seatTallies[seat];
+    }
+
+    public Map<String, Tally> getStrategyTallies() {
+        return Collections.unmodifiableMap(strategyTallies);
+    }
+
+    public long getEndReasonCount(GameResult.EndReason reason) {
+        return endReasonCounts[reason.ordinal()];
+    }
+
+    /**
+     * @return The average number of turns per game.
+     */
+    public double getMeanTurns() {
+        return games == 0 ? 0 : (double) sumHistogram(turnHistogram) / games;
+    }
+
+    /**
+     * @param fraction The percentile as a fraction between 0 and 1.
+     * @return The number of turns at the given percentile of game lengths.
+     */
+    public int getTurnsPercentile(double fraction) {
+        return percentile(turnHistogram, games, fraction);
+    }
+
+    // ============================ Helpers ============================
+    private static String getStrategyName(Player player) {
+        return player instanceof Computer
+                ? ((Computer) player).getStrategy().getName()
+                : "Human";
+    }
+
+    private static long sumHistogram(long[] histogram) {
+        long sum = 0;
+        for (int value = 0; value < histogram.length; value++) {
+            sum += value * histogram[value];
+        }
+        return sum;
+    }
+
+    private static int percentile(long[] histogram, long total, double fraction) {
+        long target = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int value = 0; value < histogram.length; value++) {
+            seen += histogram[value];
+            if (seen >= Math.max(target, 1)) {
+                return value;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    // ============================ Tally ============================
+    /**
+     * Win count and score distribution for one seat or one strategy.
+     */
+    public static class Tally {
+        private final long[] scoreHistogram = new long[MAX_SCORE + 1];
+        private long games;
+        private long wins;
+        private long scoreSum;
+        private long scoreSquareSum;
+
+        private void record(int score, boolean won) {
+            games++;
+            if (won) {
+                wins++;
+            }
+            scoreHistogram[Math.min(score, MAX_SCORE)]++;
+            scoreSum += score;
+            scoreSquareSum += (long) score * score;
+        }
+
+        private void merge(Tally other) {
+            games += other.games;
+            wins += other.wins;
+            scoreSum += other.scoreSum;
+            scoreSquareSum += other.scoreSquareSum;
+            for (int i = 0; i < scoreHistogram.length; i++) {
+                scoreHistogram[i] += other.scoreHistogram[i];
+            }
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getWins() {
+            return wins;
+        }
+
+        public double getWinRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+
+        public double getMeanScore() {
+            return games == 0 ? 0 : (double) scoreSum / games;
+        }
+
+        public double getScoreStandardDeviation() {
+            if (games == 0) {
+                return 0;
+            }
+            double mean = getMeanScore();
+            return Math.sqrt(Math.max((double) scoreSquareSum / games - mean * mean, 0));
+        }
+
+        /**
+         * @param fraction The percentile as a fraction between 0 and 1.
+         * @return The score at the given percentile.
+         */
+        public int getScorePercentile(double fraction) {
+            return percentile(scoreHistogram, games, fraction);
+        }
+
+        /**
+         * @return The number of games that ended with each score, indexed by score.
+         */
+        public long[] getScoreHistogram() {
+            return scoreHistogram.clone();
+        }
+    }
+}
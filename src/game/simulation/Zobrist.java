@@ -0,0 +1,105 @@
+package game.simulation;
+
+import game.core.Parade;
+import game.utils.Constants;
+import java.util.SplittableRandom;
+
+/**
+ * Random 64-bit keys for Zobrist hashing of a GameState. The hash of a state
+ * is the XOR of the keys of its features, so a change to one feature updates
+ * the hash with two XORs instead of rehashing the whole state.
+ *
+ * The keys are drawn from a fixed seed, so hashes are the same in every run
+ * and can be stored. The key for a count or size of zero is 0, so features
+ * a state does not have cost nothing to hash.
+ */
+public class Zobrist {
+
+    private static final long SEED = 0x5a0b417L;
+
+    /**
+     * Largest sum of the values of one color.
+     */
+    private static final int MAX_VALUE_SUM = (Constants.MINVALUEOFCARD + Constants.MAXVALUEOFCARD)
+            * Constants.CARDS_PER_COLOR / 2;
+
+    private static final long[][] PARADE = new long[Parade.MAX_LENGTH][Constants.TOTAL_CARDS];
+    private static final long[][] HAND = new long[Constants.MAX_PLAYERS][Constants.TOTAL_CARDS];
+    private static final long[][] HAND_SIZE = new long[Constants.MAX_PLAYERS][GameState.MAX_HAND_SIZE + 1];
+    private static final long[][][] OPEN_COUNT =
+            new long[Constants.MAX_PLAYERS][Constants.TOTAL_COLORS][Constants.CARDS_PER_COLOR + 1];
+    private static final long[][][] OPEN_VALUE_SUM =
+            new long[Constants.MAX_PLAYERS][Constants.TOTAL_COLORS][MAX_VALUE_SUM + 1];
+    private static final long[] DECK_SIZE = new long[Constants.TOTAL_CARDS + 1];
+    private static final long[] TO_MOVE = new long[Constants.MAX_PLAYERS];
+    private static final long[] LAST_ROUND = new long[Constants.MAX_PLAYERS + 2];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        fill(PARADE, random, 0);
+        fill(HAND, random, 0);
+        fill(TO_MOVE, random, 0);
+        fill(HAND_SIZE, random, 1);
+        for (long[][] keys : OPEN_COUNT) {
+            fill(keys, random, 1);
+        }
+        for (long[][] keys : OPEN_VALUE_SUM) {
+            fill(keys, random, 1);
+        }
+        fill(DECK_SIZE, random, 1);
+        fill(LAST_ROUND, random, 1);
+    }
+
+    private static void fill(long[][] rows, SplittableRandom random, int from) {
+        for (long[] row : rows) {
+            fill(row, random, from);
+        }
+    }
+
+    /**
+     * Fills a row with random keys from the given index on, leaving the keys
+     * before it at 0.
+     */
+    private static void fill(long[] row, SplittableRandom random, int from) {
+        for (int i = from; i < row.length; i++) {
+            row[i] = random.nextLong();
+        }
+    }
+
+    // ============================ Keys ============================
+    public static long parade(int position, int cardId) {
+        return PARADE[position][cardId];
+    }
+
+    public static long hand(int player, int cardId) {
+        return HAND[player][cardId];
+    }
+
+    public static long handSize(int player, int size) {
+        return HAND_SIZE[player][size];
+    }
+
+    public static long openCount(int player, int color, int count) {
+        return OPEN_COUNT[player][color][count];
+    }
+
+    public static long openValueSum(int player, int color, int valueSum) {
+        return OPEN_VALUE_SUM[player][color][valueSum];
+    }
+
+    public static long deckSize(int size) {
+        return DECK_SIZE[size];
+    }
+
+    public static long toMove(int player) {
+        return TO_MOVE[player];
+    }
+
+    /**
+     * Key of the last round state: 0 before the last round, otherwise a key
+     * for the number of last round turns left.
+     */
+    public static long lastRound(boolean lastRound, int turnsLeft) {
+        return lastRound ? LAST_ROUND[turnsLeft + 1] : 0;
+    }
+}
@@ -0,0 +1,234 @@
+package game.utils;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Lets many games print to their own players from the same JVM.
+ *
+ * The renderers print to System.out. install replaces System.out, once,
+ * with a router that forwards every call to the stream bound to the current
+ * thread with bind, or to the original standard output when none is bound.
+ * A game server binds each session's connection on the session's thread,
+ * so every game writes to its own players only. The router takes no lock of
+ * its own: a call only locks the stream it is forwarded to, so a slow
+ * connection holds up its own game and no other.
+ */
+public class ConsoleRouter extends PrintStream {
+
+    private static final ThreadLocal<PrintStream> BOUND = new ThreadLocal<>();
+    private static ConsoleRouter installed;
+
+    /**
+     * The standard output, used by threads with no stream bound.
+     */
+    private final PrintStream standardOut;
+
+    // ============================ Constructor ============================
+    private ConsoleRouter(PrintStream standardOut) {
+        super(standardOut, true);
+        this.standardOut = standardOut;
+    }
+
+    // ============================ Binding ============================
+    /**
+     * Replaces System.out with the router, unless it already is.
+     */
+    public static synchronized void install() {
+        if (installed == null) {
+            installed = new ConsoleRouter(System.out);
+            System.setOut(installed);
+        }
+    }
+
+    /**
+     * Sends what the current thread prints to the given stream.
+     *
+     * @param out The stream of the current thread's session.
+     */
+    public static void bind(PrintStream out) {
+        BOUND.set(out);
+    }
+
+    /**
+     * Sends what the current thread prints to the standard output again.
+     */
+    public static void unbind() {
+        BOUND.remove();
+    }
+
+    /**
+     * @return true if the current thread prints to a session's stream.
+     */
+    public static boolean isBound() {
+        return BOUND.get() != null;
+    }
+
+    private PrintStream target() {
+        PrintStream out = BOUND.get();
+        return out != null ? out : standardOut;
+    }
+
+    // ============================ Forwarding ============================
+    @Override
+    public void flush() {
+        target().flush();
+    }
+
+    @Override
+    public void close() {
+        target().close();
+    }
+
+    @Override
+    public boolean checkError() {
+        return target().checkError();
+    }
+
+    @Override
+    public void write(int b) {
+        target().write(b);
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) {
+        target().write(buf, off, len);
+    }
+
+    @Override
+    public void print(boolean b) {
+        target().print(b);
+    }
+
+    @Override
+    public void print(char c) {
+        target().print(c);
+    }
+
+    @Override
+    public void print(int i) {
+        target().print(i);
+    }
+
+    @Override
+    public void print(long l) {
+        target().print(l);
+    }
+
+    @Override
+    public void print(float f) {
+        target().print(f);
+    }
+
+    @Override
+    public void print(double d) {
+        target().print(d);
+    }
+
+    @Override
+    public void print(char[] s) {
+        target().print(s);
+    }
+
+    @Override
+    public void print(String s) {
+        target().print(s);
+    }
+
+    @Override
+    public void print(Object obj) {
+        target().print(obj);
+    }
+
+    @Override
+    public void println() {
+        target().println();
+    }
+
+    @Override
+    public void println(boolean x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(char x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(int x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(long x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(float x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(double x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(char[] x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(String x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(Object x) {
+        target().println(x);
+    }
+
+    @Override
+    public PrintStream printf(String format, Object... args) {
+        target().printf(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream printf(Locale l, String format, Object... args) {
+        target().printf(l, format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(String format, Object... args) {
+        target().format(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(Locale l, String format, Object... args) {
+        target().format(l, format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq) {
+        target().append(csq);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq, int start, int end) {
+        target().append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(char c) {
+        target().append(c);
+        return this;
+    }
+}
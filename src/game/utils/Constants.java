@@ -1,7 +1,5 @@
 package game.utils;
 
-import java.util.Random;
-
 /**
  * Constants class holds various constants used throughout the game.
  * It includes color codes for console output, game settings, and regex patterns.
@@ -22,14 +20,12 @@ public class Constants {
     public static final String YES_NO_REGEX = "^(yes|no|y|n)$";
     public static final String MENU_OPTION_REGEX = "^[1-3]$";
     public static final int NORMAL_DELAY_TIME = 500;
-    public static final Random RANDOM = new Random();
     public static final int TYPEWRITE_DURATION = 45;
-    public static int CARDS_PER_LINE = 7;
+    public static final int CARDS_PER_LINE = 7;
     public static final int INITIAL_CARDS_OF_PARADE = 6;
     public static final int INITIAL_HAND_SIZE = 5;
     public static final int CARDS_TO_DEAL = 5;
     public static final int TOTAL_COLORS = 6;
-    public static final String[] COLORS = {"Blue", "Green", "Grey", "Orange", "Purple", "Red"};
     public static final int FINAL_PLAY_MOVES = 2;
     public static final int MIN_PLAYERS = 2;
     public static final int MAX_PLAYERS = 6;
@@ -37,5 +33,7 @@ public class Constants {
     public static final int FLIPPED_CARD_VALUE = 1;
     public static final int MAXVALUEOFCARD = 10;
     public static final int MINVALUEOFCARD = 0;
+    public static final int CARDS_PER_COLOR = MAXVALUEOFCARD - MINVALUEOFCARD + 1;
+    public static final int TOTAL_CARDS = TOTAL_COLORS * CARDS_PER_COLOR;
     public static final int PODIUM_SIZE = 3;
 }
@@ -1,7 +1,10 @@
 package game.utils;
 
+import game.core.Color;
+import game.exceptions.InputTimeoutException;
+import game.input.PlayerInput;
 import java.io.IOException;
-import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A utility class providing various helper functions for console-based
@@ -13,12 +16,13 @@ public class Helper {
 
     /**
      * Clears the console screen based on the operating system. - For Windows:
-     * Uses the "cls" command. - For Unix-based systems (Linux, macOS): Uses
-     * ANSI escape codes.
+     * Uses the "cls" command. - For Unix-based systems (Linux, macOS) and for
+     * remote players, whose output is routed by ConsoleRouter: Uses ANSI
+     * escape codes.
      */
     public static void flush() {
         try {
-            if (System.getProperty("os.name").toLowerCase().contains("win")) {
+            if (!ConsoleRouter.isBound() && System.getProperty("os.name").toLowerCase().contains("win")) {
                 new ProcessBuilder("cmd", "/c", "cls").inheritIO().start().waitFor();
             } else {
                 System.out.print("\033[H\033[2J");
@@ -71,12 +75,16 @@ public class Helper {
     }
 
     /**
-     * Pauses the program execution for a given duration.
+     * Pauses the program execution for a given duration. Remote players get
+     * what was printed before the pause first, as their output is buffered.
      *
      * @param milliseconds The duration (in milliseconds) to pause the
      * execution.
      */
     public static void sleep(int milliseconds) {
+        if (ConsoleRouter.isBound()) {
+            System.out.flush();
+        }
         try {
             Thread.sleep(milliseconds);
         } catch (InterruptedException e) {
@@ -88,25 +96,23 @@ public class Helper {
     /**
      * Returns the color code for a given color.
      *
-     * @param color The color name.
+     * @param color The color.
      * @return The escape code for that color.
      */
-    public static String getColorCode(String color) {
-        return switch (color.toLowerCase()) {
-            case "blue" ->
+    public static String getColorCode(Color color) {
+        return switch (color) {
+            case BLUE ->
                 Constants.BLUE;      // Blue text color
-            case "green" ->
+            case GREEN ->
                 Constants.GREEN;     // Green text color
-            case "grey", "gray" ->
-                Constants.GREY; // Grey (also accepts 'gray')
-            case "orange" ->
+            case GREY ->
+                Constants.GREY;      // Grey text color
+            case ORANGE ->
                 Constants.ORANGE;  // Orange text (extended 256-color range)
-            case "purple" ->
+            case PURPLE ->
                 Constants.PURPLE;    // Purple text color
-            case "red" ->
+            case RED ->
                 Constants.RED;       // Red text color
-            default ->
-                Constants.RESET; // Default reset code
         };
     }
 
@@ -114,11 +120,38 @@ public class Helper {
      * Waits for the user to press Enter to continue the game. The user is
      * prompted to press Enter to continue.
      *
-     * @param scanner The scanner object for user input.
+     * @param input The input the user presses Enter on.
      */
-    public static void pressEnterToContinue(Scanner scanner) {
+    public static void pressEnterToContinue(PlayerInput input) {
+        pressEnterToContinue(input, 0);
+    }
+
+    /**
+     * Waits for the user to press Enter, at most for the given time, after
+     * which the game goes on as if they had.
+     *
+     * @param input         The input the user presses Enter on.
+     * @param timeoutMillis How long to wait, or 0 for no limit.
+     */
+    public static void pressEnterToContinue(PlayerInput input, long timeoutMillis) {
         System.out.print("\n👉 Press Enter to continue...");
-        scanner.nextLine(); // Waits for the user to press Enter
+        try {
+            readLine(input, timeoutMillis); // Waits for the user to press Enter
+        } catch (InputTimeoutException e) {
+            System.out.println();
+        }
+    }
+
+    /**
+     * Reads the next line, waiting at most for the given time.
+     *
+     * @param input         The input to read from.
+     * @param timeoutMillis How long to wait, or 0 for no limit.
+     * @return The line.
+     * @throws InputTimeoutException if no line arrived in time.
+     */
+    public static String readLine(PlayerInput input, long timeoutMillis) throws InputTimeoutException {
+        return timeoutMillis > 0 ? input.readLine(timeoutMillis, TimeUnit.MILLISECONDS) : input.readLine();
     }
 
     public static void printBox(String title) {